@@ -0,0 +1,27 @@
+-- =====================================================
+-- POOLED ID SEQUENCES MIGRATION
+-- =====================================================
+-- Entities allocate ids from their table sequence in blocks of 50
+-- (@SequenceGenerator allocationSize = 50, pooled optimizer), which lets
+-- Hibernate batch inserts instead of one round trip per IDENTITY row.
+-- Run once on databases created before the switch. Sequences keep their
+-- current value, so the next block starts right after the highest id.
+-- Hibernate refuses to start while a sequence increment differs from 50.
+
+BEGIN;
+
+ALTER SEQUENCE profiles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE technologies_id_seq INCREMENT BY 50;
+ALTER SEQUENCE addresses_id_seq INCREMENT BY 50;
+ALTER SEQUENCE educations_id_seq INCREMENT BY 50;
+ALTER SEQUENCE contacts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE achievements_id_seq INCREMENT BY 50;
+ALTER SEQUENCE inquires_id_seq INCREMENT BY 50;
+ALTER SEQUENCE experiences_id_seq INCREMENT BY 50;
+ALTER SEQUENCE experience_points_id_seq INCREMENT BY 50;
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+ALTER SEQUENCE project_points_id_seq INCREMENT BY 50;
+ALTER SEQUENCE faqs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE admins_id_seq INCREMENT BY 50;
+
+COMMIT;
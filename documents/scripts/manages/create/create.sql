@@ -33,6 +33,8 @@ CREATE TABLE IF NOT EXISTS public.profiles (
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+ALTER SEQUENCE profiles_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_profiles_fname ON profiles(fname);
 CREATE INDEX idx_profiles_lname ON profiles(lname);
 CREATE INDEX idx_profiles_created_at ON profiles(created_at);
@@ -58,6 +60,8 @@ CREATE TABLE IF NOT EXISTS public.technologies (
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+ALTER SEQUENCE technologies_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_technologies_name ON technologies(name);
 CREATE INDEX idx_technologies_category ON technologies(category);
 CREATE INDEX idx_technologies_created_at ON technologies(created_at);
@@ -89,6 +93,8 @@ CREATE TABLE IF NOT EXISTS public.addresses (
     CONSTRAINT fk_addresses_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE addresses_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_addresses_profile_id ON addresses(profile_id);
 CREATE INDEX idx_addresses_created_at ON addresses(created_at);
 CREATE INDEX idx_addresses_pincode ON addresses(pincode);
@@ -120,6 +126,8 @@ CREATE TABLE IF NOT EXISTS public.educations (
     CONSTRAINT fk_educations_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE educations_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_educations_profile_id ON educations(profile_id);
 CREATE INDEX idx_educations_start_date ON educations(start_date);
 CREATE INDEX idx_educations_created_at ON educations(created_at);
@@ -145,6 +153,8 @@ CREATE TABLE IF NOT EXISTS public.contacts (
     CONSTRAINT fk_contacts_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE contacts_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_contacts_profile_id ON contacts(profile_id);
 CREATE INDEX idx_contacts_created_at ON contacts(created_at);
 
@@ -172,6 +182,8 @@ CREATE TABLE IF NOT EXISTS public.achievements (
     CONSTRAINT fk_achievements_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE achievements_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_achievements_profile_id ON achievements(profile_id);
 CREATE INDEX idx_achievements_date_achieved ON achievements(date_achieved);
 CREATE INDEX idx_achievements_created_at ON achievements(created_at);
@@ -196,8 +208,10 @@ CREATE TABLE IF NOT EXISTS public.inquires (
     CONSTRAINT fk_inquires_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE inquires_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_inquires_profile_id ON inquires(profile_id);
-CREATE INDEX idx_inquires_created_at ON inquires(created_at);
+CREATE INDEX idx_inquires_created_at_id ON inquires(created_at, id);
 CREATE INDEX idx_inquires_email ON inquires(email);
 
 CREATE TRIGGER update_inquires_updated_at
@@ -225,9 +239,11 @@ CREATE TABLE IF NOT EXISTS public.experiences (
     CONSTRAINT fk_experiences_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE experiences_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_experiences_profile_id ON experiences(profile_id);
 CREATE INDEX idx_experiences_start_date ON experiences(start_date);
-CREATE INDEX idx_experiences_created_at ON experiences(created_at);
+CREATE INDEX idx_experiences_created_at_id ON experiences(created_at, id);
 
 CREATE TRIGGER update_experiences_updated_at
     BEFORE UPDATE ON experiences
@@ -247,6 +263,8 @@ CREATE TABLE IF NOT EXISTS public.experience_points (
     CONSTRAINT fk_experience_points_experience FOREIGN KEY (experience_id) REFERENCES experiences(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE experience_points_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_experience_points_experience_id ON experience_points(experience_id);
 CREATE INDEX idx_experience_points_created_at ON experience_points(created_at);
 
@@ -273,9 +291,11 @@ CREATE TABLE IF NOT EXISTS public.projects (
     CONSTRAINT fk_projects_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_projects_profile_id ON projects(profile_id);
 CREATE INDEX idx_projects_start_date ON projects(start_date);
-CREATE INDEX idx_projects_created_at ON projects(created_at);
+CREATE INDEX idx_projects_created_at_id ON projects(created_at, id);
 
 CREATE TRIGGER update_projects_updated_at
     BEFORE UPDATE ON projects
@@ -295,6 +315,8 @@ CREATE TABLE IF NOT EXISTS public.project_points (
     CONSTRAINT fk_project_points_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE project_points_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_project_points_project_id ON project_points(project_id);
 CREATE INDEX idx_project_points_created_at ON project_points(created_at);
 
@@ -317,6 +339,8 @@ CREATE TABLE IF NOT EXISTS public.faqs (
     CONSTRAINT fk_faqs_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE faqs_id_seq INCREMENT BY 50;
+
 CREATE INDEX idx_faqs_profile_id ON faqs(profile_id);
 CREATE INDEX idx_faqs_created_at ON faqs(created_at);
 
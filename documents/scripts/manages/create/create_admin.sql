@@ -15,6 +15,8 @@ CREATE TABLE IF NOT EXISTS public.admins (
     last_login TIMESTAMP
     );
 
+ALTER SEQUENCE admins_id_seq INCREMENT BY 50;
+
 
 CREATE INDEX IF NOT EXISTS idx_admins_username ON admins(username);
 CREATE INDEX IF NOT EXISTS idx_admins_email ON admins(email);
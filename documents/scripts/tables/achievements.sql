@@ -21,6 +21,8 @@ CREATE TABLE IF NOT EXISTS public.achievements (
     CONSTRAINT fk_achievements_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE achievements_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 2. INSERT VALUES (Sample Data)
 -- =====================================================
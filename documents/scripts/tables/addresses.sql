@@ -24,6 +24,8 @@ CREATE TABLE IF NOT EXISTS public.addresses (
     CONSTRAINT fk_addresses_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE addresses_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 2. INSERT VALUES (Sample Data)
 -- =====================================================
@@ -19,6 +19,8 @@ CREATE TABLE IF NOT EXISTS public.admins (
     last_login TIMESTAMP
 );
 
+ALTER SEQUENCE admins_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 2. INSERT DEFAULT ADMIN USER
 -- =====================================================
@@ -18,6 +18,8 @@ CREATE TABLE IF NOT EXISTS public.contacts (
     CONSTRAINT fk_contacts_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE contacts_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 2. INSERT VALUES (Sample Data)
 -- =====================================================
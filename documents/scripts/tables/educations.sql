@@ -24,6 +24,8 @@ CREATE TABLE IF NOT EXISTS public.educations (
     CONSTRAINT fk_educations_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE educations_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 2. INSERT VALUES (Sample Data)
 -- =====================================================
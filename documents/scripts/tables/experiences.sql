@@ -22,6 +22,8 @@ CREATE TABLE IF NOT EXISTS public.experiences (
     CONSTRAINT fk_experiences_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE experiences_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 2. CREATE EXPERIENCE_POINTS TABLE
 -- =====================================================
@@ -35,6 +37,8 @@ CREATE TABLE IF NOT EXISTS public.experience_points (
     CONSTRAINT fk_experience_points_experience FOREIGN KEY (experience_id) REFERENCES experiences(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE experience_points_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 3. CREATE JUNCTION TABLE (experiences_technologies)
 -- =====================================================
@@ -130,7 +134,7 @@ WHERE id = 1;
 
 CREATE INDEX idx_experiences_profile_id ON experiences(profile_id);
 CREATE INDEX idx_experiences_start_date ON experiences(start_date);
-CREATE INDEX idx_experiences_created_at ON experiences(created_at);
+CREATE INDEX idx_experiences_created_at_id ON experiences(created_at, id);
 
 CREATE INDEX idx_experience_points_experience_id ON experience_points(experience_id);
 CREATE INDEX idx_experience_points_created_at ON experience_points(created_at);
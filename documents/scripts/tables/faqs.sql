@@ -16,6 +16,8 @@ CREATE TABLE IF NOT EXISTS public.faqs (
     CONSTRAINT fk_faqs_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE faqs_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 2. INSERT VALUES (Sample Data)
 -- =====================================================
@@ -17,6 +17,8 @@ CREATE TABLE IF NOT EXISTS public.inquires (
     CONSTRAINT fk_inquires_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE inquires_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 2. INSERT VALUES (Sample Data)
 -- =====================================================
@@ -68,7 +70,7 @@ WHERE id = 1;
 -- =====================================================
 
 CREATE INDEX idx_inquires_profile_id ON inquires(profile_id);
-CREATE INDEX idx_inquires_created_at ON inquires(created_at);
+CREATE INDEX idx_inquires_created_at_id ON inquires(created_at, id);
 CREATE INDEX idx_inquires_email ON inquires(email);
 
 -- =====================================================
@@ -20,6 +20,8 @@ CREATE TABLE IF NOT EXISTS public.profiles (
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+ALTER SEQUENCE profiles_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 2. INSERT VALUES (Sample Data)
 -- =====================================================
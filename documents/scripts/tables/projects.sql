@@ -20,6 +20,8 @@ CREATE TABLE IF NOT EXISTS public.projects (
     CONSTRAINT fk_projects_profile FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 2. CREATE PROJECT_POINTS TABLE
 -- =====================================================
@@ -33,6 +35,8 @@ CREATE TABLE IF NOT EXISTS public.project_points (
     CONSTRAINT fk_project_points_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
 );
 
+ALTER SEQUENCE project_points_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 3. CREATE JUNCTION TABLE (projects_technologies)
 -- =====================================================
@@ -127,7 +131,7 @@ WHERE id = 1;
 
 CREATE INDEX idx_projects_profile_id ON projects(profile_id);
 CREATE INDEX idx_projects_start_date ON projects(start_date);
-CREATE INDEX idx_projects_created_at ON projects(created_at);
+CREATE INDEX idx_projects_created_at_id ON projects(created_at, id);
 
 CREATE INDEX idx_project_points_project_id ON project_points(project_id);
 CREATE INDEX idx_project_points_created_at ON project_points(created_at);
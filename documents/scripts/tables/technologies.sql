@@ -19,6 +19,8 @@ CREATE TABLE IF NOT EXISTS public.technologies (
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+ALTER SEQUENCE technologies_id_seq INCREMENT BY 50;
+
 -- =====================================================
 -- 2. INSERT VALUES (Sample Data)
 -- =====================================================
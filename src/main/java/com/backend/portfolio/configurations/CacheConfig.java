@@ -0,0 +1,79 @@
+package com.backend.portfolio.configurations;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * In-memory (Caffeine) caching for public reads.
+ * Every cache is bounded by size and TTL under spring.cache in application.yml,
+ * and is evicted by PortfolioCacheInvalidator when an admin write commits.
+ * The etags and responseBytes caches hold the validator and serialized body of each resource
+ * under "{cacheName}:{profileId}".
+ * The cache advice runs outside StaleWhileRevalidateAspect and the transaction advice, so a hit returns
+ * without touching the database pool, circuit breaker or transaction.
+ */
+@Configuration
+@EnableCaching(order = CacheConfig.ADVICE_ORDER)
+public class CacheConfig {
+
+    /** Order of the cache advice, StaleWhileRevalidateAspect follows, transactions (lowest precedence) come last */
+    public static final int ADVICE_ORDER = Ordered.LOWEST_PRECEDENCE - 2;
+
+    public static final String PORTFOLIO_CACHE = "portfolio";
+    public static final String PROFILE_CACHE = "profileById";
+    public static final String ADDRESSES_CACHE = "addressesByProfileId";
+    public static final String CONTACTS_CACHE = "contactsByProfileId";
+    public static final String EDUCATIONS_CACHE = "educationsByProfileId";
+    public static final String EXPERIENCES_CACHE = "experiencesByProfileId";
+    public static final String PROJECTS_CACHE = "projectsByProfileId";
+    public static final String ACHIEVEMENTS_CACHE = "achievementsByProfileId";
+    public static final String TECHNOLOGIES_CACHE = "technologiesByProfileId";
+    public static final String FAQS_CACHE = "faqsByProfileId";
+    public static final String ETAGS_CACHE = "etags";
+    public static final String RESPONSE_BYTES_CACHE = "responseBytes";
+    public static final String MISSING_PROFILE_IDS_CACHE = "missingProfileIds";
+
+    /**
+     * Caches keyed by "{cacheName}:{profileId}" rather than by profile id
+     */
+    public static final List<String> RESOURCE_KEYED_CACHES = List.of(ETAGS_CACHE, RESPONSE_BYTES_CACHE);
+
+    /**
+     * Caches of the sections that make up the aggregated portfolio
+     */
+    public static final List<String> PORTFOLIO_SECTION_CACHES = List.of(
+            PROFILE_CACHE,
+            ADDRESSES_CACHE,
+            CONTACTS_CACHE,
+            EDUCATIONS_CACHE,
+            EXPERIENCES_CACHE,
+            PROJECTS_CACHE,
+            ACHIEVEMENTS_CACHE,
+            TECHNOLOGIES_CACHE,
+            FAQS_CACHE);
+
+    /**
+     * Negative cache of missing profile ids, with its own short TTL so a created profile
+     * is never hidden for long even if an eviction is missed
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> missingProfileIdsCacheCustomizer(
+            @Value("${app.negative-cache.ttl:5m}") Duration ttl,
+            @Value("${app.negative-cache.max-entries:10000}") long maxEntries) {
+        return cacheManager -> cacheManager.registerCustomCache(MISSING_PROFILE_IDS_CACHE, Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+    }
+}
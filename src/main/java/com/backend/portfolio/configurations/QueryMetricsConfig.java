@@ -0,0 +1,92 @@
+package com.backend.portfolio.configurations;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-request database metrics (app.query-metrics): Hibernate counts statements, rows and entity loads
+ * and times statement execution and connection acquisition, the transaction manager times transactions,
+ * and QueryMetricsFilter publishes the totals of each request. Session factory totals stay available
+ * as the hibernate.* meters.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.query-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryMetricsCustomizer() {
+        StatementInspector statementInspector = sql -> {
+            RequestQueryMetrics metrics = RequestQueryMetrics.current();
+            if (metrics != null) {
+                metrics.statementPrepared();
+            }
+            return sql;
+        };
+        StatisticsFactory statisticsFactory = QueryMetricsStatistics::new;
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryMetricsSessionListener.class.getName());
+            properties.put(AvailableSettings.STATS_BUILDER, statisticsFactory);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    /**
+     * Applied to the JPA transaction manager by Spring Boot
+     */
+    @Bean
+    public TransactionExecutionListener queryMetricsTransactionListener() {
+        return new TransactionExecutionListener() {
+
+            @Override
+            public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+                RequestQueryMetrics metrics = RequestQueryMetrics.current();
+                if (metrics != null && beginFailure == null && transaction.isNewTransaction()) {
+                    metrics.transactionStarted();
+                }
+            }
+
+            @Override
+            public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+                completed(transaction);
+            }
+
+            @Override
+            public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+                completed(transaction);
+            }
+
+            private void completed(TransactionExecution transaction) {
+                RequestQueryMetrics metrics = RequestQueryMetrics.current();
+                if (metrics != null && transaction.isNewTransaction()) {
+                    metrics.transactionCompleted();
+                }
+            }
+        };
+    }
+
+    /**
+     * Ahead of the security filters, so authentication lookups are counted too
+     */
+    @Bean
+    public FilterRegistrationBean<QueryMetricsFilter> queryMetricsFilter(MeterRegistry meterRegistry,
+            @Value("${app.query-metrics.response-header:false}") boolean responseHeader) {
+        FilterRegistrationBean<QueryMetricsFilter> registration =
+                new FilterRegistrationBean<>(new QueryMetricsFilter(meterRegistry, responseHeader));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
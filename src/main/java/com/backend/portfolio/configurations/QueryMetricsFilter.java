@@ -0,0 +1,124 @@
+package com.backend.portfolio.configurations;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Publishes the database work of each API request as portfolio.request.* meters, tagged by endpoint pattern and method.
+ * With app.query-metrics.response-header the statement count and database time are also returned as
+ * X-Query-Count and Server-Timing headers, written just before the response commits.
+ */
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeader;
+
+    public QueryMetricsFilter(MeterRegistry meterRegistry, boolean responseHeader) {
+        this.meterRegistry = meterRegistry;
+        this.responseHeader = responseHeader;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryMetrics metrics = RequestQueryMetrics.begin();
+        HeaderWritingResponse headerWritingResponse = responseHeader ? new HeaderWritingResponse(response, metrics) : null;
+        try {
+            filterChain.doFilter(request, headerWritingResponse != null ? headerWritingResponse : response);
+        } finally {
+            RequestQueryMetrics.end();
+            if (headerWritingResponse != null) {
+                headerWritingResponse.writeHeaders();
+            }
+            record(request, metrics);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryMetrics metrics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("uri", pattern != null ? pattern.toString() : "UNKNOWN", "method", request.getMethod());
+
+        DistributionSummary.builder("portfolio.request.statements")
+                .description("SQL statements prepared per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(metrics.getStatements());
+        DistributionSummary.builder("portfolio.request.rows")
+                .description("Rows returned by queries per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(metrics.getRows());
+        DistributionSummary.builder("portfolio.request.entity.loads")
+                .description("Entities loaded per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(metrics.getEntityLoads());
+        Timer.builder("portfolio.request.db.time")
+                .description("Time spent executing SQL statements per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(metrics.getExecutionNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("portfolio.request.connection.acquisition")
+                .description("Time spent waiting for JDBC connections per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(metrics.getConnectionAcquisitionNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("portfolio.request.transaction.time")
+                .description("Time spent inside transactions per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(metrics.getTransactionNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Adds the headers once, when the body starts being sent, or after the chain for responses not committed yet
+     */
+    private static final class HeaderWritingResponse extends OnCommittedResponseWrapper {
+
+        private final RequestQueryMetrics metrics;
+        private boolean written;
+
+        HeaderWritingResponse(HttpServletResponse response, RequestQueryMetrics metrics) {
+            super(response);
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders();
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            response.setHeader(QUERY_COUNT_HEADER, Integer.toString(metrics.getStatements()));
+            response.setHeader(SERVER_TIMING_HEADER,
+                    String.format(Locale.ROOT, "db;dur=%.3f", metrics.getExecutionNanos() / 1_000_000.0));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.backend.portfolio.configurations;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Times JDBC connection acquisition and statement execution for the request metrics.
+ * Hibernate creates one per session (hibernate.session.events.auto), so it must stay public with a no-arg constructor.
+ */
+public class QueryMetricsSessionListener implements SessionEventListener {
+
+    private long acquisitionStart;
+    private long executionStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestQueryMetrics metrics = RequestQueryMetrics.current();
+        if (metrics != null) {
+            metrics.connectionAcquired(System.nanoTime() - acquisitionStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executed();
+    }
+
+    private void executed() {
+        RequestQueryMetrics metrics = RequestQueryMetrics.current();
+        if (metrics != null) {
+            metrics.statementExecuted(System.nanoTime() - executionStart);
+        }
+    }
+}
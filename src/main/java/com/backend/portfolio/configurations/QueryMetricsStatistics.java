@@ -0,0 +1,33 @@
+package com.backend.portfolio.configurations;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate statistics that also count the rows and entity loads of the current request.
+ * The session factory totals (and hibernate.* meters) are unchanged.
+ */
+class QueryMetricsStatistics extends StatisticsImpl {
+
+    QueryMetricsStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        RequestQueryMetrics metrics = RequestQueryMetrics.current();
+        if (metrics != null) {
+            metrics.rowsReturned(rows);
+        }
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        RequestQueryMetrics metrics = RequestQueryMetrics.current();
+        if (metrics != null) {
+            metrics.entityLoaded();
+        }
+    }
+}
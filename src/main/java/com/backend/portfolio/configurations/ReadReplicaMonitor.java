@@ -0,0 +1,143 @@
+package com.backend.portfolio.configurations;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.portfolio.events.PortfolioCacheInvalidator;
+import com.backend.portfolio.events.PortfolioChangedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides whether readOnly transactions may use the read replica.
+ * The replica is polled for its replay lag and is usable while it answers and lags at most max-lag.
+ * After every portfolio change reads stay on the primary for max-lag, so caches evicted by the change
+ * are not filled again from a replica that has not replayed it yet.
+ * Health and lag are exposed as portfolio.replica.healthy and portfolio.replica.lag.
+ */
+@Slf4j
+public class ReadReplicaMonitor implements SmartLifecycle {
+
+    public static final String HEALTHY_GAUGE = "portfolio.replica.healthy";
+    public static final String LAG_GAUGE = "portfolio.replica.lag";
+
+    // A replica that has replayed everything it received reports no lag, even when the primary is idle
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    private final DataSource replicaDataSource;
+    private final long maxLagMillis;
+    private final Duration checkInterval;
+
+    private volatile boolean healthy;
+    private volatile long lagMillis;
+    private volatile long primaryPinnedUntil;
+    private ScheduledExecutorService scheduler;
+
+    public ReadReplicaMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval,
+            MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagMillis = maxLag.toMillis();
+        this.checkInterval = checkInterval;
+        Gauge.builder(HEALTHY_GAUGE, this, monitor -> monitor.healthy ? 1 : 0)
+                .description("Whether the read replica answered its last check")
+                .register(meterRegistry);
+        Gauge.builder(LAG_GAUGE, this, monitor -> monitor.lagMillis / 1000.0)
+                .description("Replay lag of the read replica")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether a readOnly transaction starting now may read from the replica
+     */
+    public boolean isUsable() {
+        return healthy && lagMillis <= maxLagMillis && System.currentTimeMillis() >= primaryPinnedUntil;
+    }
+
+    /**
+     * Keep reads on the primary until the replica has had time to replay a change.
+     * Runs before the caches are evicted, so no reload can see the replica in between.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PortfolioCacheInvalidator.ORDER - 1)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        primaryPinnedUntil = System.currentTimeMillis() + maxLagMillis;
+    }
+
+    /**
+     * Take the replica out of rotation until the next successful check
+     */
+    public void markUnhealthy(SQLException cause) {
+        if (healthy) {
+            log.warn("Read replica marked unhealthy, reading from the primary: {}", cause.getMessage());
+        }
+        healthy = false;
+    }
+
+    /**
+     * Poll the replica once for health and replay lag
+     */
+    public void check() {
+        try (Connection connection = replicaDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, checkInterval.toSeconds()));
+            try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                lagMillis = Math.round(resultSet.getDouble(1) * 1000);
+            }
+            if (!healthy) {
+                log.info("Read replica healthy, lag: {} ms", lagMillis);
+            }
+            healthy = true;
+            if (lagMillis > maxLagMillis) {
+                log.warn("Read replica lags {} ms (max {} ms), reading from the primary", lagMillis, maxLagMillis);
+            }
+        } catch (SQLException | RuntimeException e) {
+            if (healthy) {
+                log.warn("Read replica check failed, reading from the primary", e);
+            }
+            healthy = false;
+        }
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "read-replica-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
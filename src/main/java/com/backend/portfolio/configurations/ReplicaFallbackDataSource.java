@@ -0,0 +1,51 @@
+package com.backend.portfolio.configurations;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Read-only side of the application DataSource: the replica while ReadReplicaMonitor allows it,
+ * the primary otherwise (and whenever the replica refuses a connection)
+ */
+public class ReplicaFallbackDataSource extends DelegatingDataSource {
+
+    private final DataSource primaryDataSource;
+    private final ReadReplicaMonitor readReplicaMonitor;
+
+    public ReplicaFallbackDataSource(DataSource replicaDataSource, DataSource primaryDataSource,
+            ReadReplicaMonitor readReplicaMonitor) {
+        super(replicaDataSource);
+        this.primaryDataSource = primaryDataSource;
+        this.readReplicaMonitor = readReplicaMonitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!readReplicaMonitor.isUsable()) {
+            return primaryDataSource.getConnection();
+        }
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            readReplicaMonitor.markUnhealthy(e);
+            return primaryDataSource.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!readReplicaMonitor.isUsable()) {
+            return primaryDataSource.getConnection(username, password);
+        }
+        try {
+            return super.getConnection(username, password);
+        } catch (SQLException e) {
+            readReplicaMonitor.markUnhealthy(e);
+            return primaryDataSource.getConnection(username, password);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.backend.portfolio.configurations;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Database work done on the thread of the current request, collected by the hooks QueryMetricsConfig installs
+ * (statement inspector, session event listener, statistics, transaction listener) and published by QueryMetricsFilter.
+ * Loads StaleWhileRevalidateAspect runs on its pool are collected on their own and added here when they finish,
+ * so counters are atomic. A load finishing after the request ended (a background refresh after a timeout)
+ * and other work handed to other threads (streamed exports) is not counted.
+ */
+final class RequestQueryMetrics {
+
+    private static final ThreadLocal<RequestQueryMetrics> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicInteger entityLoads = new AtomicInteger();
+    private final AtomicLong executionNanos = new AtomicLong();
+    private final AtomicLong connectionAcquisitionNanos = new AtomicLong();
+    private final AtomicLong transactionNanos = new AtomicLong();
+    // Transactions nest (REQUIRES_NEW), the outermost start is at the bottom, only touched by the owning thread
+    private final Deque<Long> transactionStarts = new ArrayDeque<>();
+    private volatile boolean ended;
+
+    static RequestQueryMetrics begin() {
+        RequestQueryMetrics metrics = new RequestQueryMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    static void end() {
+        RequestQueryMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.ended = true;
+        }
+        CURRENT.remove();
+    }
+
+    /**
+     * Metrics of the request on this thread, or null outside a request
+     */
+    static RequestQueryMetrics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Add the work of a load run for this request on another thread, unless the request already ended
+     */
+    void add(RequestQueryMetrics other) {
+        if (ended) {
+            return;
+        }
+        statements.addAndGet(other.getStatements());
+        rows.addAndGet(other.getRows());
+        entityLoads.addAndGet(other.getEntityLoads());
+        executionNanos.addAndGet(other.getExecutionNanos());
+        connectionAcquisitionNanos.addAndGet(other.getConnectionAcquisitionNanos());
+        transactionNanos.addAndGet(other.getTransactionNanos());
+    }
+
+    void statementPrepared() {
+        statements.incrementAndGet();
+    }
+
+    void rowsReturned(long count) {
+        rows.addAndGet(count);
+    }
+
+    void entityLoaded() {
+        entityLoads.incrementAndGet();
+    }
+
+    void statementExecuted(long nanos) {
+        executionNanos.addAndGet(nanos);
+    }
+
+    void connectionAcquired(long nanos) {
+        connectionAcquisitionNanos.addAndGet(nanos);
+    }
+
+    void transactionStarted() {
+        transactionStarts.push(System.nanoTime());
+    }
+
+    void transactionCompleted() {
+        Long start = transactionStarts.poll();
+        // Only the outermost transaction counts, nested ones run inside its time
+        if (start != null && transactionStarts.isEmpty()) {
+            transactionNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    int getStatements() {
+        return statements.get();
+    }
+
+    long getRows() {
+        return rows.get();
+    }
+
+    int getEntityLoads() {
+        return entityLoads.get();
+    }
+
+    long getExecutionNanos() {
+        return executionNanos.get();
+    }
+
+    long getConnectionAcquisitionNanos() {
+        return connectionAcquisitionNanos.get();
+    }
+
+    long getTransactionNanos() {
+        return transactionNanos.get();
+    }
+}
@@ -0,0 +1,90 @@
+package com.backend.portfolio.configurations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.backend.portfolio.events.SecondLevelCacheInvalidator;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate second-level cache (JCache backed by Caffeine) for the shared Technology reference data.
+ * Regions are created here, bounded by app.second-level-cache in application.yml, and unknown regions fail startup.
+ * Hit/miss statistics are published per region as hibernate.second.level.cache.* and hibernate.query.cache.*
+ * under /actuator/metrics.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    public static final String TECHNOLOGY_REGION = "technology";
+    public static final String TECHNOLOGY_COLLECTIONS_REGION = "technologyCollections";
+    public static final String TECHNOLOGIES_BY_PROFILE_ID_QUERY_REGION = "technologiesByProfileIdQuery";
+
+    private static final List<String> BOUNDED_REGIONS = List.of(
+            TECHNOLOGY_REGION,
+            TECHNOLOGY_COLLECTIONS_REGION,
+            TECHNOLOGIES_BY_PROFILE_ID_QUERY_REGION,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            @Value("${app.second-level-cache.max-entries:10000}") long maxEntries,
+            @Value("${app.second-level-cache.ttl:1h}") Duration ttl) {
+        CacheManager cacheManager = createCacheManager(maxEntries, ttl);
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    @Bean
+    public SecondLevelCacheInvalidator secondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheInvalidator(entityManagerFactory);
+    }
+
+    /**
+     * A provider per context, so test contexts never share regions. Hibernate closes the manager on shutdown.
+     */
+    private CacheManager createCacheManager(long maxEntries, Duration ttl) {
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        for (String region : BOUNDED_REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = regionConfiguration();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+        // Table update timestamps must outlive every cached query result, so this region is never bounded
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, regionConfiguration());
+        return cacheManager;
+    }
+
+    private CaffeineConfiguration<Object, Object> regionConfiguration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate already stores disassembled, immutable state, so skip the per-access serialization copy
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
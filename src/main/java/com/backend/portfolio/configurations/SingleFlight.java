@@ -0,0 +1,70 @@
+package com.backend.portfolio.configurations;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Request coalescing: concurrent loads of the same key share the one already in flight,
+ * so a burst of identical reads costs a single database round trip.
+ * Coalesced callers are counted in portfolio.reads.coalesced (tagged by method),
+ * and loads in flight are exposed as portfolio.reads.in-flight.
+ */
+@Component
+@Slf4j
+public class SingleFlight {
+
+    public static final String COALESCED_COUNTER = "portfolio.reads.coalesced";
+    public static final String IN_FLIGHT_GAUGE = "portfolio.reads.in-flight";
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(IN_FLIGHT_GAUGE, inFlight, Map::size)
+                .description("Distinct public reads currently loading")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the load in flight for the key, or start one with the loader.
+     * The key is released as soon as the load completes, so later callers load fresh data.
+     */
+    public CompletableFuture<Object> load(String key, String method, Supplier<CompletableFuture<Object>> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            log.debug("Coalescing read of {}", key);
+            Counter.builder(COALESCED_COUNTER)
+                    .description("Public reads answered by a load already in flight")
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .increment();
+            return existing;
+        }
+
+        try {
+            loader.get().whenComplete((result, error) -> {
+                inFlight.remove(key, created);
+                if (error != null) {
+                    created.completeExceptionally(error);
+                } else {
+                    created.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+}
@@ -0,0 +1,17 @@
+package com.backend.portfolio.configurations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a public read whose last good result may be served when the database is slow or down.
+ * See StaleWhileRevalidateAspect.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StaleWhileRevalidate {
+}
@@ -0,0 +1,213 @@
+package com.backend.portfolio.configurations;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stale-while-revalidate for methods annotated with @StaleWhileRevalidate.
+ * Cache hits are answered by the cache advice outside this aspect, only a miss runs on a small bounded
+ * pool under the "database" resilience4j time limiter and circuit breaker. When it times out, fails or
+ * the circuit is open, the last good result is returned immediately with the X-Cache-Stale header,
+ * while a timed out call keeps running in the background and refreshes the last good result when it completes.
+ * Concurrent identical calls are coalesced by SingleFlight into one load, each caller applying
+ * its own timeout to it (so the time limiter must not cancel the running future).
+ * Business errors (ResourceNotFoundException, IllegalArgumentException) are never hidden.
+ * Runs inside the cache advice and outside the transaction advice, calls made inside a transaction
+ * are not wrapped. A stale result must not be cached again, so @Cacheable reads add unless = UNLESS_STALE,
+ * and results built on top of them (serialized bodies, static export files) check servedStale() too.
+ * Last good results are held softly: they are the objects the caches already hold.
+ */
+@Aspect
+@Component
+@Order(CacheConfig.ADVICE_ORDER + 1)
+@Slf4j
+public class StaleWhileRevalidateAspect implements DisposableBean {
+
+    public static final String STALE_HEADER = "X-Cache-Stale";
+    public static final String RESILIENCE_INSTANCE = "database";
+    public static final String UNLESS_STALE =
+            "T(com.backend.portfolio.configurations.StaleWhileRevalidateAspect).servedStale()";
+
+    private static final ThreadLocal<Boolean> SERVED_STALE = new ThreadLocal<>();
+
+    private final SingleFlight singleFlight;
+    private final CircuitBreaker circuitBreaker;
+    private final TimeLimiter timeLimiter;
+    private final boolean enabled;
+    private final Cache<String, Object> lastGoodResults;
+    private final ThreadPoolExecutor executor;
+
+    public StaleWhileRevalidateAspect(
+            SingleFlight singleFlight,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            TimeLimiterRegistry timeLimiterRegistry,
+            @Value("${app.stale-while-revalidate.enabled:true}") boolean enabled,
+            @Value("${app.stale-while-revalidate.max-entries:2000}") long maxEntries,
+            @Value("${app.stale-while-revalidate.threads:4}") int threads,
+            @Value("${app.stale-while-revalidate.queue-capacity:100}") int queueCapacity) {
+        this.singleFlight = singleFlight;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(RESILIENCE_INSTANCE);
+        this.enabled = enabled;
+        this.lastGoodResults = Caffeine.newBuilder().maximumSize(maxEntries).softValues().build();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "stale-while-revalidate-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Around("@annotation(com.backend.portfolio.configurations.StaleWhileRevalidate)")
+    public Object staleWhileRevalidate(ProceedingJoinPoint joinPoint) throws Throwable {
+        SERVED_STALE.remove();
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String key = keyOf(joinPoint);
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        if (!enabled) {
+            // Still coalesced, the first caller loads on its own thread
+            return await(singleFlight.load(key, method, () -> proceed(joinPoint)));
+        }
+
+        try {
+            return circuitBreaker.executeCallable(() -> timeLimiter.executeFutureSupplier(
+                    () -> singleFlight.load(key, method, () -> load(key, joinPoint))));
+        } catch (ResourceNotFoundException | IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof ResourceNotFoundException || cause instanceof IllegalArgumentException) {
+                throw cause;
+            }
+
+            Object lastGood = lastGoodResults.getIfPresent(key);
+            if (lastGood == null) {
+                throw cause;
+            }
+
+            log.warn("Serving stale result of {} after {}", key, cause.toString());
+            markStale();
+            SERVED_STALE.set(Boolean.TRUE);
+            return lastGood;
+        }
+    }
+
+    /**
+     * Whether a call on this thread served a stale result since the last reset. Every call resets it,
+     * so @Cacheable unless sees its own call, callers building on several reads reset it first.
+     */
+    public static boolean servedStale() {
+        return Boolean.TRUE.equals(SERVED_STALE.get());
+    }
+
+    /**
+     * Forget a stale result served earlier on this thread, before reads whose results are kept
+     * (serialized bodies, static export files)
+     */
+    public static void resetServedStale() {
+        SERVED_STALE.remove();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<Object> load(String key, ProceedingJoinPoint joinPoint) {
+        RequestQueryMetrics requestMetrics = RequestQueryMetrics.current();
+        return CompletableFuture.supplyAsync(() -> {
+            // The load's database work is collected on the pool thread and added to the request that started it
+            RequestQueryMetrics loadMetrics = requestMetrics != null ? RequestQueryMetrics.begin() : null;
+            try {
+                Object result = joinPoint.proceed();
+                // Also reached by calls that already timed out, which is the background refresh
+                if (result != null) {
+                    lastGoodResults.put(key, result);
+                }
+                return result;
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new CompletionException(e);
+            } finally {
+                if (loadMetrics != null) {
+                    RequestQueryMetrics.end();
+                    requestMetrics.add(loadMetrics);
+                }
+            }
+        }, executor);
+    }
+
+    private CompletableFuture<Object> proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return CompletableFuture.completedFuture(joinPoint.proceed());
+        } catch (Throwable e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private String keyOf(ProceedingJoinPoint joinPoint) {
+        return joinPoint.getSignature().getDeclaringTypeName() + "." + joinPoint.getSignature().getName()
+                + Arrays.toString(joinPoint.getArgs());
+    }
+
+    private Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private void markStale() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletResponse response = attributes.getResponse();
+            if (response != null) {
+                response.setHeader(STALE_HEADER, "true");
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.backend.portfolio.configurations;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.backend.portfolio.exceptions.custom.ErrorResponse;
+import com.backend.portfolio.services.SerializedResponseService;
+import com.backend.portfolio.services.StaticExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves public GET requests from the static export when a file exists for the URL,
+ * without reaching the controllers or JPA. Uses Tomcat sendfile when the connector supports it,
+ * otherwise FileChannel.transferTo to the response stream. The exported body files are immutable
+ * (see StaticExportService), so the length sent is the length Tomcat reads.
+ * Responses match the controllers': the exported ETag (with -gzip for the gzip file), 304 when If-None-Match
+ * holds the ETag of either encoding, gzip only when Accept-Encoding allows it, and the "public" rate limiter.
+ */
+@Component
+@ConditionalOnProperty(name = "app.static-export.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class StaticExportFilter extends OncePerRequestFilter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String PUBLIC_RATE_LIMITER = "public";
+
+    private final StaticExportService staticExportService;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || !request.getRequestURI().startsWith("/api/v1/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String eTag = staticExportService.findExportedETag(request.getRequestURI());
+        boolean gzip = SerializedResponseService.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        // The file of the version the ETag names, so body and ETag always match
+        Path file = eTag == null ? null : staticExportService.findExportedFile(request.getRequestURI(), eTag, gzip);
+        if (file == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!rateLimiterRegistry.rateLimiter(PUBLIC_RATE_LIMITER).acquirePermission()) {
+            log.warn("Rate limit exceeded for static export of {}", request.getRequestURI());
+            writeTooManyRequests(response);
+            return;
+        }
+
+        // Same representation ETags as the controllers, the gzip file has its own
+        String fileETag = SerializedResponseService.eTagOf(eTag, gzip);
+        if (SerializedResponseService.isNotModified(new ServletWebRequest(request, response), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, fileETag);
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            return;
+        }
+
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (NoSuchFileException e) {
+            // Two exports happened since the ETag was read, the controllers answer instead
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.debug("Serving {} from static export: {}", request.getRequestURI(), file);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, fileETag);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLengthLong(size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat opens the file by name once the filter returns, exported versions are never rewritten
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            channel.transferTo(0, size, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    /**
+     * Same body as GlobalExceptionHandler gives a rate limited controller request
+     */
+    private void writeTooManyRequests(HttpServletResponse response) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("Rate limit exceeded. Please try again later.")
+                .build();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
@@ -1,6 +1,7 @@
 package com.backend.portfolio.controllers.admin;
 
 import com.backend.portfolio.models.requests.ExperienceRequestInsert;
+import com.backend.portfolio.models.responses.CursorPage;
 import com.backend.portfolio.models.responses.ExperienceResponse;
 import com.backend.portfolio.models.updates.ExperienceRequestUpdate;
 import com.backend.portfolio.services.ExperienceService;
@@ -36,6 +37,15 @@ public class ExperienceAdminController {
         return ResponseEntity.ok(experiences);
     }
 
+    @GetMapping("/page")
+    @RateLimiter(name = "admin")
+    public ResponseEntity<CursorPage<ExperienceResponse>> getExperiencesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("Admin request: Get experiences page");
+        return ResponseEntity.ok(experienceService.getExperiencesPage(cursor, size));
+    }
+
     @GetMapping("/{id}")
     @RateLimiter(name = "admin")
     public ResponseEntity<ExperienceResponse> getExperienceById(@PathVariable Long id) {
@@ -1,17 +1,24 @@
 package com.backend.portfolio.controllers.admin;
 
 import com.backend.portfolio.models.requests.InquireRequestInsert;
+import com.backend.portfolio.models.responses.CursorPage;
 import com.backend.portfolio.models.responses.InquireResponse;
+import com.backend.portfolio.models.states.enums.InquireExportFormat;
+import com.backend.portfolio.services.InquireExportService;
 import com.backend.portfolio.services.InquireService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -26,6 +33,7 @@ import java.util.List;
 public class InquireAdminController {
 
     private final InquireService inquireService;
+    private final InquireExportService inquireExportService;
 
     @GetMapping
     @RateLimiter(name = "admin")
@@ -35,6 +43,28 @@ public class InquireAdminController {
         return ResponseEntity.ok(inquires);
     }
 
+    @GetMapping("/page")
+    @RateLimiter(name = "admin")
+    public ResponseEntity<CursorPage<InquireResponse>> getInquiresPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("Admin request: Get inquires page");
+        return ResponseEntity.ok(inquireService.getInquiresPage(cursor, size));
+    }
+
+    @GetMapping("/export")
+    @RateLimiter(name = "admin")
+    public ResponseEntity<StreamingResponseBody> exportInquires(
+            @RequestParam(defaultValue = "NDJSON") InquireExportFormat format) {
+        log.info("Admin request: Export all inquires as {}", format);
+        boolean csv = format == InquireExportFormat.CSV;
+        StreamingResponseBody body = out -> inquireExportService.exportInquires(format, out);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"inquires." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @RateLimiter(name = "admin")
     public ResponseEntity<InquireResponse> getInquireById(@PathVariable Long id) {
@@ -0,0 +1,77 @@
+package com.backend.portfolio.controllers.admin;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.backend.portfolio.models.responses.PortfolioDeleteResponse;
+import com.backend.portfolio.models.responses.PortfolioImportResponse;
+import com.backend.portfolio.services.PortfolioDeleteService;
+import com.backend.portfolio.services.PortfolioTransferService;
+
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admin endpoints for moving or deleting a whole portfolio at once - requires authentication
+ * Base URL: /api/v1/admin/portfolio
+ */
+@RestController
+@RequestMapping("/api/v1/admin/portfolio")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN')")
+public class PortfolioAdminController {
+
+    private final PortfolioTransferService portfolioTransferService;
+    private final PortfolioDeleteService portfolioDeleteService;
+
+    @GetMapping("/{profileId}/export")
+    @RateLimiter(name = "admin")
+    public ResponseEntity<StreamingResponseBody> exportPortfolio(@PathVariable Long profileId) {
+        log.info("Admin request: Export portfolio of profile id: {}", profileId);
+        portfolioTransferService.checkExportable(profileId);
+        StreamingResponseBody body = out -> portfolioTransferService.exportPortfolio(profileId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"portfolio-" + profileId + ".json\"")
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @RateLimiter(name = "admin")
+    public ResponseEntity<PortfolioImportResponse> importPortfolio(HttpServletRequest request) throws IOException {
+        log.info("Admin request: Import portfolio");
+        PortfolioImportResponse imported = portfolioTransferService.importPortfolio(request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(imported);
+    }
+
+    @DeleteMapping("/{profileId}")
+    @RateLimiter(name = "admin")
+    public ResponseEntity<PortfolioDeleteResponse> deletePortfolio(@PathVariable Long profileId) {
+        log.info("Admin request: Bulk delete portfolio of profile id: {}", profileId);
+        PortfolioDeleteResponse deleted = portfolioDeleteService.deleteProfile(profileId);
+        return ResponseEntity.ok(deleted);
+    }
+
+    @DeleteMapping("/projects/{projectId}")
+    @RateLimiter(name = "admin")
+    public ResponseEntity<PortfolioDeleteResponse> deleteProject(@PathVariable Long projectId) {
+        log.info("Admin request: Bulk delete project with id: {}", projectId);
+        PortfolioDeleteResponse deleted = portfolioDeleteService.deleteProject(projectId);
+        return ResponseEntity.ok(deleted);
+    }
+}
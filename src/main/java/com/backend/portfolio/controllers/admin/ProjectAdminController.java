@@ -1,6 +1,7 @@
 package com.backend.portfolio.controllers.admin;
 
 import com.backend.portfolio.models.requests.ProjectRequestInsert;
+import com.backend.portfolio.models.responses.CursorPage;
 import com.backend.portfolio.models.responses.ProjectResponse;
 import com.backend.portfolio.models.updates.ProjectRequestUpdate;
 import com.backend.portfolio.services.ProjectService;
@@ -36,6 +37,15 @@ public class ProjectAdminController {
         return ResponseEntity.ok(projects);
     }
 
+    @GetMapping("/page")
+    @RateLimiter(name = "admin")
+    public ResponseEntity<CursorPage<ProjectResponse>> getProjectsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("Admin request: Get projects page");
+        return ResponseEntity.ok(projectService.getProjectsPage(cursor, size));
+    }
+
     @GetMapping("/{id}")
     @RateLimiter(name = "admin")
     public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id) {
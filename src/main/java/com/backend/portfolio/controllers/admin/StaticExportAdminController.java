@@ -0,0 +1,57 @@
+package com.backend.portfolio.controllers.admin;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backend.portfolio.models.responses.StaticExportResponse;
+import com.backend.portfolio.services.StaticExportService;
+
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admin endpoints for the static export of public endpoints - requires authentication
+ * Base URL: /api/v1/admin/static-export
+ */
+@RestController
+@RequestMapping("/api/v1/admin/static-export")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN')")
+public class StaticExportAdminController {
+
+    private final StaticExportService staticExportService;
+
+    @GetMapping
+    @RateLimiter(name = "admin")
+    public ResponseEntity<List<Long>> getExportedProfileIds() {
+        log.info("Admin request: Get exported profile ids");
+        List<Long> profileIds = staticExportService.getExportedProfileIds();
+        return ResponseEntity.ok(profileIds);
+    }
+
+    @PostMapping("/{profileId}")
+    @RateLimiter(name = "admin")
+    public ResponseEntity<StaticExportResponse> exportProfile(@PathVariable Long profileId) {
+        log.info("Admin request: Export public endpoints of profile id: {}", profileId);
+        StaticExportResponse export = staticExportService.exportProfile(profileId);
+        return ResponseEntity.ok(export);
+    }
+
+    @DeleteMapping("/{profileId}")
+    @RateLimiter(name = "admin")
+    public ResponseEntity<Void> deleteProfileExport(@PathVariable Long profileId) {
+        log.info("Admin request: Delete static export of profile id: {}", profileId);
+        staticExportService.deleteProfileExport(profileId);
+        return ResponseEntity.noContent().build();
+    }
+}
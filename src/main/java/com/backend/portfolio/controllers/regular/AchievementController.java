@@ -2,14 +2,18 @@ package com.backend.portfolio.controllers.regular;
 
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.backend.portfolio.configurations.CacheConfig;
 import com.backend.portfolio.models.responses.AchievementResponse;
 import com.backend.portfolio.services.AchievementService;
+import com.backend.portfolio.services.ResourceVersionService;
 
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import lombok.RequiredArgsConstructor;
@@ -26,13 +30,19 @@ import lombok.extern.slf4j.Slf4j;
 public class AchievementController {
 
     private final AchievementService achievementService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping("/profile/{profileId}")
     @RateLimiter(name = "public")
-    public ResponseEntity<List<AchievementResponse>> getAchievementsByProfileId(@PathVariable Long profileId) {
+    public ResponseEntity<List<AchievementResponse>> getAchievementsByProfileId(@PathVariable Long profileId, WebRequest webRequest) {
         log.info("Public request: Get achievements by profile id: {}", profileId);
+        String eTag = resourceVersionService.getETag(CacheConfig.ACHIEVEMENTS_CACHE, profileId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         List<AchievementResponse> achievements = achievementService.getAllAchievementsByProfileId(profileId);
-        return ResponseEntity.ok(achievements);
+        return ResponseEntity.ok().eTag(eTag).body(achievements);
     }
 }
 
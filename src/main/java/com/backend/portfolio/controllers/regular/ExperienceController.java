@@ -1,17 +1,26 @@
 package com.backend.portfolio.controllers.regular;
 
-import java.util.List;
-
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.backend.portfolio.configurations.CacheConfig;
 import com.backend.portfolio.models.responses.ExperienceResponse;
+import com.backend.portfolio.models.responses.SerializedResponse;
 import com.backend.portfolio.services.ExperienceService;
+import com.backend.portfolio.services.ResourceVersionService;
+import com.backend.portfolio.services.SerializedResponseService;
 
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,13 +35,27 @@ import lombok.extern.slf4j.Slf4j;
 public class ExperienceController {
 
     private final ExperienceService experienceService;
+    private final ResourceVersionService resourceVersionService;
+    private final SerializedResponseService serializedResponseService;
 
     @GetMapping("/profile/{profileId}")
     @RateLimiter(name = "public")
-    public ResponseEntity<List<ExperienceResponse>> getExperiencesByProfileId(@PathVariable Long profileId) {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = ExperienceResponse.class))))
+    public ResponseEntity<byte[]> getExperiencesByProfileId(@PathVariable Long profileId, WebRequest webRequest) {
         log.info("Public request: Get experiences by profile id: {}", profileId);
-        List<ExperienceResponse> experiences = experienceService.getAllExperiencesByProfileId(profileId);
-        return ResponseEntity.ok(experiences);
+        String eTag = resourceVersionService.getETag(CacheConfig.EXPERIENCES_CACHE, profileId);
+        // The gzip and JSON bodies have ETags of their own, a validator of either one matches
+        if (SerializedResponseService.isNotModified(webRequest, eTag)) {
+            return serializedResponseService.notModified(eTag, webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        }
+
+        // Body bytes are written as they are, so the JSON and gzip variants can be cached once serialized
+        SerializedResponse body = serializedResponseService.isEnabled()
+                ? serializedResponseService.getSerializedResponse(
+                        CacheConfig.EXPERIENCES_CACHE, profileId, () -> experienceService.getAllExperiencesByProfileId(profileId))
+                : serializedResponseService.serializeJson(experienceService.getAllExperiencesByProfileId(profileId));
+        return serializedResponseService.toResponseEntity(body, eTag, webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
     }
 }
 
@@ -2,11 +2,13 @@ package com.backend.portfolio.controllers.regular;
 
 import com.backend.portfolio.models.requests.InquireRequestInsert;
 import com.backend.portfolio.models.responses.InquireResponse;
+import com.backend.portfolio.services.InquireQueueService;
 import com.backend.portfolio.services.InquireService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,11 +24,19 @@ import org.springframework.web.bind.annotation.*;
 public class InquireController {
 
     private final InquireService inquireService;
+    private final ObjectProvider<InquireQueueService> inquireQueueService;
 
+    /**
+     * Stored right away (201), or accepted for write-behind (202, without id) when app.inquire-queue is enabled
+     */
     @PostMapping
     @RateLimiter(name = "public")
     public ResponseEntity<InquireResponse> createInquire(@Valid @RequestBody InquireRequestInsert request) {
         log.info("Public request: Create new inquire");
+        InquireQueueService queue = inquireQueueService.getIfAvailable();
+        if (queue != null) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(queue.enqueue(request));
+        }
         InquireResponse inquire = inquireService.createInquire(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(inquire);
     }
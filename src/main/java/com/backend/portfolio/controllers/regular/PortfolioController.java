@@ -0,0 +1,49 @@
+package com.backend.portfolio.controllers.regular;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.models.responses.PortfolioResponse;
+import com.backend.portfolio.services.PortfolioService;
+import com.backend.portfolio.services.ProfileExistenceService;
+import com.backend.portfolio.services.ResourceVersionService;
+
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Public endpoint for the aggregated Portfolio - accessible without authentication
+ * Base URL: /api/v1/portfolio
+ */
+@RestController
+@RequestMapping("/api/v1/portfolio")
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioController {
+
+    private final PortfolioService portfolioService;
+    private final ResourceVersionService resourceVersionService;
+    private final ProfileExistenceService profileExistenceService;
+
+    @GetMapping("/{profileId}")
+    @RateLimiter(name = "public")
+    public ResponseEntity<PortfolioResponse> getPortfolioByProfileId(@PathVariable Long profileId, WebRequest webRequest) {
+        log.info("Public request: Get portfolio by profile id: {}", profileId);
+        // Before any cache, pool or transaction, so a known missing id costs nothing
+        profileExistenceService.checkNotKnownMissing(profileId);
+        String eTag = resourceVersionService.getETag(CacheConfig.PORTFOLIO_CACHE, profileId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        PortfolioResponse portfolio = portfolioService.getPortfolioByProfileId(profileId);
+        return ResponseEntity.ok().eTag(eTag).body(portfolio);
+    }
+}
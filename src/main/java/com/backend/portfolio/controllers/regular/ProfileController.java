@@ -1,13 +1,18 @@
 package com.backend.portfolio.controllers.regular;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.backend.portfolio.configurations.CacheConfig;
 import com.backend.portfolio.models.responses.ProfileResponse;
 import com.backend.portfolio.services.ProfileService;
+import com.backend.portfolio.services.ProfileExistenceService;
+import com.backend.portfolio.services.ResourceVersionService;
 
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import lombok.RequiredArgsConstructor;
@@ -24,13 +29,22 @@ import lombok.extern.slf4j.Slf4j;
 public class ProfileController {
 
     private final ProfileService profileService;
+    private final ResourceVersionService resourceVersionService;
+    private final ProfileExistenceService profileExistenceService;
 
     @GetMapping("/{id}")
     @RateLimiter(name = "public")
-    public ResponseEntity<ProfileResponse> getProfileById(@PathVariable Long id) {
+    public ResponseEntity<ProfileResponse> getProfileById(@PathVariable Long id, WebRequest webRequest) {
         log.info("Public request: Get regular by id: {}", id);
+        // Before any cache, pool or transaction, so a known missing id costs nothing
+        profileExistenceService.checkNotKnownMissing(id);
+        String eTag = resourceVersionService.getETag(CacheConfig.PROFILE_CACHE, id);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         ProfileResponse profile = profileService.getProfileById(id);
-        return ResponseEntity.ok(profile);
+        return ResponseEntity.ok().eTag(eTag).body(profile);
     }
 }
 
@@ -0,0 +1,39 @@
+package com.backend.portfolio.controllers.regular;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backend.portfolio.models.responses.SearchResponse;
+import com.backend.portfolio.services.SearchService;
+
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Public full-text search over a portfolio - accessible without authentication
+ * Base URL: /api/v1/search
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    @RateLimiter(name = "public")
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam Long profileId,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        log.info("Public request: Search profile id: {} for '{}'", profileId, q);
+        SearchResponse result = searchService.search(profileId, q, page, size);
+        return ResponseEntity.ok(result);
+    }
+}
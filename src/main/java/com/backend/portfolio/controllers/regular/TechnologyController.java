@@ -2,14 +2,22 @@ package com.backend.portfolio.controllers.regular;
 
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.models.responses.TechnologyFilterResponse;
 import com.backend.portfolio.models.responses.TechnologyResponse;
+import com.backend.portfolio.models.states.enums.TechnologyFilterMode;
+import com.backend.portfolio.services.TechnologyFilterService;
 import com.backend.portfolio.services.TechnologyService;
+import com.backend.portfolio.services.ResourceVersionService;
 
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import lombok.RequiredArgsConstructor;
@@ -26,13 +34,34 @@ import lombok.extern.slf4j.Slf4j;
 public class TechnologyController {
 
     private final TechnologyService technologyService;
+    private final ResourceVersionService resourceVersionService;
+    private final TechnologyFilterService technologyFilterService;
 
     @GetMapping("/profile/{profileId}")
     @RateLimiter(name = "public")
-    public ResponseEntity<List<TechnologyResponse>> getTechnologiesByProfileId(@PathVariable Long profileId) {
+    public ResponseEntity<List<TechnologyResponse>> getTechnologiesByProfileId(@PathVariable Long profileId, WebRequest webRequest) {
         log.info("Public request: Get technologies by profile id: {}", profileId);
+        String eTag = resourceVersionService.getETag(CacheConfig.TECHNOLOGIES_CACHE, profileId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         List<TechnologyResponse> technologies = technologyService.getAllTechnologiesByProfileId(profileId);
-        return ResponseEntity.ok(technologies);
+        return ResponseEntity.ok().eTag(eTag).body(technologies);
     }
-}
 
+    /**
+     * Ids of the profile's projects and experiences using all (mode=AND) or any (mode=OR) of the technologies,
+     * e.g. /filter?profileId=1&technologyIds=3,7&mode=AND
+     */
+    @GetMapping("/filter")
+    @RateLimiter(name = "public")
+    public ResponseEntity<TechnologyFilterResponse> filterByTechnologies(
+            @RequestParam Long profileId,
+            @RequestParam List<Long> technologyIds,
+            @RequestParam(defaultValue = "AND") TechnologyFilterMode mode) {
+        log.info("Public request: Filter profile id: {} by technologies {} ({})", profileId, technologyIds, mode);
+        TechnologyFilterResponse result = technologyFilterService.filter(profileId, technologyIds, mode);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,12 @@
+package com.backend.portfolio.events;
+
+import lombok.ToString;
+
+/**
+ * Published by PostgresCacheBus after its listening connection came back.
+ * Notifications sent while it was down are lost, so listeners drop whatever they cache
+ * outside the Spring CacheManager (which the bus already cleared).
+ */
+@ToString
+public class CacheBusReconnectedEvent {
+}
@@ -0,0 +1,86 @@
+package com.backend.portfolio.events;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts cached public reads once an admin write has been committed
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioCacheInvalidator {
+
+    /** Listeners that read the portfolio after a change must run after this one */
+    public static final int ORDER = 0;
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PortfolioCacheInvalidator.ORDER)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        List<Cache> resourceKeyedCaches = CacheConfig.RESOURCE_KEYED_CACHES.stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .toList();
+
+        for (String cacheName : cacheNamesFor(event.getSection())) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+
+            if (event.affectsAllProfiles()) {
+                log.info("Evicting all entries of cache '{}' after {} change", cacheName, event.getSection());
+                cache.clear();
+            } else {
+                log.info("Evicting cache '{}' for profile id: {} after {} change", cacheName, event.getProfileId(), event.getSection());
+                cache.evict(event.getProfileId());
+                for (Cache resourceKeyedCache : resourceKeyedCaches) {
+                    resourceKeyedCache.evict(cacheName + ":" + event.getProfileId());
+                }
+            }
+        }
+
+        // ETags and serialized bodies are keyed per resource and profile, so a change for all profiles drops them all
+        if (event.affectsAllProfiles()) {
+            resourceKeyedCaches.forEach(Cache::clear);
+        }
+    }
+
+    /**
+     * Caches whose content depends on the given section. The aggregated portfolio depends on all of them.
+     */
+    private List<String> cacheNamesFor(PortfolioSection section) {
+        return switch (section) {
+            // A profile delete cascades to every section, so drop them all,
+            // and a created profile must no longer be reported missing
+            case PROFILE -> Stream.concat(
+                    Stream.of(CacheConfig.PORTFOLIO_CACHE, CacheConfig.MISSING_PROFILE_IDS_CACHE),
+                    CacheConfig.PORTFOLIO_SECTION_CACHES.stream()).toList();
+            case ADDRESS -> List.of(CacheConfig.PORTFOLIO_CACHE, CacheConfig.ADDRESSES_CACHE);
+            case CONTACT -> List.of(CacheConfig.PORTFOLIO_CACHE, CacheConfig.CONTACTS_CACHE);
+            case EDUCATION -> List.of(CacheConfig.PORTFOLIO_CACHE, CacheConfig.EDUCATIONS_CACHE);
+            case EXPERIENCE -> List.of(CacheConfig.PORTFOLIO_CACHE, CacheConfig.EXPERIENCES_CACHE);
+            case PROJECT -> List.of(CacheConfig.PORTFOLIO_CACHE, CacheConfig.PROJECTS_CACHE);
+            case ACHIEVEMENT -> List.of(CacheConfig.PORTFOLIO_CACHE, CacheConfig.ACHIEVEMENTS_CACHE);
+            case FAQ -> List.of(CacheConfig.PORTFOLIO_CACHE, CacheConfig.FAQS_CACHE);
+            // Technology names are embedded in projects and experiences
+            case TECHNOLOGY -> List.of(CacheConfig.PORTFOLIO_CACHE, CacheConfig.TECHNOLOGIES_CACHE,
+                    CacheConfig.PROJECTS_CACHE, CacheConfig.EXPERIENCES_CACHE);
+        };
+    }
+}
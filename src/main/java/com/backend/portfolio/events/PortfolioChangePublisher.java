@@ -0,0 +1,42 @@
+package com.backend.portfolio.events;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioChangePublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Publish one change event per affected profile.
+     * Without any profile ids the change is published for all profiles.
+     */
+    public void publish(PortfolioSection section, Long entityId, Long... profileIds) {
+        Long[] affectedProfileIds = profileIds == null ? new Long[0] : Arrays.stream(profileIds)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray(Long[]::new);
+
+        if (affectedProfileIds.length == 0) {
+            log.debug("Publishing {} change for all profiles, entity id: {}", section, entityId);
+            applicationEventPublisher.publishEvent(new PortfolioChangedEvent(section, null, entityId));
+            return;
+        }
+
+        for (Long profileId : affectedProfileIds) {
+            log.debug("Publishing {} change for profile id: {}, entity id: {}", section, profileId, entityId);
+            applicationEventPublisher.publishEvent(new PortfolioChangedEvent(section, profileId, entityId));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.backend.portfolio.events;
+
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the admin services whenever a public section of a profile changes.
+ * A null profileId means the change is shared by every profile (e.g. a technology).
+ * Remote events were received from another node over the cache bus and are not forwarded again.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class PortfolioChangedEvent {
+
+    private final PortfolioSection section;
+    private final Long profileId;
+    private final Long entityId;
+    private final boolean remote;
+
+    public PortfolioChangedEvent(PortfolioSection section, Long profileId, Long entityId) {
+        this(section, profileId, entityId, false);
+    }
+
+    public boolean affectsAllProfiles() {
+        return profileId == null;
+    }
+}
@@ -0,0 +1,223 @@
+package com.backend.portfolio.events;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cross-node cache invalidation over Postgres LISTEN/NOTIFY.
+ * Local change events are sent with pg_notify once their transaction has committed, and every node
+ * LISTENs on a dedicated connection and republishes the changes of the other nodes as remote events,
+ * so PortfolioCacheInvalidator (and the other change listeners) drop the same entries everywhere.
+ * A node that loses its listening connection clears all its caches after reconnecting,
+ * since notifications sent in between are lost, and publishes CacheBusReconnectedEvent
+ * for the caches kept outside the CacheManager.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache-bus.enabled", havingValue = "true")
+@Slf4j
+public class PostgresCacheBus implements SmartLifecycle {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("^[a-z_][a-z0-9_]*$");
+    private static final String FIELD_SEPARATOR = "|";
+    private static final String NULL_FIELD = "-";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CacheManager cacheManager;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final long reconnectDelayMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listenerThread;
+
+    public PostgresCacheBus(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher applicationEventPublisher,
+            CacheManager cacheManager,
+            DataSourceProperties dataSourceProperties,
+            @Value("${app.cache-bus.url:}") String url,
+            @Value("${app.cache-bus.channel:portfolio_cache}") String channel,
+            @Value("${app.cache-bus.reconnect-delay-ms:5000}") long reconnectDelayMillis) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache bus channel name: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.cacheManager = cacheManager;
+        this.url = url.isBlank() ? dataSourceProperties.determineUrl() : url;
+        this.username = dataSourceProperties.determineUsername();
+        this.password = dataSourceProperties.determinePassword();
+        this.channel = channel;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    /**
+     * Send a committed local change to the other nodes.
+     * Runs in its own transaction, since NOTIFY is only delivered when that transaction commits.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, encode(nodeId, event));
+        } catch (RuntimeException e) {
+            // The local caches are already evicted, other nodes fall back to their cache TTL
+            log.error("Failed to send {} over the cache bus", event, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-bus-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(listenConnection);
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening for cache invalidations on channel '{}' as node {}", channel, nodeId);
+                if (reconnecting) {
+                    clearAllCaches();
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(10_000);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache bus connection lost, reconnecting in {} ms: {}", reconnectDelayMillis, e.getMessage());
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        try {
+            PortfolioChangedEvent event = decode(nodeId, payload);
+            if (event != null) {
+                log.debug("Received {} over the cache bus", event);
+                applicationEventPublisher.publishEvent(event);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to handle cache bus message: {}", payload, e);
+        }
+    }
+
+    void clearAllCaches() {
+        log.info("Clearing all caches after cache bus reconnect");
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        applicationEventPublisher.publishEvent(new CacheBusReconnectedEvent());
+    }
+
+    private void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close cache bus connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Payload: nodeId|SECTION|profileId|entityId, with "-" for null ids
+     */
+    static String encode(String nodeId, PortfolioChangedEvent event) {
+        return String.join(FIELD_SEPARATOR,
+                nodeId,
+                event.getSection().name(),
+                event.getProfileId() == null ? NULL_FIELD : event.getProfileId().toString(),
+                event.getEntityId() == null ? NULL_FIELD : event.getEntityId().toString());
+    }
+
+    /**
+     * Decode a payload as a remote event, or null when it was sent by this node
+     */
+    static PortfolioChangedEvent decode(String nodeId, String payload) {
+        String[] fields = payload.split(Pattern.quote(FIELD_SEPARATOR));
+        if (fields.length != 4) {
+            throw new IllegalArgumentException("Invalid cache bus message: " + payload);
+        }
+        if (nodeId.equals(fields[0])) {
+            return null;
+        }
+        return new PortfolioChangedEvent(
+                PortfolioSection.valueOf(fields[1]),
+                NULL_FIELD.equals(fields[2]) ? null : Long.valueOf(fields[2]),
+                NULL_FIELD.equals(fields[3]) ? null : Long.valueOf(fields[3]),
+                true);
+    }
+}
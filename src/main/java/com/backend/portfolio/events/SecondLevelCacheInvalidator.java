@@ -0,0 +1,79 @@
+package com.backend.portfolio.events;
+
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.portfolio.configurations.SecondLevelCacheConfig;
+import com.backend.portfolio.models.entities.Experience;
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.entities.Project;
+import com.backend.portfolio.models.entities.Technology;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts Hibernate second-level cache entries that Hibernate cannot keep current by itself:
+ * technology links removed by the database cascade when a technology is deleted,
+ * and technology data written on another node (events received over the cache bus).
+ * After a cache bus reconnect every region is evicted, remote changes may have been missed.
+ * Registered by SecondLevelCacheConfig.
+ */
+@Slf4j
+public class SecondLevelCacheInvalidator {
+
+    static final List<String> TECHNOLOGY_COLLECTION_ROLES = List.of(
+            Profile.class.getName() + ".technologies",
+            Project.class.getName() + ".technologies",
+            Experience.class.getName() + ".technologies");
+
+    private final Cache cache;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PortfolioCacheInvalidator.ORDER)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        switch (event.getSection()) {
+            case TECHNOLOGY -> {
+                if (event.isRemote()) {
+                    evictTechnology(event.getEntityId());
+                    cache.evictQueryRegion(SecondLevelCacheConfig.TECHNOLOGIES_BY_PROFILE_ID_QUERY_REGION);
+                }
+                log.info("Evicting technology collections from the second-level cache after {} change", event.getSection());
+                TECHNOLOGY_COLLECTION_ROLES.forEach(cache::evictCollectionData);
+            }
+            case PROFILE, PROJECT, EXPERIENCE -> {
+                if (event.isRemote()) {
+                    log.info("Evicting technology collections from the second-level cache after remote {} change", event.getSection());
+                    TECHNOLOGY_COLLECTION_ROLES.forEach(cache::evictCollectionData);
+                    cache.evictQueryRegion(SecondLevelCacheConfig.TECHNOLOGIES_BY_PROFILE_ID_QUERY_REGION);
+                }
+            }
+            default -> {
+                // Other sections are not cached at this level
+            }
+        }
+    }
+
+    @EventListener
+    public void onCacheBusReconnected(CacheBusReconnectedEvent event) {
+        log.info("Evicting all second-level cache regions after cache bus reconnect");
+        cache.evictAllRegions();
+    }
+
+    private void evictTechnology(Long id) {
+        if (id == null) {
+            cache.evictEntityData(Technology.class);
+        } else {
+            cache.evictEntityData(Technology.class, id);
+        }
+    }
+}
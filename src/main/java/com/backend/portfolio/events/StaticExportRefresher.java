@@ -0,0 +1,89 @@
+package com.backend.portfolio.events;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.exceptions.custom.StaleDataException;
+import com.backend.portfolio.services.StaticExportService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Re-exports the static copy of the affected profiles once an admin write has been committed.
+ * Runs after PortfolioCacheInvalidator so the export reads fresh data, on a single background thread
+ * so the admin request does not wait for it. A profile already waiting for its re-export is not queued again,
+ * and until the new files are in place the previous copy is served with its previous ETag.
+ * An export that would have written stale data writes nothing and keeps the previous copy.
+ */
+@Component
+@Slf4j
+public class StaticExportRefresher {
+
+    private final StaticExportService staticExportService;
+    private final ExecutorService executor;
+    private final Set<Long> pendingProfileIds = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public StaticExportRefresher(StaticExportService staticExportService) {
+        this(staticExportService, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "static-export-refresher");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    StaticExportRefresher(StaticExportService staticExportService, ExecutorService executor) {
+        this.staticExportService = staticExportService;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PortfolioCacheInvalidator.ORDER + 1)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        List<Long> exportedProfileIds = staticExportService.getExportedProfileIds();
+        List<Long> profileIds = event.affectsAllProfiles()
+                ? exportedProfileIds
+                : exportedProfileIds.stream().filter(event.getProfileId()::equals).toList();
+
+        for (Long profileId : profileIds) {
+            if (pendingProfileIds.add(profileId)) {
+                executor.execute(() -> refresh(profileId));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void refresh(Long profileId) {
+        // Released before exporting, so a change committed meanwhile queues another export
+        pendingProfileIds.remove(profileId);
+        try {
+            staticExportService.exportProfile(profileId);
+        } catch (StaleDataException e) {
+            // Nothing was written, the previous copy stays consistent with its ETag until the next change
+            log.warn("Static export of profile id: {} kept, the database served stale data: {}", profileId, e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            // The profile was deleted, stop serving its copy
+            staticExportService.deleteProfileExport(profileId);
+        } catch (RuntimeException e) {
+            // A stale copy must not keep being served
+            log.error("Failed to refresh static export of profile id: {}", profileId, e);
+            staticExportService.deleteProfileExport(profileId);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.backend.portfolio.events;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.backend.portfolio.services.TechnologyFilterService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the technology index at startup and applies each committed change to it:
+ * project and experience writes reload the technology links of their profile,
+ * technology writes (and the cascade of a technology delete) reload the links of that technology.
+ * Changes to every profile, failed refreshes and cache bus reconnects rebuild the whole index
+ * on a single background thread, filters keep using the current index until the new one is swapped in.
+ * A rebuild already waiting to run is not queued again.
+ * Remote events are applied too, every node holds its own index.
+ */
+@Component
+@Slf4j
+public class TechnologyIndexUpdater {
+
+    private final TechnologyFilterService technologyFilterService;
+    private final ExecutorService executor;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    @Autowired
+    public TechnologyIndexUpdater(TechnologyFilterService technologyFilterService) {
+        this(technologyFilterService, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "technology-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    TechnologyIndexUpdater(TechnologyFilterService technologyFilterService, ExecutorService executor) {
+        this.technologyFilterService = technologyFilterService;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildInBackground();
+    }
+
+    @EventListener
+    public void onCacheBusReconnected(CacheBusReconnectedEvent event) {
+        // Changes made on other nodes while disconnected were missed
+        rebuildInBackground();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PortfolioCacheInvalidator.ORDER + 1)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        Long profileId = event.getProfileId();
+        try {
+            switch (event.getSection()) {
+                case PROFILE -> {
+                    if (event.affectsAllProfiles()) {
+                        rebuildInBackground();
+                    } else {
+                        technologyFilterService.refreshProjects(profileId);
+                        technologyFilterService.refreshExperiences(profileId);
+                    }
+                }
+                case PROJECT -> {
+                    if (event.affectsAllProfiles()) {
+                        rebuildInBackground();
+                    } else {
+                        technologyFilterService.refreshProjects(profileId);
+                    }
+                }
+                case EXPERIENCE -> {
+                    if (event.affectsAllProfiles()) {
+                        rebuildInBackground();
+                    } else {
+                        technologyFilterService.refreshExperiences(profileId);
+                    }
+                }
+                case TECHNOLOGY -> {
+                    if (event.getEntityId() == null) {
+                        rebuildInBackground();
+                    } else {
+                        technologyFilterService.refreshTechnology(event.getEntityId());
+                    }
+                }
+                default -> {
+                    // Other sections have no technology links
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to update the technology index after {} change, rebuilding it", event.getSection(), e);
+            rebuildInBackground();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    void rebuildInBackground() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            executor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        // Released before loading, so a change committed meanwhile queues another rebuild
+        rebuildPending.set(false);
+        try {
+            technologyFilterService.rebuild();
+        } catch (RuntimeException e) {
+            // The current index keeps serving, the next change or reconnect tries again
+            log.error("Failed to rebuild the technology index", e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.backend.portfolio.exceptions.custom;
+
+public class InquireQueueFullException extends RuntimeException {
+
+    public InquireQueueFullException(String message) {
+        super(message);
+    }
+}
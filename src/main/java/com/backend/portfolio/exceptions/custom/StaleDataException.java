@@ -0,0 +1,8 @@
+package com.backend.portfolio.exceptions.custom;
+
+public class StaleDataException extends RuntimeException {
+
+    public StaleDataException(String message) {
+        super(message);
+    }
+}
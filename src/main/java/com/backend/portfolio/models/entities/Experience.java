@@ -5,9 +5,13 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.backend.portfolio.configurations.SecondLevelCacheConfig;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,11 +19,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +33,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "experiences")
+@Table(name = "experiences", indexes = @Index(name = "idx_experiences_created_at_id", columnList = "created_at, id"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -36,7 +42,8 @@ import lombok.NoArgsConstructor;
 public class Experience {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "experiences_id_seq")
+    @SequenceGenerator(name = "experiences_id_seq", sequenceName = "experiences_id_seq", allocationSize = 50)
     @lombok.EqualsAndHashCode.Include
     private Long id;
 
@@ -81,6 +88,7 @@ public class Experience {
     private Set<ExperiencePoint> experiencePoints = new HashSet<>();
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TECHNOLOGY_COLLECTIONS_REGION)
     @JoinTable(
             name = "experiences_technologies",
             joinColumns = @JoinColumn(name = "experience_id"),
@@ -13,6 +13,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,7 +30,8 @@ import lombok.NoArgsConstructor;
 public class ExperiencePoint {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "experience_points_id_seq")
+    @SequenceGenerator(name = "experience_points_id_seq", sequenceName = "experience_points_id_seq", allocationSize = 50)
     @lombok.EqualsAndHashCode.Include
     private Long id;
 
@@ -11,8 +11,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +22,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "inquires")
+@Table(name = "inquires", indexes = @Index(name = "idx_inquires_created_at_id", columnList = "created_at, id"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -29,7 +31,8 @@ import lombok.NoArgsConstructor;
 public class Inquire {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inquires_id_seq")
+    @SequenceGenerator(name = "inquires_id_seq", sequenceName = "inquires_id_seq", allocationSize = 50)
     @lombok.EqualsAndHashCode.Include
     private Long id;
 
@@ -4,9 +4,12 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.backend.portfolio.configurations.SecondLevelCacheConfig;
 import com.backend.portfolio.models.states.enums.Sex;
 
 import jakarta.persistence.CascadeType;
@@ -19,6 +22,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,7 +39,8 @@ import lombok.NoArgsConstructor;
 public class Profile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "profiles_id_seq")
+    @SequenceGenerator(name = "profiles_id_seq", sequenceName = "profiles_id_seq", allocationSize = 50)
     @lombok.EqualsAndHashCode.Include
     private Long id;
 
@@ -101,6 +106,7 @@ public class Profile {
     private Set<Project> projects = new HashSet<>();
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TECHNOLOGY_COLLECTIONS_REGION)
     @JoinTable(
             name = "profiles_technologies",
             joinColumns = @JoinColumn(name = "profile_id"),
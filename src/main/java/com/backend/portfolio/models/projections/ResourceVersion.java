@@ -0,0 +1,24 @@
+package com.backend.portfolio.models.projections;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Aggregate over a set of rows that changes whenever a row is inserted, updated or deleted.
+ * Selected with JPQL constructor expressions, so no entities are loaded to compute it.
+ */
+@Getter
+@AllArgsConstructor
+public class ResourceVersion {
+
+    private final Long count;
+    private final LocalDateTime lastModified;
+    private final Long idChecksum;
+
+    @Override
+    public String toString() {
+        return count + "-" + lastModified + "-" + idChecksum;
+    }
+}
@@ -0,0 +1,20 @@
+package com.backend.portfolio.models.projections;
+
+/**
+ * Row of SearchRepository.search, one per matching project, point, FAQ or achievement
+ */
+public interface SearchHitView {
+
+    String getType();
+
+    Long getId();
+
+    // The project or experience a point belongs to, otherwise the hit's own id
+    Long getParentId();
+
+    String getTitle();
+
+    String getHighlight();
+
+    Double getRank();
+}
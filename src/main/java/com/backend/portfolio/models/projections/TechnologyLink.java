@@ -0,0 +1,17 @@
+package com.backend.portfolio.models.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One row of a technology join table (projects_technologies, experiences_technologies) with the owner's profile.
+ * Selected with JPQL constructor expressions, so no entities are loaded to build the technology index.
+ */
+@Getter
+@AllArgsConstructor
+public class TechnologyLink {
+
+    private final Long ownerId;
+    private final Long profileId;
+    private final Long technologyId;
+}
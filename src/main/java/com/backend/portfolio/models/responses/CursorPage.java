@@ -0,0 +1,52 @@
+package com.backend.portfolio.models.responses;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.backend.portfolio.models.requests.PageCursor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;
+    private int size;
+    private boolean hasMore;
+    // Null on the last page
+    private String nextCursor;
+
+    /**
+     * Clamp a requested page size to 1..MAX_SIZE, falling back to DEFAULT_SIZE
+     */
+    public static int limitOf(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Build a page from rows fetched with limit + 1, the extra row only tells whether another page exists
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int limit, Function<E, T> mapper,
+            Function<E, PageCursor> cursorOf) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        return CursorPage.<T>builder()
+                .items(pageRows.stream().map(mapper).toList())
+                .size(pageRows.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? cursorOf.apply(pageRows.get(limit - 1)).encode() : null)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.backend.portfolio.models.responses;
+
+import java.util.Map;
+
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioDeleteResponse {
+
+    private PortfolioSection section;
+    private Long id;
+    // Rows deleted per table, in the order the statements ran
+    private Map<String, Integer> deleted;
+    private int rows;
+    private long durationMs;
+}
@@ -0,0 +1,22 @@
+package com.backend.portfolio.models.responses;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioImportResponse {
+
+    private Long profileId;
+    // Rows written per section, technologies only count the ones created by the import
+    private Map<String, Integer> counts;
+    private int rows;
+    private long durationMs;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,25 @@
+package com.backend.portfolio.models.responses;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioResponse {
+
+    private ProfileResponse profile;
+    private List<AddressResponse> addresses;
+    private List<ContactResponse> contacts;
+    private List<EducationResponse> educations;
+    private List<ExperienceResponse> experiences;
+    private List<ProjectResponse> projects;
+    private List<AchievementResponse> achievements;
+    private List<TechnologyResponse> technologies;
+    private List<FaqResponse> faqs;
+}
@@ -0,0 +1,35 @@
+package com.backend.portfolio.models.responses;
+
+import com.backend.portfolio.models.projections.SearchHitView;
+import com.backend.portfolio.models.states.enums.SearchHitType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitResponse {
+
+    private SearchHitType type;
+    private Long id;
+    private Long parentId;
+    private String title;
+    // Matching fragments as HTML: the stored text is escaped and the matched words wrapped in <mark></mark>
+    private String highlight;
+    private double rank;
+
+    public static SearchHitResponse fromView(SearchHitView view) {
+        return SearchHitResponse.builder()
+                .type(SearchHitType.valueOf(view.getType()))
+                .id(view.getId())
+                .parentId(view.getParentId())
+                .title(view.getTitle())
+                .highlight(view.getHighlight())
+                .rank(view.getRank() != null ? view.getRank() : 0)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.backend.portfolio.models.responses;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResponse {
+
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 50;
+    // Ranked results past this many hits are not paged to, deep OFFSETs rank every match again
+    public static final int MAX_HITS = 500;
+
+    private String query;
+    private List<SearchHitResponse> hits;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
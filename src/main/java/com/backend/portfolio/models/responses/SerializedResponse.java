@@ -0,0 +1,15 @@
+package com.backend.portfolio.models.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Final UTF-8 JSON body of a public endpoint, plus its gzip variant
+ */
+@Getter
+@AllArgsConstructor
+public class SerializedResponse {
+
+    private final byte[] json;
+    private final byte[] gzip;
+}
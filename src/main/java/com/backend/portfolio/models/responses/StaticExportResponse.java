@@ -0,0 +1,19 @@
+package com.backend.portfolio.models.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StaticExportResponse {
+
+    private Long profileId;
+    private String directory;
+    private int files;
+    private long bytes;
+    private long durationMs;
+}
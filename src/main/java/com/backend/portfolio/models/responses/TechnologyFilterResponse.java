@@ -0,0 +1,24 @@
+package com.backend.portfolio.models.responses;
+
+import java.util.List;
+
+import com.backend.portfolio.models.states.enums.TechnologyFilterMode;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechnologyFilterResponse {
+
+    private Long profileId;
+    private List<Long> technologyIds;
+    private TechnologyFilterMode mode;
+    // Ascending ids, the project and experience lists of the profile carry the details
+    private List<Long> projectIds;
+    private List<Long> experienceIds;
+}
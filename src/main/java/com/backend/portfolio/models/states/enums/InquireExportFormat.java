@@ -0,0 +1,9 @@
+package com.backend.portfolio.models.states.enums;
+
+/**
+ * Row format of the inquiry export: one JSON object per line, or comma separated values with a header row
+ */
+public enum InquireExportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,16 @@
+package com.backend.portfolio.models.states.enums;
+
+/**
+ * Public sections of a portfolio that admin writes can change
+ */
+public enum PortfolioSection {
+    PROFILE,
+    ADDRESS,
+    CONTACT,
+    EDUCATION,
+    EXPERIENCE,
+    PROJECT,
+    ACHIEVEMENT,
+    TECHNOLOGY,
+    FAQ
+}
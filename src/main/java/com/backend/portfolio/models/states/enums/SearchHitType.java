@@ -0,0 +1,12 @@
+package com.backend.portfolio.models.states.enums;
+
+/**
+ * Kinds of rows GET /api/v1/search can match
+ */
+public enum SearchHitType {
+    PROJECT,
+    PROJECT_POINT,
+    EXPERIENCE_POINT,
+    FAQ,
+    ACHIEVEMENT
+}
@@ -0,0 +1,9 @@
+package com.backend.portfolio.models.states.enums;
+
+/**
+ * How the technologies of a filter combine: every one of them, or any of them
+ */
+public enum TechnologyFilterMode {
+    AND,
+    OR
+}
@@ -1,16 +1,27 @@
 package com.backend.portfolio.repositories;
 
 import com.backend.portfolio.models.entities.Achievement;
+import com.backend.portfolio.models.projections.ResourceVersion;
+import com.backend.portfolio.models.responses.AchievementResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AchievementRepository extends JpaRepository<Achievement, Long> {
 
-    List<Achievement> findAllByProfileIdOrderByDateAchievedDesc(Long profileId);
+    @Query("SELECT new com.backend.portfolio.models.responses.AchievementResponse(a.id, a.name, a.dateAchieved, a.issuer, a.description, a.url, a.banner, a.github) FROM Achievement a WHERE a.profile.id = :profileId ORDER BY a.dateAchieved DESC")
+    List<AchievementResponse> findAllResponsesByProfileId(Long profileId);
 
     List<Achievement> findAllByOrderByCreatedAtDesc();
+
+    @Query("SELECT a.profile.id FROM Achievement a WHERE a.id = :id")
+    Optional<Long> findProfileIdById(Long id);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(a), MAX(a.updatedAt), SUM(a.id)) FROM Achievement a WHERE a.profile.id = :profileId")
+    ResourceVersion findVersionByProfileId(Long profileId);
 }
 
@@ -1,16 +1,27 @@
 package com.backend.portfolio.repositories;
 
 import com.backend.portfolio.models.entities.Address;
+import com.backend.portfolio.models.projections.ResourceVersion;
+import com.backend.portfolio.models.responses.AddressResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AddressRepository extends JpaRepository<Address, Long> {
 
-    List<Address> findAllByProfileIdOrderByCreatedAtDesc(Long profileId);
+    @Query("SELECT new com.backend.portfolio.models.responses.AddressResponse(a.id, a.street, a.landmark, a.city, a.state, a.country, a.pincode, a.type, a.phone, a.email, a.url) FROM Address a WHERE a.profile.id = :profileId ORDER BY a.createdAt DESC")
+    List<AddressResponse> findAllResponsesByProfileId(Long profileId);
 
     List<Address> findAllByOrderByCreatedAtDesc();
+
+    @Query("SELECT a.profile.id FROM Address a WHERE a.id = :id")
+    Optional<Long> findProfileIdById(Long id);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(a), MAX(a.updatedAt), SUM(a.id)) FROM Address a WHERE a.profile.id = :profileId")
+    ResourceVersion findVersionByProfileId(Long profileId);
 }
 
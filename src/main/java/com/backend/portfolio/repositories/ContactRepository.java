@@ -1,16 +1,27 @@
 package com.backend.portfolio.repositories;
 
 import com.backend.portfolio.models.entities.Contact;
+import com.backend.portfolio.models.projections.ResourceVersion;
+import com.backend.portfolio.models.responses.ContactResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ContactRepository extends JpaRepository<Contact, Long> {
 
-    List<Contact> findAllByProfileIdOrderByCreatedAtDesc(Long profileId);
+    @Query("SELECT new com.backend.portfolio.models.responses.ContactResponse(c.id, c.platform, c.url, c.description, c.banner) FROM Contact c WHERE c.profile.id = :profileId ORDER BY c.createdAt DESC")
+    List<ContactResponse> findAllResponsesByProfileId(Long profileId);
 
     List<Contact> findAllByOrderByCreatedAtDesc();
+
+    @Query("SELECT c.profile.id FROM Contact c WHERE c.id = :id")
+    Optional<Long> findProfileIdById(Long id);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(c), MAX(c.updatedAt), SUM(c.id)) FROM Contact c WHERE c.profile.id = :profileId")
+    ResourceVersion findVersionByProfileId(Long profileId);
 }
 
@@ -1,15 +1,26 @@
 package com.backend.portfolio.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.backend.portfolio.models.entities.Education;
+import com.backend.portfolio.models.projections.ResourceVersion;
+import com.backend.portfolio.models.responses.EducationResponse;
 
 @Repository
 public interface EducationRepository extends JpaRepository<Education, Long> {
 
-    List<Education> findAllByProfileIdOrderByStartDateDesc(Long profileId);
+    @Query("SELECT new com.backend.portfolio.models.responses.EducationResponse(e.id, e.degree, e.institution, e.field, e.startDate, e.endDate, e.percentage, e.description, e.url, e.banner, e.github) FROM Education e WHERE e.profile.id = :profileId ORDER BY e.startDate DESC")
+    List<EducationResponse> findAllResponsesByProfileId(Long profileId);
+
+    @Query("SELECT e.profile.id FROM Education e WHERE e.id = :id")
+    Optional<Long> findProfileIdById(Long id);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(e), MAX(e.updatedAt), SUM(e.id)) FROM Education e WHERE e.profile.id = :profileId")
+    ResourceVersion findVersionByProfileId(Long profileId);
 }
 
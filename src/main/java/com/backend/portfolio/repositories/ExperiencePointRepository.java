@@ -2,13 +2,18 @@ package com.backend.portfolio.repositories;
 
 import com.backend.portfolio.models.entities.ExperiencePoint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ExperiencePointRepository extends JpaRepository<ExperiencePoint, Long> {
 
     List<ExperiencePoint> findAllByExperienceIdOrderByCreatedAtAsc(Long experienceId);
+
+    @Query("SELECT ep.experience.profile.id FROM ExperiencePoint ep WHERE ep.id = :id")
+    Optional<Long> findProfileIdById(Long id);
 }
 
@@ -1,23 +1,64 @@
 package com.backend.portfolio.repositories;
 
 import com.backend.portfolio.models.entities.Experience;
+import com.backend.portfolio.models.projections.ResourceVersion;
+import com.backend.portfolio.models.projections.TechnologyLink;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ExperienceRepository extends JpaRepository<Experience, Long> {
 
-    @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.experiencePoints LEFT JOIN FETCH e.technologies WHERE e.profile.id = :profileId ORDER BY e.startDate DESC")
+    // Lists load the experiences first, then each collection with its own query (fetchExperiencePoints, fetchTechnologies),
+    // so rows grow with points + technologies instead of points x technologies
+    @Query("SELECT e FROM Experience e WHERE e.profile.id = :profileId ORDER BY e.startDate DESC")
     List<Experience> findAllByProfileIdOrderByStartDateDesc(Long profileId);
 
-    @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.experiencePoints LEFT JOIN FETCH e.technologies ORDER BY e.createdAt DESC")
+    @Query("SELECT e FROM Experience e ORDER BY e.createdAt DESC")
     List<Experience> findAllByOrderByCreatedAtDesc();
 
+    // Keyset pages walk idx_experiences_created_at_id, so a deep page costs the same as the first one
+    @Query("SELECT e FROM Experience e ORDER BY e.createdAt DESC, e.id DESC")
+    List<Experience> findFirstPage(Limit limit);
+
+    @Query("SELECT e FROM Experience e WHERE (e.createdAt, e.id) < (:createdAt, :id) ORDER BY e.createdAt DESC, e.id DESC")
+    List<Experience> findPageAfter(LocalDateTime createdAt, Long id, Limit limit);
+
+    @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.experiencePoints WHERE e IN :experiences")
+    List<Experience> fetchExperiencePoints(List<Experience> experiences);
+
+    @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.technologies WHERE e IN :experiences")
+    List<Experience> fetchTechnologies(List<Experience> experiences);
+
     @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.experiencePoints LEFT JOIN FETCH e.technologies WHERE e.id = :id")
     Optional<Experience> findByIdWithDetails(Long id);
+
+    @Query("SELECT e.profile.id FROM Experience e WHERE e.id = :id")
+    Optional<Long> findProfileIdById(Long id);
+
+    // Technology index (TechnologyFilterService): whole join table at startup, then one profile or technology per change
+    @Query("SELECT new com.backend.portfolio.models.projections.TechnologyLink(e.id, e.profile.id, t.id) FROM Experience e JOIN e.technologies t")
+    List<TechnologyLink> findAllTechnologyLinks();
+
+    @Query("SELECT new com.backend.portfolio.models.projections.TechnologyLink(e.id, e.profile.id, t.id) FROM Experience e JOIN e.technologies t WHERE e.profile.id = :profileId")
+    List<TechnologyLink> findTechnologyLinksByProfileId(Long profileId);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.TechnologyLink(e.id, e.profile.id, t.id) FROM Experience e JOIN e.technologies t WHERE t.id = :technologyId")
+    List<TechnologyLink> findTechnologyLinksByTechnologyId(Long technologyId);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(e), MAX(e.updatedAt), SUM(e.id)) FROM Experience e WHERE e.profile.id = :profileId")
+    ResourceVersion findVersionByProfileId(Long profileId);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(ep), MAX(ep.updatedAt), SUM(ep.id)) FROM ExperiencePoint ep WHERE ep.experience.profile.id = :profileId")
+    ResourceVersion findPointsVersionByProfileId(Long profileId);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(t), MAX(t.updatedAt), SUM(t.id)) FROM Experience e JOIN e.technologies t WHERE e.profile.id = :profileId")
+    ResourceVersion findTechnologiesVersionByProfileId(Long profileId);
 }
 
@@ -1,17 +1,28 @@
 package com.backend.portfolio.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.backend.portfolio.models.entities.Faq;
+import com.backend.portfolio.models.projections.ResourceVersion;
+import com.backend.portfolio.models.responses.FaqResponse;
 
 @Repository
 public interface FaqRepository extends JpaRepository<Faq, Long> {
 
-    List<Faq> findAllByProfileIdOrderByCreatedAtDesc(Long profileId);
+    @Query("SELECT new com.backend.portfolio.models.responses.FaqResponse(f.id, f.question, f.answer) FROM Faq f WHERE f.profile.id = :profileId ORDER BY f.createdAt DESC")
+    List<FaqResponse> findAllResponsesByProfileId(Long profileId);
 
     List<Faq> findAllByOrderByCreatedAtDesc();
+
+    @Query("SELECT f.profile.id FROM Faq f WHERE f.id = :id")
+    Optional<Long> findProfileIdById(Long id);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(f), MAX(f.updatedAt), SUM(f.id)) FROM Faq f WHERE f.profile.id = :profileId")
+    ResourceVersion findVersionByProfileId(Long profileId);
 }
 
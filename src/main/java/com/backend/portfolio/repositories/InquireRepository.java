@@ -1,9 +1,12 @@
 package com.backend.portfolio.repositories;
 
 import com.backend.portfolio.models.entities.Inquire;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -12,5 +15,12 @@ public interface InquireRepository extends JpaRepository<Inquire, Long> {
     List<Inquire> findAllByProfileIdOrderByCreatedAtDesc(Long profileId);
 
     List<Inquire> findAllByOrderByCreatedAtDesc();
+
+    // Keyset pages walk idx_inquires_created_at_id, so a deep page costs the same as the first one
+    @Query("SELECT i FROM Inquire i ORDER BY i.createdAt DESC, i.id DESC")
+    List<Inquire> findFirstPage(Limit limit);
+
+    @Query("SELECT i FROM Inquire i WHERE (i.createdAt, i.id) < (:createdAt, :id) ORDER BY i.createdAt DESC, i.id DESC")
+    List<Inquire> findPageAfter(LocalDateTime createdAt, Long id, Limit limit);
 }
 
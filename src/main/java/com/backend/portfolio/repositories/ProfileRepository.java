@@ -1,7 +1,9 @@
 package com.backend.portfolio.repositories;
 
 import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.projections.ResourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,5 +15,11 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
     Optional<Profile> findByFnameAndLname(String fname, String lname);
 
     List<Profile> findAllByOrderByCreatedAtDesc();
+
+    @Query("SELECT p.id FROM Profile p ORDER BY p.createdAt DESC")
+    List<Long> findAllIdsByOrderByCreatedAtDesc();
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(p), MAX(p.updatedAt), SUM(p.id)) FROM Profile p WHERE p.id = :id")
+    ResourceVersion findVersionById(Long id);
 }
 
@@ -2,13 +2,18 @@ package com.backend.portfolio.repositories;
 
 import com.backend.portfolio.models.entities.ProjectPoint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectPointRepository extends JpaRepository<ProjectPoint, Long> {
 
     List<ProjectPoint> findAllByProjectIdOrderByCreatedAtAsc(Long projectId);
+
+    @Query("SELECT pp.project.profile.id FROM ProjectPoint pp WHERE pp.id = :id")
+    Optional<Long> findProfileIdById(Long id);
 }
 
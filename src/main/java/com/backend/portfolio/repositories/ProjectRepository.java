@@ -1,23 +1,64 @@
 package com.backend.portfolio.repositories;
 
 import com.backend.portfolio.models.entities.Project;
+import com.backend.portfolio.models.projections.ResourceVersion;
+import com.backend.portfolio.models.projections.TechnologyLink;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
-    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.projectPoints LEFT JOIN FETCH p.technologies WHERE p.profile.id = :profileId ORDER BY p.startDate DESC")
+    // Lists load the projects first, then each collection with its own query (fetchProjectPoints, fetchTechnologies),
+    // so rows grow with points + technologies instead of points x technologies
+    @Query("SELECT p FROM Project p WHERE p.profile.id = :profileId ORDER BY p.startDate DESC")
     List<Project> findAllByProfileIdOrderByStartDateDesc(Long profileId);
 
-    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.projectPoints LEFT JOIN FETCH p.technologies ORDER BY p.createdAt DESC")
+    @Query("SELECT p FROM Project p ORDER BY p.createdAt DESC")
     List<Project> findAllByOrderByCreatedAtDesc();
 
+    // Keyset pages walk idx_projects_created_at_id, so a deep page costs the same as the first one
+    @Query("SELECT p FROM Project p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findFirstPage(Limit limit);
+
+    @Query("SELECT p FROM Project p WHERE (p.createdAt, p.id) < (:createdAt, :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findPageAfter(LocalDateTime createdAt, Long id, Limit limit);
+
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.projectPoints WHERE p IN :projects")
+    List<Project> fetchProjectPoints(List<Project> projects);
+
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.technologies WHERE p IN :projects")
+    List<Project> fetchTechnologies(List<Project> projects);
+
     @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.projectPoints LEFT JOIN FETCH p.technologies WHERE p.id = :id")
     Optional<Project> findByIdWithDetails(Long id);
+
+    @Query("SELECT p.profile.id FROM Project p WHERE p.id = :id")
+    Optional<Long> findProfileIdById(Long id);
+
+    // Technology index (TechnologyFilterService): whole join table at startup, then one profile or technology per change
+    @Query("SELECT new com.backend.portfolio.models.projections.TechnologyLink(p.id, p.profile.id, t.id) FROM Project p JOIN p.technologies t")
+    List<TechnologyLink> findAllTechnologyLinks();
+
+    @Query("SELECT new com.backend.portfolio.models.projections.TechnologyLink(p.id, p.profile.id, t.id) FROM Project p JOIN p.technologies t WHERE p.profile.id = :profileId")
+    List<TechnologyLink> findTechnologyLinksByProfileId(Long profileId);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.TechnologyLink(p.id, p.profile.id, t.id) FROM Project p JOIN p.technologies t WHERE t.id = :technologyId")
+    List<TechnologyLink> findTechnologyLinksByTechnologyId(Long technologyId);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(p), MAX(p.updatedAt), SUM(p.id)) FROM Project p WHERE p.profile.id = :profileId")
+    ResourceVersion findVersionByProfileId(Long profileId);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(pp), MAX(pp.updatedAt), SUM(pp.id)) FROM ProjectPoint pp WHERE pp.project.profile.id = :profileId")
+    ResourceVersion findPointsVersionByProfileId(Long profileId);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(t), MAX(t.updatedAt), SUM(t.id)) FROM Project p JOIN p.technologies t WHERE p.profile.id = :profileId")
+    ResourceVersion findTechnologiesVersionByProfileId(Long profileId);
 }
 
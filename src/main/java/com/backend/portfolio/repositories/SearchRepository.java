@@ -0,0 +1,61 @@
+package com.backend.portfolio.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import com.backend.portfolio.models.entities.Project;
+import com.backend.portfolio.models.projections.SearchHitView;
+
+/**
+ * Full-text search over the generated search_vector columns (V3__search_vectors.sql, PostgreSQL only).
+ * Each branch is answered from its GIN index, highlights are only built for the returned page.
+ * The body is HTML-escaped before ts_headline, so the only markup in a highlight is its <mark> tags.
+ */
+@org.springframework.stereotype.Repository
+public interface SearchRepository extends Repository<Project, Long> {
+
+    @Query(nativeQuery = true, value = """
+            WITH terms AS (SELECT websearch_to_tsquery('english', :query) AS tsq)
+            SELECT hit.type, hit.id, hit.parent_id AS "parentId", hit.title,
+                   ts_headline('english',
+                               replace(replace(replace(replace(replace(hit.body,
+                                   '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '"', '&quot;'), '''', '&#39;'),
+                               terms.tsq,
+                               'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5') AS highlight,
+                   hit.rank
+            FROM (
+                SELECT matched.* FROM (
+                    SELECT 'PROJECT' AS type, p.id, p.id AS parent_id, p.name AS title, p.name AS body,
+                           CAST(ts_rank_cd(p.search_vector, terms.tsq) AS double precision) AS rank
+                    FROM projects p, terms
+                    WHERE p.profile_id = :profileId AND p.search_vector @@ terms.tsq
+                    UNION ALL
+                    SELECT 'PROJECT_POINT', pp.id, p.id, p.name, pp.content,
+                           CAST(ts_rank_cd(pp.search_vector, terms.tsq) AS double precision)
+                    FROM project_points pp JOIN projects p ON p.id = pp.project_id, terms
+                    WHERE p.profile_id = :profileId AND pp.search_vector @@ terms.tsq
+                    UNION ALL
+                    SELECT 'EXPERIENCE_POINT', ep.id, e.id, e.company, ep.content,
+                           CAST(ts_rank_cd(ep.search_vector, terms.tsq) AS double precision)
+                    FROM experience_points ep JOIN experiences e ON e.id = ep.experience_id, terms
+                    WHERE e.profile_id = :profileId AND ep.search_vector @@ terms.tsq
+                    UNION ALL
+                    SELECT 'FAQ', f.id, f.id, f.question, concat_ws(' ', f.question, f.answer),
+                           CAST(ts_rank_cd(f.search_vector, terms.tsq) AS double precision)
+                    FROM faqs f, terms
+                    WHERE f.profile_id = :profileId AND f.search_vector @@ terms.tsq
+                    UNION ALL
+                    SELECT 'ACHIEVEMENT', a.id, a.id, a.name, concat_ws(' ', a.name, a.description),
+                           CAST(ts_rank_cd(a.search_vector, terms.tsq) AS double precision)
+                    FROM achievements a, terms
+                    WHERE a.profile_id = :profileId AND a.search_vector @@ terms.tsq
+                ) matched
+                ORDER BY matched.rank DESC, matched.type, matched.id
+                LIMIT :limit OFFSET :offset
+            ) hit, terms
+            ORDER BY hit.rank DESC, hit.type, hit.id
+            """)
+    List<SearchHitView> search(Long profileId, String query, int limit, int offset);
+}
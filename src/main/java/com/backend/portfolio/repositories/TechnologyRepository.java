@@ -3,11 +3,18 @@ package com.backend.portfolio.repositories;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import com.backend.portfolio.configurations.SecondLevelCacheConfig;
 import com.backend.portfolio.models.entities.Technology;
+import com.backend.portfolio.models.projections.ResourceVersion;
+import com.backend.portfolio.models.responses.TechnologyResponse;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface TechnologyRepository extends JpaRepository<Technology, Long> {
@@ -18,7 +25,15 @@ public interface TechnologyRepository extends JpaRepository<Technology, Long> {
 
     List<Technology> findAllByCategoryOrderByNameAsc(String category);
 
-    @Query("SELECT t FROM Technology t JOIN t.profiles p WHERE p.id = :profileId ORDER BY t.category ASC, t.name ASC")
-    List<Technology> findAllByProfileIdOrderByCategoryAndName(Long profileId);
+    // Result rows are kept in the query cache until a write touches technologies or profiles_technologies
+    @Query("SELECT new com.backend.portfolio.models.responses.TechnologyResponse(t.id, t.name, t.category, t.type, t.proficiency, t.banner, t.github) FROM Technology t JOIN t.profiles p WHERE p.id = :profileId ORDER BY t.category ASC, t.name ASC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.TECHNOLOGIES_BY_PROFILE_ID_QUERY_REGION)
+    })
+    List<TechnologyResponse> findAllResponsesByProfileId(Long profileId);
+
+    @Query("SELECT new com.backend.portfolio.models.projections.ResourceVersion(COUNT(t), MAX(t.updatedAt), SUM(t.id)) FROM Technology t JOIN t.profiles p WHERE p.id = :profileId")
+    ResourceVersion findVersionByProfileId(Long profileId);
 }
 
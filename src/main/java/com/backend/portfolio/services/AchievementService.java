@@ -4,14 +4,20 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Achievement;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.AchievementRequestInsert;
 import com.backend.portfolio.models.responses.AchievementResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.AchievementRequestUpdate;
 import com.backend.portfolio.repositories.AchievementRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -26,6 +32,7 @@ public class AchievementService {
 
     private final AchievementRepository achievementRepository;
     private final ProfileRepository profileRepository;
+    private final PortfolioChangePublisher portfolioChangePublisher;
 
     /**
      * Get all achievements ordered by creation date (descending)
@@ -43,12 +50,12 @@ public class AchievementService {
      * Get all achievements for a specific profile
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ACHIEVEMENTS_CACHE, key = "#profileId",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    @StaleWhileRevalidate
     public List<AchievementResponse> getAllAchievementsByProfileId(Long profileId) {
         log.info("Fetching all achievements for profile id: {}", profileId);
-        return achievementRepository.findAllByProfileIdOrderByDateAchievedDesc(profileId)
-                .stream()
-                .map(AchievementResponse::fromAchievement)
-                .collect(Collectors.toList());
+        return achievementRepository.findAllResponsesByProfileId(profileId);
     }
 
     /**
@@ -84,6 +91,7 @@ public class AchievementService {
                 .build();
 
         Achievement savedAchievement = achievementRepository.save(achievement);
+        portfolioChangePublisher.publish(PortfolioSection.ACHIEVEMENT, savedAchievement.getId(), savedAchievement.getProfile().getId());
         log.info("Achievement created successfully with id: {}", savedAchievement.getId());
 
         return AchievementResponse.fromAchievement(savedAchievement);
@@ -98,6 +106,7 @@ public class AchievementService {
 
         Achievement achievement = achievementRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Achievement not found with id: " + id));
+        Long previousProfileId = achievement.getProfile().getId();
 
         updateIfNotNull(request.getName(), achievement::setName);
         updateIfNotNull(request.getDateAchieved(), achievement::setDateAchieved);
@@ -114,6 +123,7 @@ public class AchievementService {
         }
 
         Achievement updatedAchievement = achievementRepository.save(achievement);
+        portfolioChangePublisher.publish(PortfolioSection.ACHIEVEMENT, id, previousProfileId, updatedAchievement.getProfile().getId());
         log.info("Achievement updated successfully with id: {}", updatedAchievement.getId());
 
         return AchievementResponse.fromAchievement(updatedAchievement);
@@ -126,11 +136,11 @@ public class AchievementService {
     public void deleteAchievement(Long id) {
         log.info("Deleting achievement with id: {}", id);
 
-        if (!achievementRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Achievement not found with id: " + id);
-        }
+        Long profileId = achievementRepository.findProfileIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Achievement not found with id: " + id));
 
         achievementRepository.deleteById(id);
+        portfolioChangePublisher.publish(PortfolioSection.ACHIEVEMENT, id, profileId);
         log.info("Achievement deleted successfully with id: {}", id);
     }
 
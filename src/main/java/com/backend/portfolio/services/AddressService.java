@@ -4,14 +4,20 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Address;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.AddressRequestInsert;
 import com.backend.portfolio.models.responses.AddressResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.AddressRequestUpdate;
 import com.backend.portfolio.repositories.AddressRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -26,6 +32,7 @@ public class AddressService {
 
     private final AddressRepository addressRepository;
     private final ProfileRepository profileRepository;
+    private final PortfolioChangePublisher portfolioChangePublisher;
 
     /**
      * Get all addresses ordered by creation date (descending)
@@ -43,12 +50,12 @@ public class AddressService {
      * Get all addresses for a specific profile
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ADDRESSES_CACHE, key = "#profileId",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    @StaleWhileRevalidate
     public List<AddressResponse> getAllAddressesByProfileId(Long profileId) {
         log.info("Fetching all addresses for profile id: {}", profileId);
-        return addressRepository.findAllByProfileIdOrderByCreatedAtDesc(profileId)
-                .stream()
-                .map(AddressResponse::fromAddress)
-                .collect(Collectors.toList());
+        return addressRepository.findAllResponsesByProfileId(profileId);
     }
 
     /**
@@ -87,6 +94,7 @@ public class AddressService {
                 .build();
 
         Address savedAddress = addressRepository.save(address);
+        portfolioChangePublisher.publish(PortfolioSection.ADDRESS, savedAddress.getId(), savedAddress.getProfile().getId());
         log.info("Address created successfully with id: {}", savedAddress.getId());
 
         return AddressResponse.fromAddress(savedAddress);
@@ -101,6 +109,7 @@ public class AddressService {
 
         Address address = addressRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Address not found with id: " + id));
+        Long previousProfileId = address.getProfile().getId();
 
         updateIfNotNull(request.getStreet(), address::setStreet);
         updateIfNotNull(request.getLandmark(), address::setLandmark);
@@ -120,6 +129,7 @@ public class AddressService {
         }
 
         Address updatedAddress = addressRepository.save(address);
+        portfolioChangePublisher.publish(PortfolioSection.ADDRESS, id, previousProfileId, updatedAddress.getProfile().getId());
         log.info("Address updated successfully with id: {}", updatedAddress.getId());
 
         return AddressResponse.fromAddress(updatedAddress);
@@ -132,11 +142,11 @@ public class AddressService {
     public void deleteAddress(Long id) {
         log.info("Deleting address with id: {}", id);
 
-        if (!addressRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Address not found with id: " + id);
-        }
+        Long profileId = addressRepository.findProfileIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Address not found with id: " + id));
 
         addressRepository.deleteById(id);
+        portfolioChangePublisher.publish(PortfolioSection.ADDRESS, id, profileId);
         log.info("Address deleted successfully with id: {}", id);
     }
 
@@ -0,0 +1,151 @@
+package com.backend.portfolio.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.repositories.ProfileRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fills the public read caches of every profile once the application is ready,
+ * so the first visitors after a deploy do not pay for cold Hibernate, connection pool and JIT paths.
+ * Spring Boot only reports readiness (ACCEPTING_TRAFFIC) after ApplicationReadyEvent listeners return,
+ * so /actuator/health/readiness stays OUT_OF_SERVICE until the warm-up is done.
+ * Each profile is loaded in one read-only transaction, which StaleWhileRevalidateAspect does not wrap:
+ * the warm-up neither waits on its time limiter nor counts toward its circuit breaker, and never caches stale results.
+ * Profiles that fail are retried (app.cache-warmup.attempts, app.cache-warmup.retry-delay), those still failing
+ * are counted in portfolio.cache.warmup.failures and the pod becomes ready anyway, their caches are filled on
+ * their first request. When the profiles cannot even be listed the startup fails and the pod is restarted.
+ * Duration is recorded as the portfolio.cache.warmup timer.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheWarmUpService {
+
+    public static final String WARMUP_TIMER = "portfolio.cache.warmup";
+    public static final String WARMUP_FAILURES = "portfolio.cache.warmup.failures";
+
+    private final ProfileRepository profileRepository;
+    private final PortfolioService portfolioService;
+    private final ProjectService projectService;
+    private final ExperienceService experienceService;
+    private final ResourceVersionService resourceVersionService;
+    private final SerializedResponseService serializedResponseService;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache-warmup.attempts:3}")
+    private int attempts;
+
+    @Value("${app.cache-warmup.retry-delay:2s}")
+    private Duration retryDelay;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        AvailabilityChangeEvent.publish(applicationEventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        warmUp();
+    }
+
+    /**
+     * Load every per-profile public read (and its ETag) into the caches
+     */
+    public void warmUp() {
+        long start = System.nanoTime();
+        // Ids only, the profile itself (with its TEXT columns) is loaded by the cached read
+        List<Long> profileIds = profileRepository.findAllIdsByOrderByCreatedAtDesc();
+        log.info("Warming up public read caches for {} profiles", profileIds.size());
+
+        List<Long> failed = warmUpProfiles(profileIds);
+        for (int attempt = 2; attempt <= attempts && !failed.isEmpty(); attempt++) {
+            log.info("Retrying warm-up of {} profiles in {} ms (attempt {}/{})", failed.size(), retryDelay.toMillis(), attempt, attempts);
+            if (!pause()) {
+                break;
+            }
+            failed = warmUpProfiles(failed);
+        }
+
+        if (!failed.isEmpty()) {
+            // Readiness is not held back by a few profiles, they are loaded on their first request instead
+            log.error("Failed to warm up caches for profile ids: {} after {} attempts", failed, attempts);
+        }
+        meterRegistry.counter(WARMUP_FAILURES).increment(failed.size());
+
+        long durationNanos = System.nanoTime() - start;
+        Timer.builder(WARMUP_TIMER)
+                .description("Time spent filling the public read caches at startup")
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        log.info("Warmed up caches for {}/{} profiles in {} ms", profileIds.size() - failed.size(), profileIds.size(),
+                TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    }
+
+    /**
+     * Warm up the given profiles, returning those that failed and may succeed on a retry
+     */
+    private List<Long> warmUpProfiles(List<Long> profileIds) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        List<Long> failed = new ArrayList<>();
+        for (Long profileId : profileIds) {
+            try {
+                transaction.executeWithoutResult(status -> warmUpProfile(profileId));
+            } catch (ResourceNotFoundException e) {
+                // Deleted since it was listed, nothing to retry
+                log.debug("Skipped warm-up of deleted profile id: {}", profileId);
+            } catch (RuntimeException e) {
+                // A broken profile must not keep the other profiles from being warmed up
+                log.warn("Failed to warm up caches for profile id: {}", profileId, e);
+                failed.add(profileId);
+            }
+        }
+        return failed;
+    }
+
+    private void warmUpProfile(Long profileId) {
+        // The portfolio reads every section through its cached service, filling the section caches too
+        portfolioService.getPortfolioByProfileId(profileId);
+
+        resourceVersionService.getETag(CacheConfig.PORTFOLIO_CACHE, profileId);
+        for (String cacheName : CacheConfig.PORTFOLIO_SECTION_CACHES) {
+            resourceVersionService.getETag(cacheName, profileId);
+        }
+
+        if (serializedResponseService.isEnabled()) {
+            serializedResponseService.getSerializedResponse(CacheConfig.PROJECTS_CACHE, profileId,
+                    () -> projectService.getAllProjectsByProfileId(profileId));
+            serializedResponseService.getSerializedResponse(CacheConfig.EXPERIENCES_CACHE, profileId,
+                    () -> experienceService.getAllExperiencesByProfileId(profileId));
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(retryDelay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -4,14 +4,20 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Contact;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.ContactRequestInsert;
 import com.backend.portfolio.models.responses.ContactResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.ContactRequestUpdate;
 import com.backend.portfolio.repositories.ContactRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -26,6 +32,7 @@ public class ContactService {
 
     private final ContactRepository contactRepository;
     private final ProfileRepository profileRepository;
+    private final PortfolioChangePublisher portfolioChangePublisher;
 
     /**
      * Get all contacts ordered by creation date (descending)
@@ -43,12 +50,12 @@ public class ContactService {
      * Get all contacts for a specific profile
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CONTACTS_CACHE, key = "#profileId",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    @StaleWhileRevalidate
     public List<ContactResponse> getAllContactsByProfileId(Long profileId) {
         log.info("Fetching all contacts for profile id: {}", profileId);
-        return contactRepository.findAllByProfileIdOrderByCreatedAtDesc(profileId)
-                .stream()
-                .map(ContactResponse::fromContact)
-                .collect(Collectors.toList());
+        return contactRepository.findAllResponsesByProfileId(profileId);
     }
 
     /**
@@ -81,6 +88,7 @@ public class ContactService {
                 .build();
 
         Contact savedContact = contactRepository.save(contact);
+        portfolioChangePublisher.publish(PortfolioSection.CONTACT, savedContact.getId(), savedContact.getProfile().getId());
         log.info("Contact created successfully with id: {}", savedContact.getId());
 
         return ContactResponse.fromContact(savedContact);
@@ -95,6 +103,7 @@ public class ContactService {
 
         Contact contact = contactRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + id));
+        Long previousProfileId = contact.getProfile().getId();
 
         updateIfNotNull(request.getPlatform(), contact::setPlatform);
         updateIfNotNull(request.getUrl(), contact::setUrl);
@@ -108,6 +117,7 @@ public class ContactService {
         }
 
         Contact updatedContact = contactRepository.save(contact);
+        portfolioChangePublisher.publish(PortfolioSection.CONTACT, id, previousProfileId, updatedContact.getProfile().getId());
         log.info("Contact updated successfully with id: {}", updatedContact.getId());
 
         return ContactResponse.fromContact(updatedContact);
@@ -120,11 +130,11 @@ public class ContactService {
     public void deleteContact(Long id) {
         log.info("Deleting contact with id: {}", id);
 
-        if (!contactRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Contact not found with id: " + id);
-        }
+        Long profileId = contactRepository.findProfileIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + id));
 
         contactRepository.deleteById(id);
+        portfolioChangePublisher.publish(PortfolioSection.CONTACT, id, profileId);
         log.info("Contact deleted successfully with id: {}", id);
     }
 
@@ -4,14 +4,20 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Education;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.EducationRequestInsert;
 import com.backend.portfolio.models.responses.EducationResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.EducationRequestUpdate;
 import com.backend.portfolio.repositories.EducationRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -26,6 +32,7 @@ public class EducationService {
 
     private final EducationRepository educationRepository;
     private final ProfileRepository profileRepository;
+    private final PortfolioChangePublisher portfolioChangePublisher;
 
     /**
      * Get all educations across all profiles
@@ -54,12 +61,12 @@ public class EducationService {
      * Get all educations for a specific profile
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EDUCATIONS_CACHE, key = "#profileId",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    @StaleWhileRevalidate
     public List<EducationResponse> getAllEducationsByProfileId(Long profileId) {
         log.info("Fetching all educations for profile id: {}", profileId);
-        return educationRepository.findAllByProfileIdOrderByStartDateDesc(profileId)
-                .stream()
-                .map(EducationResponse::fromEducation)
-                .collect(Collectors.toList());
+        return educationRepository.findAllResponsesByProfileId(profileId);
     }
 
     /**
@@ -87,6 +94,7 @@ public class EducationService {
                 .build();
 
         Education savedEducation = educationRepository.save(education);
+        portfolioChangePublisher.publish(PortfolioSection.EDUCATION, savedEducation.getId(), savedEducation.getProfile().getId());
         log.info("Education created successfully with id: {}", savedEducation.getId());
 
         return EducationResponse.fromEducation(savedEducation);
@@ -101,6 +109,7 @@ public class EducationService {
 
         Education education = educationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Education not found with id: " + id));
+        Long previousProfileId = education.getProfile().getId();
 
         updateIfNotNull(request.getDegree(), education::setDegree);
         updateIfNotNull(request.getInstitution(), education::setInstitution);
@@ -120,6 +129,7 @@ public class EducationService {
         }
 
         Education updatedEducation = educationRepository.save(education);
+        portfolioChangePublisher.publish(PortfolioSection.EDUCATION, id, previousProfileId, updatedEducation.getProfile().getId());
         log.info("Education updated successfully with id: {}", updatedEducation.getId());
 
         return EducationResponse.fromEducation(updatedEducation);
@@ -132,11 +142,11 @@ public class EducationService {
     public void deleteEducation(Long id) {
         log.info("Deleting education with id: {}", id);
 
-        if (!educationRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Education not found with id: " + id);
-        }
+        Long profileId = educationRepository.findProfileIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Education not found with id: " + id));
 
         educationRepository.deleteById(id);
+        portfolioChangePublisher.publish(PortfolioSection.EDUCATION, id, profileId);
         log.info("Education deleted successfully with id: {}", id);
     }
 
@@ -1,10 +1,12 @@
 package com.backend.portfolio.services;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Experience;
 import com.backend.portfolio.models.entities.ExperiencePoint;
 import com.backend.portfolio.models.requests.ExperiencePointRequestInsert;
 import com.backend.portfolio.models.responses.ExperiencePointResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.ExperiencePointRequestUpdate;
 import com.backend.portfolio.repositories.ExperiencePointRepository;
 import com.backend.portfolio.repositories.ExperienceRepository;
@@ -24,6 +26,7 @@ public class ExperiencePointService {
 
     private final ExperiencePointRepository experiencePointRepository;
     private final ExperienceRepository experienceRepository;
+    private final PortfolioChangePublisher portfolioChangePublisher;
 
     /**
      * Get all experience points for a specific experience
@@ -64,6 +67,7 @@ public class ExperiencePointService {
                 .build();
 
         ExperiencePoint savedExperiencePoint = experiencePointRepository.save(experiencePoint);
+        portfolioChangePublisher.publish(PortfolioSection.EXPERIENCE, savedExperiencePoint.getId(), savedExperiencePoint.getExperience().getProfile().getId());
         log.info("Experience point created successfully with id: {}", savedExperiencePoint.getId());
 
         return ExperiencePointResponse.fromExperiencePoint(savedExperiencePoint);
@@ -78,6 +82,7 @@ public class ExperiencePointService {
 
         ExperiencePoint experiencePoint = experiencePointRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Experience point not found with id: " + id));
+        Long previousProfileId = experiencePoint.getExperience().getProfile().getId();
 
         updateIfNotNull(request.getContent(), experiencePoint::setContent);
 
@@ -88,6 +93,7 @@ public class ExperiencePointService {
         }
 
         ExperiencePoint updatedExperiencePoint = experiencePointRepository.save(experiencePoint);
+        portfolioChangePublisher.publish(PortfolioSection.EXPERIENCE, id, previousProfileId, updatedExperiencePoint.getExperience().getProfile().getId());
         log.info("Experience point updated successfully with id: {}", updatedExperiencePoint.getId());
 
         return ExperiencePointResponse.fromExperiencePoint(updatedExperiencePoint);
@@ -100,11 +106,11 @@ public class ExperiencePointService {
     public void deleteExperiencePoint(Long id) {
         log.info("Deleting experience point with id: {}", id);
 
-        if (!experiencePointRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Experience point not found with id: " + id);
-        }
+        Long profileId = experiencePointRepository.findProfileIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Experience point not found with id: " + id));
 
         experiencePointRepository.deleteById(id);
+        portfolioChangePublisher.publish(PortfolioSection.EXPERIENCE, id, profileId);
         log.info("Experience point deleted successfully with id: {}", id);
     }
 
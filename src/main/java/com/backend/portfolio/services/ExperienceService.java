@@ -6,16 +6,25 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Experience;
 import com.backend.portfolio.models.entities.ExperiencePoint;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.entities.Technology;
+import com.backend.portfolio.models.requests.PageCursor;
 import com.backend.portfolio.models.requests.ExperienceRequestInsert;
+import com.backend.portfolio.models.responses.CursorPage;
 import com.backend.portfolio.models.responses.ExperienceResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.ExperienceRequestUpdate;
 import com.backend.portfolio.repositories.ExperienceRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -32,6 +41,7 @@ public class ExperienceService {
     private final ExperienceRepository experienceRepository;
     private final ProfileRepository profileRepository;
     private final TechnologyRepository technologyRepository;
+    private final PortfolioChangePublisher portfolioChangePublisher;
 
     /**
      * Get all experiences ordered by creation date (descending)
@@ -40,18 +50,42 @@ public class ExperienceService {
     public List<ExperienceResponse> getAllExperiences() {
         log.info("Fetching all experiences");
         List<Experience> experiences = experienceRepository.findAllByOrderByCreatedAtDesc();
+        fetchDetails(experiences);
         return experiences.stream()
                 .map(ExperienceResponse::fromExperience)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get one page of experiences, newest first, continuing after the given cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ExperienceResponse> getExperiencesPage(String cursor, Integer size) {
+        log.info("Fetching experiences page after cursor: {}", cursor);
+        int limit = CursorPage.limitOf(size);
+        List<Experience> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = experienceRepository.findFirstPage(Limit.of(limit + 1));
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = experienceRepository.findPageAfter(after.getCreatedAt(), after.getId(), Limit.of(limit + 1));
+        }
+        fetchDetails(rows);
+        return CursorPage.of(rows, limit, ExperienceResponse::fromExperience,
+                experience -> new PageCursor(experience.getCreatedAt(), experience.getId()));
+    }
+
     /**
      * Get all experiences for a specific profile
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EXPERIENCES_CACHE, key = "#profileId",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    @StaleWhileRevalidate
     public List<ExperienceResponse> getAllExperiencesByProfileId(Long profileId) {
         log.info("Fetching all experiences for profile id: {}", profileId);
         List<Experience> experiences = experienceRepository.findAllByProfileIdOrderByStartDateDesc(profileId);
+        fetchDetails(experiences);
         return experiences.stream()
                 .map(ExperienceResponse::fromExperience)
                 .collect(Collectors.toList());
@@ -116,6 +150,7 @@ public class ExperienceService {
             savedExperience = experienceRepository.save(savedExperience);
         }
 
+        portfolioChangePublisher.publish(PortfolioSection.EXPERIENCE, savedExperience.getId(), savedExperience.getProfile().getId());
         log.info("Experience created successfully with id: {}", savedExperience.getId());
 
         return ExperienceResponse.fromExperience(savedExperience);
@@ -130,6 +165,7 @@ public class ExperienceService {
 
         Experience experience = experienceRepository.findByIdWithDetails(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Experience not found with id: " + id));
+        Long previousProfileId = experience.getProfile().getId();
 
         updateIfNotNull(request.getCompany(), experience::setCompany);
         updateIfNotNull(request.getPosition(), experience::setPosition);
@@ -157,6 +193,7 @@ public class ExperienceService {
         }
 
         Experience updatedExperience = experienceRepository.save(experience);
+        portfolioChangePublisher.publish(PortfolioSection.EXPERIENCE, id, previousProfileId, updatedExperience.getProfile().getId());
         log.info("Experience updated successfully with id: {}", updatedExperience.getId());
 
         return ExperienceResponse.fromExperience(updatedExperience);
@@ -169,11 +206,11 @@ public class ExperienceService {
     public void deleteExperience(Long id) {
         log.info("Deleting experience with id: {}", id);
 
-        if (!experienceRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Experience not found with id: " + id);
-        }
+        Long profileId = experienceRepository.findProfileIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Experience not found with id: " + id));
 
         experienceRepository.deleteById(id);
+        portfolioChangePublisher.publish(PortfolioSection.EXPERIENCE, id, profileId);
         log.info("Experience deleted successfully with id: {}", id);
     }
 
@@ -185,5 +222,16 @@ public class ExperienceService {
             setter.accept(value);
         }
     }
-}
 
+    /**
+     * Load the points and technologies of the experiences with one query per collection,
+     * into the same persistence context
+     */
+    private void fetchDetails(List<Experience> experiences) {
+        if (experiences.isEmpty()) {
+            return;
+        }
+        experienceRepository.fetchExperiencePoints(experiences);
+        experienceRepository.fetchTechnologies(experiences);
+    }
+}
@@ -4,14 +4,20 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Faq;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.FaqRequestInsert;
 import com.backend.portfolio.models.responses.FaqResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.FaqRequestUpdate;
 import com.backend.portfolio.repositories.FaqRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -26,6 +32,7 @@ public class FaqService {
 
     private final FaqRepository faqRepository;
     private final ProfileRepository profileRepository;
+    private final PortfolioChangePublisher portfolioChangePublisher;
 
     /**
      * Get all FAQs ordered by creation date (descending)
@@ -43,12 +50,12 @@ public class FaqService {
      * Get all FAQs for a specific profile
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.FAQS_CACHE, key = "#profileId",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    @StaleWhileRevalidate
     public List<FaqResponse> getAllFaqsByProfileId(Long profileId) {
         log.info("Fetching all FAQs for profile id: {}", profileId);
-        return faqRepository.findAllByProfileIdOrderByCreatedAtDesc(profileId)
-                .stream()
-                .map(FaqResponse::fromFaq)
-                .collect(Collectors.toList());
+        return faqRepository.findAllResponsesByProfileId(profileId);
     }
 
     /**
@@ -79,6 +86,7 @@ public class FaqService {
                 .build();
 
         Faq savedFaq = faqRepository.save(faq);
+        portfolioChangePublisher.publish(PortfolioSection.FAQ, savedFaq.getId(), savedFaq.getProfile().getId());
         log.info("FAQ created successfully with id: {}", savedFaq.getId());
 
         return FaqResponse.fromFaq(savedFaq);
@@ -93,6 +101,7 @@ public class FaqService {
 
         Faq faq = faqRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("FAQ not found with id: " + id));
+        Long previousProfileId = faq.getProfile().getId();
 
         updateIfNotNull(request.getQuestion(), faq::setQuestion);
         updateIfNotNull(request.getAnswer(), faq::setAnswer);
@@ -104,6 +113,7 @@ public class FaqService {
         }
 
         Faq updatedFaq = faqRepository.save(faq);
+        portfolioChangePublisher.publish(PortfolioSection.FAQ, id, previousProfileId, updatedFaq.getProfile().getId());
         log.info("FAQ updated successfully with id: {}", updatedFaq.getId());
 
         return FaqResponse.fromFaq(updatedFaq);
@@ -116,11 +126,11 @@ public class FaqService {
     public void deleteFaq(Long id) {
         log.info("Deleting FAQ with id: {}", id);
 
-        if (!faqRepository.existsById(id)) {
-            throw new ResourceNotFoundException("FAQ not found with id: " + id);
-        }
+        Long profileId = faqRepository.findProfileIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("FAQ not found with id: " + id));
 
         faqRepository.deleteById(id);
+        portfolioChangePublisher.publish(PortfolioSection.FAQ, id, profileId);
         log.info("FAQ deleted successfully with id: {}", id);
     }
 
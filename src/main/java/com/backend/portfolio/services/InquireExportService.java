@@ -0,0 +1,162 @@
+package com.backend.portfolio.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.portfolio.models.entities.Inquire;
+import com.backend.portfolio.models.states.enums.InquireExportFormat;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes every inquire to a stream as NDJSON or CSV, newest first.
+ * Rows come from a forward-only cursor fetch-size at a time and are detached once written,
+ * so memory stays flat however large the table is.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InquireExportService {
+
+    static final String CSV_HEADER = "id,profile_id,name,email,message,created_at";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // Rows per round trip of the cursor (PostgreSQL only uses a cursor inside a transaction, which this is)
+    @Value("${app.inquire-export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Write all inquires to the stream in the given format, returns the number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportInquires(InquireExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting all inquires as {}", format);
+        Session session = entityManager.unwrap(Session.class);
+        long rows = 0;
+        try (ScrollableResults<Inquire> results = session
+                .createSelectionQuery("SELECT i FROM Inquire i ORDER BY i.createdAt DESC, i.id DESC", Inquire.class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY);
+             RowWriter writer = format == InquireExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+            while (results.next()) {
+                Inquire inquire = results.get();
+                writer.write(inquire);
+                session.detach(inquire);
+                rows++;
+            }
+        }
+        log.info("Exported {} inquires as {}", rows, format);
+        return rows;
+    }
+
+    private interface RowWriter extends AutoCloseable {
+
+        void write(Inquire inquire) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(OutputStream out) throws IOException {
+            // Each row ends with its own newline instead of the default space between root values
+            generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Inquire inquire) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", inquire.getId());
+            // The id of an uninitialized proxy is read without loading the profile
+            generator.writeNumberField("profileId", inquire.getProfile().getId());
+            generator.writeStringField("name", inquire.getName());
+            generator.writeStringField("email", inquire.getEmail());
+            generator.writeStringField("message", inquire.getMessage());
+            generator.writeStringField("createdAt", String.valueOf(inquire.getCreatedAt()));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(OutputStream out) throws IOException {
+            writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(Inquire inquire) throws IOException {
+            writer.write(String.valueOf(inquire.getId()));
+            writer.write(',');
+            writer.write(String.valueOf(inquire.getProfile().getId()));
+            writer.write(',');
+            writer.write(escape(inquire.getName()));
+            writer.write(',');
+            writer.write(escape(inquire.getEmail()));
+            writer.write(',');
+            writer.write(escape(inquire.getMessage()));
+            writer.write(',');
+            writer.write(escape(inquire.getCreatedAt() == null ? null : inquire.getCreatedAt().toString()));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    // RFC 4180: fields holding a separator, quote or line break are quoted, quotes inside are doubled.
+    // Public form input starting like a formula is prefixed with ' and quoted, so spreadsheets show it as text
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (startsLikeFormula(value)) {
+            return "\"'" + value.replace("\"", "\"\"") + '"';
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean startsLikeFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
@@ -0,0 +1,311 @@
+package com.backend.portfolio.services;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.backend.portfolio.exceptions.custom.InquireQueueFullException;
+import com.backend.portfolio.models.requests.InquireRequestInsert;
+import com.backend.portfolio.models.responses.InquireResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind ingestion for the public inquiry form.
+ * Submissions are validated, put on a bounded in-memory queue and acknowledged right away,
+ * a single writer thread stores them as multi-row INSERTs of up to batch-size rows.
+ * Failures of the connection are retried, a batch rejected for the values of a row is written row by row
+ * and only the rows still rejected are dropped (portfolio.inquires.queue.dropped, reason "invalid").
+ * A full queue rejects the submission with InquireQueueFullException (429), and on shutdown
+ * the writer drains what is left for up to drain-timeout, after the web server has stopped taking requests.
+ * Queue depth is exposed as portfolio.inquires.queue.depth.
+ */
+@Service
+@ConditionalOnProperty(name = "app.inquire-queue.enabled", havingValue = "true")
+@Slf4j
+public class InquireQueueService implements SmartLifecycle {
+
+    public static final String DEPTH_GAUGE = "portfolio.inquires.queue.depth";
+    public static final String REJECTED_COUNTER = "portfolio.inquires.queue.rejected";
+    public static final String WRITTEN_COUNTER = "portfolio.inquires.queue.written";
+    public static final String DROPPED_COUNTER = "portfolio.inquires.queue.dropped";
+    public static final String FLUSH_TIMER = "portfolio.inquires.queue.flush";
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProfileExistenceService profileExistenceService;
+    private final BlockingQueue<QueuedInquire> queue;
+    private final int batchSize;
+    private final Duration drainTimeout;
+    private final long retryDelayMillis;
+    private final String nextId;
+
+    private final Counter rejected;
+    private final Counter written;
+    private final Counter droppedUnknownProfile;
+    private final Counter droppedFailed;
+    private final Counter droppedInvalid;
+    private final Timer flushTimer;
+
+    // Inquires accepted before start are written once the writer runs, the web server starts after it anyway
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public InquireQueueService(
+            JdbcTemplate jdbcTemplate,
+            EntityManagerFactory entityManagerFactory,
+            ProfileExistenceService profileExistenceService,
+            MeterRegistry meterRegistry,
+            @Value("${app.inquire-queue.capacity:10000}") int capacity,
+            @Value("${app.inquire-queue.batch-size:100}") int batchSize,
+            @Value("${app.inquire-queue.drain-timeout:30s}") Duration drainTimeout,
+            @Value("${app.inquire-queue.retry-delay:1s}") Duration retryDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.profileExistenceService = profileExistenceService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.drainTimeout = drainTimeout;
+        this.retryDelayMillis = retryDelay.toMillis();
+        // Ids come from inquires_id_seq like Hibernate's; under the pooled optimizer each value reserves its own block
+        this.nextId = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect()
+                .getSequenceSupport().getSelectSequenceNextValString("inquires_id_seq");
+
+        Gauge.builder(DEPTH_GAUGE, queue, BlockingQueue::size)
+                .description("Inquires accepted but not yet written")
+                .register(meterRegistry);
+        rejected = Counter.builder(REJECTED_COUNTER)
+                .description("Inquires rejected with 429 because the queue was full")
+                .register(meterRegistry);
+        written = Counter.builder(WRITTEN_COUNTER)
+                .description("Inquires written from the queue")
+                .register(meterRegistry);
+        droppedUnknownProfile = Counter.builder(DROPPED_COUNTER)
+                .description("Queued inquires that could not be written")
+                .tag("reason", "unknown-profile")
+                .register(meterRegistry);
+        droppedFailed = Counter.builder(DROPPED_COUNTER)
+                .description("Queued inquires that could not be written")
+                .tag("reason", "failed")
+                .register(meterRegistry);
+        droppedInvalid = Counter.builder(DROPPED_COUNTER)
+                .description("Queued inquires that could not be written")
+                .tag("reason", "invalid")
+                .register(meterRegistry);
+        flushTimer = Timer.builder(FLUSH_TIMER)
+                .description("Time to write one batch of queued inquires")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Accept a validated inquire for writing, without touching the database
+     */
+    public InquireResponse enqueue(InquireRequestInsert request) {
+        profileExistenceService.checkNotKnownMissing(request.getProfileId());
+        if (!accepting || !queue.offer(new QueuedInquire(request, LocalDateTime.now()))) {
+            rejected.increment();
+            log.warn("Inquire queue full ({} pending), rejecting inquire for profile id: {}",
+                    queue.size(), request.getProfileId());
+            throw new InquireQueueFullException("Too many inquires right now. Please try again later.");
+        }
+        return InquireResponse.builder()
+                .name(request.getName())
+                .email(request.getEmail())
+                .message(request.getMessage())
+                .build();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        accepting = true;
+        writerThread = new Thread(this::writeLoop, "inquire-queue-writer");
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+        try {
+            writerThread.join(drainTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            log.error("Inquire queue not drained within {}, {} inquires lost", drainTimeout, queue.size());
+            writerThread.interrupt();
+        } else {
+            log.info("Inquire queue drained");
+        }
+        writerThread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writerThread != null;
+    }
+
+    // Stops after the web server lifecycles (DEFAULT_PHASE - 1024 and - 2048), so inquires accepted
+    // during graceful shutdown are drained, and before the DataSource is closed
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void writeLoop() {
+        List<QueuedInquire> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedInquire first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeWithRetry(List<QueuedInquire> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                int rows = flushTimer.record(() -> write(batch));
+                written.increment(rows);
+                if (rows < batch.size()) {
+                    droppedUnknownProfile.increment(batch.size() - rows);
+                    log.warn("Dropped {} queued inquires for unknown profiles", batch.size() - rows);
+                }
+                return;
+            } catch (DataAccessException e) {
+                if (isRowFailure(e)) {
+                    writeRowByRow(batch, e);
+                    return;
+                }
+                if (attempt == MAX_ATTEMPTS) {
+                    droppedFailed.increment(batch.size());
+                    log.error("Failed to write {} queued inquires after {} attempts", batch.size(), attempt, e);
+                    return;
+                }
+                log.warn("Failed to write {} queued inquires, retrying in {} ms: {}",
+                        batch.size(), retryDelayMillis, e.getMessage());
+                Thread.sleep(retryDelayMillis);
+            }
+        }
+    }
+
+    /**
+     * One bad row fails the whole multi-row INSERT, so the rows are written on their own
+     * and only those that still fail are dropped
+     */
+    private void writeRowByRow(List<QueuedInquire> batch, DataAccessException e) throws InterruptedException {
+        if (batch.size() > 1) {
+            log.warn("Failed to write {} queued inquires in one statement, writing them one by one: {}",
+                    batch.size(), describe(e));
+            for (QueuedInquire inquire : batch) {
+                writeWithRetry(List.of(inquire));
+            }
+            return;
+        }
+
+        // The exception message may quote the submitted values, only the shape of the row is logged
+        QueuedInquire inquire = batch.get(0);
+        droppedInvalid.increment();
+        log.error("Dropped queued inquire for profile id: {} accepted at {} (name {} chars, email {} chars, message {} chars): {}",
+                inquire.request().getProfileId(), inquire.acceptedAt(), length(inquire.request().getName()),
+                length(inquire.request().getEmail()), length(inquire.request().getMessage()), describe(e));
+    }
+
+    /**
+     * Failures caused by the values of a row (constraint violation, value too long), which a retry cannot fix.
+     * Lost connections and timeouts are retried instead.
+     */
+    private static boolean isRowFailure(DataAccessException e) {
+        return e instanceof NonTransientDataAccessException && !(e instanceof DataAccessResourceFailureException);
+    }
+
+    /**
+     * Exception type and SQL state, without the driver message that may contain submitted values
+     */
+    private static String describe(DataAccessException e) {
+        return e.getMostSpecificCause() instanceof SQLException sqlException
+                ? e.getClass().getSimpleName() + " (SQL state " + sqlException.getSQLState() + ")"
+                : e.getClass().getSimpleName();
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * Insert the batch with one statement, rows for profiles that no longer exist are skipped by the join.
+     * Returns the number of rows written.
+     */
+    int write(List<QueuedInquire> batch) {
+        String sql = insertSql(batch.size());
+        return jdbcTemplate.update(sql, (PreparedStatement statement) -> {
+            int index = 1;
+            for (QueuedInquire inquire : batch) {
+                index = bind(statement, index, inquire);
+            }
+        });
+    }
+
+    private String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder("""
+                INSERT INTO inquires (id, name, email, message, profile_id, created_at, updated_at)
+                SELECT %s, v.name, v.email, v.message, v.profile_id, v.created_at, v.created_at
+                FROM (VALUES """.formatted(nextId));
+        for (int i = 0; i < rows; i++) {
+            // pgjdbc binds timestamps untyped, which VALUES would otherwise resolve to text
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, CAST(? AS TIMESTAMP))");
+        }
+        sql.append(") AS v (name, email, message, profile_id, created_at) JOIN profiles p ON p.id = v.profile_id");
+        return sql.toString();
+    }
+
+    private static int bind(PreparedStatement statement, int index, QueuedInquire inquire) throws SQLException {
+        statement.setString(index++, inquire.request().getName());
+        statement.setString(index++, inquire.request().getEmail());
+        statement.setString(index++, inquire.request().getMessage());
+        statement.setLong(index++, inquire.request().getProfileId());
+        statement.setTimestamp(index++, Timestamp.valueOf(inquire.acceptedAt()));
+        return index;
+    }
+
+    // created_at is the time the inquire was accepted, not when the writer got to it
+    record QueuedInquire(InquireRequestInsert request, LocalDateTime acceptedAt) {
+    }
+}
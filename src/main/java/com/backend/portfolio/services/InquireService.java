@@ -4,11 +4,14 @@ import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Inquire;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.InquireRequestInsert;
+import com.backend.portfolio.models.requests.PageCursor;
+import com.backend.portfolio.models.responses.CursorPage;
 import com.backend.portfolio.models.responses.InquireResponse;
 import com.backend.portfolio.repositories.InquireRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +38,24 @@ public class InquireService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get one page of inquires, newest first, continuing after the given cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<InquireResponse> getInquiresPage(String cursor, Integer size) {
+        log.info("Fetching inquires page after cursor: {}", cursor);
+        int limit = CursorPage.limitOf(size);
+        List<Inquire> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = inquireRepository.findFirstPage(Limit.of(limit + 1));
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = inquireRepository.findPageAfter(after.getCreatedAt(), after.getId(), Limit.of(limit + 1));
+        }
+        return CursorPage.of(rows, limit, InquireResponse::fromInquire,
+                inquire -> new PageCursor(inquire.getCreatedAt(), inquire.getId()));
+    }
+
     /**
      * Get all inquires for a specific profile
      */
@@ -0,0 +1,129 @@
+package com.backend.portfolio.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.portfolio.events.PortfolioChangePublisher;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.models.responses.PortfolioDeleteResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+import com.backend.portfolio.repositories.ProfileRepository;
+import com.backend.portfolio.repositories.ProjectRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes a profile or a project with one set-based DELETE per table, children first.
+ * The cascading repository deletes load every child entity and remove it row by row instead.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioDeleteService {
+
+    private static final String EXPERIENCES_OF_PROFILE = "(SELECT id FROM experiences WHERE profile_id = :id)";
+    private static final String PROJECTS_OF_PROFILE = "(SELECT id FROM projects WHERE profile_id = :id)";
+
+    // Table -> statement, in dependency order (children before their parents)
+    private static final Map<String, String> PROFILE_STATEMENTS = new LinkedHashMap<>();
+    private static final Map<String, String> PROJECT_STATEMENTS = new LinkedHashMap<>();
+
+    static {
+        PROFILE_STATEMENTS.put("experience_points",
+                "DELETE FROM experience_points WHERE experience_id IN " + EXPERIENCES_OF_PROFILE);
+        PROFILE_STATEMENTS.put("experiences_technologies",
+                "DELETE FROM experiences_technologies WHERE experience_id IN " + EXPERIENCES_OF_PROFILE);
+        PROFILE_STATEMENTS.put("experiences", "DELETE FROM experiences WHERE profile_id = :id");
+        PROFILE_STATEMENTS.put("project_points",
+                "DELETE FROM project_points WHERE project_id IN " + PROJECTS_OF_PROFILE);
+        PROFILE_STATEMENTS.put("projects_technologies",
+                "DELETE FROM projects_technologies WHERE project_id IN " + PROJECTS_OF_PROFILE);
+        PROFILE_STATEMENTS.put("projects", "DELETE FROM projects WHERE profile_id = :id");
+        PROFILE_STATEMENTS.put("profiles_technologies", "DELETE FROM profiles_technologies WHERE profile_id = :id");
+        PROFILE_STATEMENTS.put("addresses", "DELETE FROM addresses WHERE profile_id = :id");
+        PROFILE_STATEMENTS.put("contacts", "DELETE FROM contacts WHERE profile_id = :id");
+        PROFILE_STATEMENTS.put("educations", "DELETE FROM educations WHERE profile_id = :id");
+        PROFILE_STATEMENTS.put("achievements", "DELETE FROM achievements WHERE profile_id = :id");
+        PROFILE_STATEMENTS.put("inquires", "DELETE FROM inquires WHERE profile_id = :id");
+        PROFILE_STATEMENTS.put("faqs", "DELETE FROM faqs WHERE profile_id = :id");
+        PROFILE_STATEMENTS.put("profiles", "DELETE FROM profiles WHERE id = :id");
+
+        PROJECT_STATEMENTS.put("project_points", "DELETE FROM project_points WHERE project_id = :id");
+        PROJECT_STATEMENTS.put("projects_technologies", "DELETE FROM projects_technologies WHERE project_id = :id");
+        PROJECT_STATEMENTS.put("projects", "DELETE FROM projects WHERE id = :id");
+    }
+
+    private final EntityManager entityManager;
+    private final PortfolioChangePublisher portfolioChangePublisher;
+    private final ProfileRepository profileRepository;
+    private final ProjectRepository projectRepository;
+
+    /**
+     * Delete a profile and everything it owns, technologies themselves are shared and kept
+     */
+    @Transactional
+    public PortfolioDeleteResponse deleteProfile(Long id) {
+        log.info("Bulk deleting profile with id: {}", id);
+
+        if (!profileRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Profile not found with id: " + id);
+        }
+
+        PortfolioDeleteResponse response = execute(PortfolioSection.PROFILE, id, PROFILE_STATEMENTS);
+        portfolioChangePublisher.publish(PortfolioSection.PROFILE, id, id);
+        log.info("Profile bulk deleted with id: {}, {} rows in {} ms: {}",
+                id, response.getRows(), response.getDurationMs(), response.getDeleted());
+        return response;
+    }
+
+    /**
+     * Delete a project with its points and technology links
+     */
+    @Transactional
+    public PortfolioDeleteResponse deleteProject(Long id) {
+        log.info("Bulk deleting project with id: {}", id);
+
+        Long profileId = projectRepository.findProfileIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+
+        PortfolioDeleteResponse response = execute(PortfolioSection.PROJECT, id, PROJECT_STATEMENTS);
+        portfolioChangePublisher.publish(PortfolioSection.PROJECT, id, profileId);
+        log.info("Project bulk deleted with id: {}, {} rows in {} ms: {}",
+                id, response.getRows(), response.getDurationMs(), response.getDeleted());
+        return response;
+    }
+
+    private PortfolioDeleteResponse execute(PortfolioSection section, Long id, Map<String, String> statements) {
+        long start = System.nanoTime();
+
+        // Bulk statements bypass the persistence context: write pending changes first, drop stale entities after
+        entityManager.flush();
+        Map<String, Integer> deleted = new LinkedHashMap<>();
+        int rows = 0;
+        for (Map.Entry<String, String> statement : statements.entrySet()) {
+            // The query space limits second-level cache eviction to regions mapped to this table
+            int count = entityManager.createNativeQuery(statement.getValue())
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedQuerySpace(statement.getKey())
+                    .setParameter("id", id)
+                    .executeUpdate();
+            deleted.put(statement.getKey(), count);
+            rows += count;
+        }
+        entityManager.clear();
+
+        return PortfolioDeleteResponse.builder()
+                .section(section)
+                .id(id)
+                .deleted(deleted)
+                .rows(rows)
+                .durationMs((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.backend.portfolio.services;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.models.responses.PortfolioResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioService {
+
+    private final ProfileService profileService;
+    private final AddressService addressService;
+    private final ContactService contactService;
+    private final EducationService educationService;
+    private final ExperienceService experienceService;
+    private final ProjectService projectService;
+    private final AchievementService achievementService;
+    private final TechnologyService technologyService;
+    private final FaqService faqService;
+
+    /**
+     * Get the complete portfolio of a profile as a single document.
+     * The result is cached until an admin write touches the profile.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PORTFOLIO_CACHE, key = "#profileId",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    @StaleWhileRevalidate
+    public PortfolioResponse getPortfolioByProfileId(Long profileId) {
+        log.info("Building portfolio for profile id: {}", profileId);
+        return PortfolioResponse.builder()
+                .profile(profileService.getProfileById(profileId))
+                .addresses(addressService.getAllAddressesByProfileId(profileId))
+                .contacts(contactService.getAllContactsByProfileId(profileId))
+                .educations(educationService.getAllEducationsByProfileId(profileId))
+                .experiences(experienceService.getAllExperiencesByProfileId(profileId))
+                .projects(projectService.getAllProjectsByProfileId(profileId))
+                .achievements(achievementService.getAllAchievementsByProfileId(profileId))
+                .technologies(technologyService.getAllTechnologiesByProfileId(profileId))
+                .faqs(faqService.getAllFaqsByProfileId(profileId))
+                .build();
+    }
+}
@@ -0,0 +1,424 @@
+package com.backend.portfolio.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.portfolio.events.PortfolioChangePublisher;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.models.entities.Achievement;
+import com.backend.portfolio.models.entities.Address;
+import com.backend.portfolio.models.entities.Contact;
+import com.backend.portfolio.models.entities.Education;
+import com.backend.portfolio.models.entities.Experience;
+import com.backend.portfolio.models.entities.ExperiencePoint;
+import com.backend.portfolio.models.entities.Faq;
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.entities.Project;
+import com.backend.portfolio.models.entities.ProjectPoint;
+import com.backend.portfolio.models.entities.Technology;
+import com.backend.portfolio.models.responses.AchievementResponse;
+import com.backend.portfolio.models.responses.AddressResponse;
+import com.backend.portfolio.models.responses.ContactResponse;
+import com.backend.portfolio.models.responses.EducationResponse;
+import com.backend.portfolio.models.responses.ExperienceResponse;
+import com.backend.portfolio.models.responses.FaqResponse;
+import com.backend.portfolio.models.responses.PortfolioImportResponse;
+import com.backend.portfolio.models.responses.ProfileResponse;
+import com.backend.portfolio.models.responses.ProjectResponse;
+import com.backend.portfolio.models.responses.TechnologyResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+import com.backend.portfolio.repositories.AchievementRepository;
+import com.backend.portfolio.repositories.AddressRepository;
+import com.backend.portfolio.repositories.ContactRepository;
+import com.backend.portfolio.repositories.EducationRepository;
+import com.backend.portfolio.repositories.ExperiencePointRepository;
+import com.backend.portfolio.repositories.ExperienceRepository;
+import com.backend.portfolio.repositories.FaqRepository;
+import com.backend.portfolio.repositories.ProfileRepository;
+import com.backend.portfolio.repositories.ProjectPointRepository;
+import com.backend.portfolio.repositories.ProjectRepository;
+import com.backend.portfolio.repositories.TechnologyRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves a whole profile graph in and out as one JSON document, shaped like the portfolio snapshot.
+ * Both directions stream section by section, so neither side holds the full document in memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioTransferService {
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final PortfolioChangePublisher portfolioChangePublisher;
+
+    private final ProfileService profileService;
+    private final AddressService addressService;
+    private final ContactService contactService;
+    private final EducationService educationService;
+    private final ExperienceService experienceService;
+    private final ProjectService projectService;
+    private final AchievementService achievementService;
+    private final TechnologyService technologyService;
+    private final FaqService faqService;
+
+    private final ProfileRepository profileRepository;
+    private final AddressRepository addressRepository;
+    private final ContactRepository contactRepository;
+    private final EducationRepository educationRepository;
+    private final ExperienceRepository experienceRepository;
+    private final ExperiencePointRepository experiencePointRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectPointRepository projectPointRepository;
+    private final AchievementRepository achievementRepository;
+    private final TechnologyRepository technologyRepository;
+    private final FaqRepository faqRepository;
+
+    // Rows written between flush + clear, keeps the persistence context small while JDBC batches the inserts
+    @Value("${app.portfolio-import.flush-size:200}")
+    private int flushSize;
+
+    /**
+     * Fail before anything is streamed when the profile does not exist
+     */
+    @Transactional(readOnly = true)
+    public void checkExportable(Long profileId) {
+        if (!profileRepository.existsById(profileId)) {
+            throw new ResourceNotFoundException("Profile not found with id: " + profileId);
+        }
+    }
+
+    /**
+     * Write the complete portfolio of a profile to the stream, one section at a time
+     */
+    @Transactional(readOnly = true)
+    public void exportPortfolio(Long profileId, OutputStream out) throws IOException {
+        log.info("Exporting portfolio for profile id: {}", profileId);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            writeSection(generator, "profile", profileService.getProfileById(profileId));
+            writeSection(generator, "addresses", addressService.getAllAddressesByProfileId(profileId));
+            writeSection(generator, "contacts", contactService.getAllContactsByProfileId(profileId));
+            writeSection(generator, "educations", educationService.getAllEducationsByProfileId(profileId));
+            writeSection(generator, "experiences", experienceService.getAllExperiencesByProfileId(profileId));
+            writeSection(generator, "projects", projectService.getAllProjectsByProfileId(profileId));
+            writeSection(generator, "achievements", achievementService.getAllAchievementsByProfileId(profileId));
+            writeSection(generator, "technologies", technologyService.getAllTechnologiesByProfileId(profileId));
+            writeSection(generator, "faqs", faqService.getAllFaqsByProfileId(profileId));
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Create a new profile with all its sections from an exported document.
+     * The profile has to come first, ids in the document are ignored and technologies are matched by name.
+     */
+    @Transactional
+    public PortfolioImportResponse importPortfolio(InputStream in) throws IOException {
+        long startedAt = System.nanoTime();
+        ImportContext context = new ImportContext();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Portfolio document must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.currentName();
+                parser.nextToken();
+                if ("profile".equals(section)) {
+                    context.profile = importProfile(parser.readValueAs(ProfileResponse.class), context);
+                    continue;
+                }
+                if (context.profile == null) {
+                    throw new IllegalArgumentException("Portfolio document must start with the profile");
+                }
+                importSection(section, parser, context);
+            }
+        }
+        if (context.profile == null) {
+            throw new IllegalArgumentException("Portfolio document has no profile");
+        }
+
+        linkProfileTechnologies(context);
+        entityManager.flush();
+        entityManager.clear();
+
+        Long profileId = context.profile.getId();
+        portfolioChangePublisher.publish(PortfolioSection.PROFILE, profileId, profileId);
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        int rows = context.counts.values().stream().mapToInt(Integer::intValue).sum();
+        double rowsPerSecond = rows * 1000.0 / Math.max(durationMs, 1);
+        log.info("Imported portfolio as profile id: {}, {} rows in {} ms ({} rows/s)",
+                profileId, rows, durationMs, Math.round(rowsPerSecond));
+
+        return PortfolioImportResponse.builder()
+                .profileId(profileId)
+                .counts(context.counts)
+                .rows(rows)
+                .durationMs(durationMs)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    private void writeSection(JsonGenerator generator, String name, Object value) throws IOException {
+        generator.writeFieldName(name);
+        objectMapper.writeValue(generator, value);
+        generator.flush();
+    }
+
+    private void importSection(String section, JsonParser parser, ImportContext context) throws IOException {
+        switch (section) {
+            case "addresses" -> readEach(parser, AddressResponse.class, address -> importAddress(address, context));
+            case "contacts" -> readEach(parser, ContactResponse.class, contact -> importContact(contact, context));
+            case "educations" -> readEach(parser, EducationResponse.class, education -> importEducation(education, context));
+            case "experiences" -> readEach(parser, ExperienceResponse.class, experience -> importExperience(experience, context));
+            case "projects" -> readEach(parser, ProjectResponse.class, project -> importProject(project, context));
+            case "achievements" -> readEach(parser, AchievementResponse.class, achievement -> importAchievement(achievement, context));
+            case "technologies" -> readEach(parser, TechnologyResponse.class, technology -> importTechnology(technology, context));
+            case "faqs" -> readEach(parser, FaqResponse.class, faq -> importFaq(faq, context));
+            default -> {
+                log.debug("Skipping unknown portfolio section: {}", section);
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private <T> void readEach(JsonParser parser, Class<T> type, Consumer<T> importer) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Portfolio section '" + parser.currentName() + "' must be an array");
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            importer.accept(parser.readValueAs(type));
+        }
+    }
+
+    private Profile importProfile(ProfileResponse source, ImportContext context) {
+        if (context.profile != null) {
+            throw new IllegalArgumentException("Portfolio document has more than one profile");
+        }
+        technologyRepository.findAll().forEach(technology -> context.technologiesByName.put(technology.getName(), technology));
+        Profile profile = profileRepository.save(Profile.builder()
+                .fname(source.getFname())
+                .lname(source.getLname())
+                .sex(source.getSex())
+                .bio(source.getBio())
+                .banner(source.getBanner())
+                .intro(source.getIntro())
+                .contour(source.getContour())
+                .url(source.getUrl())
+                .build());
+        context.written("profiles");
+        return profile;
+    }
+
+    private void importAddress(AddressResponse source, ImportContext context) {
+        addressRepository.save(Address.builder()
+                .street(source.getStreet())
+                .landmark(source.getLandmark())
+                .city(source.getCity())
+                .state(source.getState())
+                .country(source.getCountry())
+                .pincode(source.getPincode())
+                .type(source.getType())
+                .phone(source.getPhone())
+                .email(source.getEmail())
+                .url(source.getUrl())
+                .profile(context.profile)
+                .build());
+        context.written("addresses");
+    }
+
+    private void importContact(ContactResponse source, ImportContext context) {
+        contactRepository.save(Contact.builder()
+                .platform(source.getPlatform())
+                .url(source.getUrl())
+                .description(source.getDescription())
+                .banner(source.getBanner())
+                .profile(context.profile)
+                .build());
+        context.written("contacts");
+    }
+
+    private void importEducation(EducationResponse source, ImportContext context) {
+        educationRepository.save(Education.builder()
+                .degree(source.getDegree())
+                .institution(source.getInstitution())
+                .field(source.getField())
+                .startDate(source.getStartDate())
+                .endDate(source.getEndDate())
+                .percentage(source.getPercentage())
+                .description(source.getDescription())
+                .url(source.getUrl())
+                .banner(source.getBanner())
+                .github(source.getGithub())
+                .profile(context.profile)
+                .build());
+        context.written("educations");
+    }
+
+    private void importExperience(ExperienceResponse source, ImportContext context) {
+        Experience experience = Experience.builder()
+                .company(source.getCompany())
+                .position(source.getPosition())
+                .startDate(source.getStartDate())
+                .endDate(source.getEndDate())
+                .location(source.getLocation())
+                .url(source.getUrl())
+                .banner(source.getBanner())
+                .github(source.getGithub())
+                .profile(context.profile)
+                .build();
+        experience.getTechnologies().addAll(resolveTechnologies(source.getTechnologies(), context));
+        experience = experienceRepository.save(experience);
+        context.written("experiences");
+
+        // Points are saved one by one, a Set of new points would collapse them since equality is by id
+        for (String content : contents(source.getExperiencePoints())) {
+            experiencePointRepository.save(ExperiencePoint.builder().content(content).experience(experience).build());
+            context.written("experiencePoints");
+        }
+    }
+
+    private void importProject(ProjectResponse source, ImportContext context) {
+        Project project = Project.builder()
+                .name(source.getName())
+                .startDate(source.getStartDate())
+                .endDate(source.getEndDate())
+                .url(source.getUrl())
+                .banner(source.getBanner())
+                .github(source.getGithub())
+                .profile(context.profile)
+                .build();
+        project.getTechnologies().addAll(resolveTechnologies(source.getTechnologies(), context));
+        project = projectRepository.save(project);
+        context.written("projects");
+
+        for (String content : contents(source.getProjectPoints())) {
+            projectPointRepository.save(ProjectPoint.builder().content(content).project(project).build());
+            context.written("projectPoints");
+        }
+    }
+
+    private void importAchievement(AchievementResponse source, ImportContext context) {
+        achievementRepository.save(Achievement.builder()
+                .name(source.getName())
+                .dateAchieved(source.getDateAchieved())
+                .issuer(source.getIssuer())
+                .description(source.getDescription())
+                .url(source.getUrl())
+                .banner(source.getBanner())
+                .github(source.getGithub())
+                .profile(context.profile)
+                .build());
+        context.written("achievements");
+    }
+
+    private void importTechnology(TechnologyResponse source, ImportContext context) {
+        Technology technology = context.technologiesByName.get(source.getName());
+        if (technology == null) {
+            technology = technologyRepository.save(Technology.builder()
+                    .name(source.getName())
+                    .category(source.getCategory())
+                    .type(source.getType())
+                    .proficiency(source.getProficiency())
+                    .banner(source.getBanner())
+                    .github(source.getGithub())
+                    .build());
+            context.technologiesByName.put(technology.getName(), technology);
+            context.written("technologies");
+        }
+        context.profileTechnologyIds.add(technology.getId());
+    }
+
+    private void importFaq(FaqResponse source, ImportContext context) {
+        faqRepository.save(Faq.builder()
+                .question(source.getQuestion())
+                .answer(source.getAnswer())
+                .profile(context.profile)
+                .build());
+        context.written("faqs");
+    }
+
+    private List<Technology> resolveTechnologies(Set<Map<String, String>> technologies, ImportContext context) {
+        List<Technology> resolved = new ArrayList<>();
+        for (String name : values(technologies, "name")) {
+            Technology technology = context.technologiesByName.get(name);
+            if (technology == null) {
+                technology = technologyRepository.save(Technology.builder().name(name).build());
+                context.technologiesByName.put(name, technology);
+                context.written("technologies");
+            }
+            resolved.add(entityManager.getReference(Technology.class, technology.getId()));
+        }
+        return resolved;
+    }
+
+    private void linkProfileTechnologies(ImportContext context) {
+        if (context.profileTechnologyIds.isEmpty()) {
+            return;
+        }
+        Profile profile = entityManager.find(Profile.class, context.profile.getId());
+        context.profileTechnologyIds.forEach(id -> profile.getTechnologies().add(entityManager.getReference(Technology.class, id)));
+    }
+
+    private List<String> contents(Set<Map<String, String>> points) {
+        return values(points, "content");
+    }
+
+    private List<String> values(Set<Map<String, String>> entries, String key) {
+        if (entries == null) {
+            return List.of();
+        }
+        return entries.stream()
+                .map(entry -> entry.get(key))
+                .filter(value -> value != null && !value.isBlank())
+                .toList();
+    }
+
+    /**
+     * Per import state, rows are flushed in chunks so the batched inserts go out and the context is cleared
+     */
+    private class ImportContext {
+
+        private Profile profile;
+        private final Map<String, Technology> technologiesByName = new HashMap<>();
+        private final Set<Long> profileTechnologyIds = new LinkedHashSet<>();
+        private final Map<String, Integer> counts = new LinkedHashMap<>();
+        private int pending;
+
+        private void written(String section) {
+            counts.merge(section, 1, Integer::sum);
+            if (++pending >= flushSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.backend.portfolio.services;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Negative cache of profile ids that were looked up and do not exist, so repeated misses
+ * (e.g. scrapers walking id ranges) are answered without touching the database.
+ * Entries expire after a short TTL and are evicted by PortfolioCacheInvalidator when a profile is created.
+ * Checked by the callers (ProfileController, PortfolioController, InquireQueueService) before calling into cached,
+ * stale-while-revalidate or transactional reads, so a known miss never waits for the pool or a connection.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileExistenceService {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Throw ResourceNotFoundException if the profile id is known to be missing
+     */
+    public void checkNotKnownMissing(Long profileId) {
+        Cache cache = cacheManager.getCache(CacheConfig.MISSING_PROFILE_IDS_CACHE);
+        if (cache != null && cache.get(profileId) != null) {
+            log.debug("Profile id: {} is known to be missing", profileId);
+            throw new ResourceNotFoundException("Profile not found with id: " + profileId);
+        }
+    }
+
+    /**
+     * Remember that the profile id does not exist
+     */
+    public void recordMissing(Long profileId) {
+        Cache cache = cacheManager.getCache(CacheConfig.MISSING_PROFILE_IDS_CACHE);
+        if (cache != null) {
+            cache.put(profileId, Boolean.TRUE);
+        }
+    }
+}
@@ -4,13 +4,19 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.ProfileRequestInsert;
 import com.backend.portfolio.models.responses.ProfileResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.ProfileRequestResponse;
 import com.backend.portfolio.repositories.ProfileRepository;
 
@@ -23,6 +29,8 @@ import lombok.extern.slf4j.Slf4j;
 public class ProfileService {
 
     private final ProfileRepository profileRepository;
+    private final PortfolioChangePublisher portfolioChangePublisher;
+    private final ProfileExistenceService profileExistenceService;
 
     /**
      * Get all profiles ordered by creation date (descending)
@@ -40,10 +48,16 @@ public class ProfileService {
      * Get a single regular by ID
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PROFILE_CACHE, key = "#id",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    @StaleWhileRevalidate
     public ProfileResponse getProfileById(Long id) {
         log.info("Fetching regular with id: {}", id);
         Profile profile = profileRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + id));
+                .orElseThrow(() -> {
+                    profileExistenceService.recordMissing(id);
+                    return new ResourceNotFoundException("Profile not found with id: " + id);
+                });
         return ProfileResponse.fromProfile(profile);
     }
 
@@ -78,6 +92,7 @@ public class ProfileService {
                 .build();
 
         Profile savedProfile = profileRepository.save(profile);
+        portfolioChangePublisher.publish(PortfolioSection.PROFILE, savedProfile.getId(), savedProfile.getId());
         log.info("Profile created successfully with id: {}", savedProfile.getId());
         
         return ProfileResponse.fromProfile(savedProfile);
@@ -103,6 +118,7 @@ public class ProfileService {
         updateIfNotNull(request.getUrl(), profile::setUrl);
 
         Profile updatedProfile = profileRepository.save(profile);
+        portfolioChangePublisher.publish(PortfolioSection.PROFILE, id, id);
         log.info("Profile updated successfully with id: {}", updatedProfile.getId());
         
         return ProfileResponse.fromProfile(updatedProfile);
@@ -120,6 +136,7 @@ public class ProfileService {
         }
 
         profileRepository.deleteById(id);
+        portfolioChangePublisher.publish(PortfolioSection.PROFILE, id, id);
         log.info("Profile deleted successfully with id: {}", id);
     }
 
@@ -1,10 +1,12 @@
 package com.backend.portfolio.services;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Project;
 import com.backend.portfolio.models.entities.ProjectPoint;
 import com.backend.portfolio.models.requests.ProjectPointRequestInsert;
 import com.backend.portfolio.models.responses.ProjectPointResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.ProjectPointRequestUpdate;
 import com.backend.portfolio.repositories.ProjectPointRepository;
 import com.backend.portfolio.repositories.ProjectRepository;
@@ -24,6 +26,7 @@ public class ProjectPointService {
 
     private final ProjectPointRepository projectPointRepository;
     private final ProjectRepository projectRepository;
+    private final PortfolioChangePublisher portfolioChangePublisher;
 
     /**
      * Get all project points for a specific project
@@ -64,6 +67,7 @@ public class ProjectPointService {
                 .build();
 
         ProjectPoint savedProjectPoint = projectPointRepository.save(projectPoint);
+        portfolioChangePublisher.publish(PortfolioSection.PROJECT, savedProjectPoint.getId(), savedProjectPoint.getProject().getProfile().getId());
         log.info("Project point created successfully with id: {}", savedProjectPoint.getId());
 
         return ProjectPointResponse.fromProjectPoint(savedProjectPoint);
@@ -78,6 +82,7 @@ public class ProjectPointService {
 
         ProjectPoint projectPoint = projectPointRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project point not found with id: " + id));
+        Long previousProfileId = projectPoint.getProject().getProfile().getId();
 
         updateIfNotNull(request.getContent(), projectPoint::setContent);
 
@@ -88,6 +93,7 @@ public class ProjectPointService {
         }
 
         ProjectPoint updatedProjectPoint = projectPointRepository.save(projectPoint);
+        portfolioChangePublisher.publish(PortfolioSection.PROJECT, id, previousProfileId, updatedProjectPoint.getProject().getProfile().getId());
         log.info("Project point updated successfully with id: {}", updatedProjectPoint.getId());
 
         return ProjectPointResponse.fromProjectPoint(updatedProjectPoint);
@@ -100,11 +106,11 @@ public class ProjectPointService {
     public void deleteProjectPoint(Long id) {
         log.info("Deleting project point with id: {}", id);
 
-        if (!projectPointRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Project point not found with id: " + id);
-        }
+        Long profileId = projectPointRepository.findProfileIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project point not found with id: " + id));
 
         projectPointRepository.deleteById(id);
+        portfolioChangePublisher.publish(PortfolioSection.PROJECT, id, profileId);
         log.info("Project point deleted successfully with id: {}", id);
     }
 
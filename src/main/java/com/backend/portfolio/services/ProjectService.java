@@ -6,16 +6,25 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.entities.Project;
 import com.backend.portfolio.models.entities.ProjectPoint;
 import com.backend.portfolio.models.entities.Technology;
+import com.backend.portfolio.models.requests.PageCursor;
 import com.backend.portfolio.models.requests.ProjectRequestInsert;
+import com.backend.portfolio.models.responses.CursorPage;
 import com.backend.portfolio.models.responses.ProjectResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.ProjectRequestUpdate;
 import com.backend.portfolio.repositories.ProfileRepository;
 import com.backend.portfolio.repositories.ProjectRepository;
@@ -32,6 +41,7 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProfileRepository profileRepository;
     private final TechnologyRepository technologyRepository;
+    private final PortfolioChangePublisher portfolioChangePublisher;
 
     /**
      * Get all projects ordered by creation date (descending)
@@ -40,18 +50,42 @@ public class ProjectService {
     public List<ProjectResponse> getAllProjects() {
         log.info("Fetching all projects");
         List<Project> projects = projectRepository.findAllByOrderByCreatedAtDesc();
+        fetchDetails(projects);
         return projects.stream()
                 .map(ProjectResponse::fromProject)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get one page of projects, newest first, continuing after the given cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectResponse> getProjectsPage(String cursor, Integer size) {
+        log.info("Fetching projects page after cursor: {}", cursor);
+        int limit = CursorPage.limitOf(size);
+        List<Project> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = projectRepository.findFirstPage(Limit.of(limit + 1));
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = projectRepository.findPageAfter(after.getCreatedAt(), after.getId(), Limit.of(limit + 1));
+        }
+        fetchDetails(rows);
+        return CursorPage.of(rows, limit, ProjectResponse::fromProject,
+                project -> new PageCursor(project.getCreatedAt(), project.getId()));
+    }
+
     /**
      * Get all projects for a specific profile
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PROJECTS_CACHE, key = "#profileId",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    @StaleWhileRevalidate
     public List<ProjectResponse> getAllProjectsByProfileId(Long profileId) {
         log.info("Fetching all projects for profile id: {}", profileId);
         List<Project> projects = projectRepository.findAllByProfileIdOrderByStartDateDesc(profileId);
+        fetchDetails(projects);
         return projects.stream()
                 .map(ProjectResponse::fromProject)
                 .collect(Collectors.toList());
@@ -114,6 +148,7 @@ public class ProjectService {
             savedProject = projectRepository.save(savedProject);
         }
 
+        portfolioChangePublisher.publish(PortfolioSection.PROJECT, savedProject.getId(), savedProject.getProfile().getId());
         log.info("Project created successfully with id: {}", savedProject.getId());
 
         return ProjectResponse.fromProject(savedProject);
@@ -128,6 +163,7 @@ public class ProjectService {
 
         Project project = projectRepository.findByIdWithDetails(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+        Long previousProfileId = project.getProfile().getId();
 
         updateIfNotNull(request.getName(), project::setName);
         updateIfNotNull(request.getStartDate(), project::setStartDate);
@@ -153,6 +189,7 @@ public class ProjectService {
         }
 
         Project updatedProject = projectRepository.save(project);
+        portfolioChangePublisher.publish(PortfolioSection.PROJECT, id, previousProfileId, updatedProject.getProfile().getId());
         log.info("Project updated successfully with id: {}", updatedProject.getId());
 
         return ProjectResponse.fromProject(updatedProject);
@@ -165,11 +202,11 @@ public class ProjectService {
     public void deleteProject(Long id) {
         log.info("Deleting project with id: {}", id);
 
-        if (!projectRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Project not found with id: " + id);
-        }
+        Long profileId = projectRepository.findProfileIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
 
         projectRepository.deleteById(id);
+        portfolioChangePublisher.publish(PortfolioSection.PROJECT, id, profileId);
         log.info("Project deleted successfully with id: {}", id);
     }
 
@@ -181,5 +218,16 @@ public class ProjectService {
             setter.accept(value);
         }
     }
-}
 
+    /**
+     * Load the points and technologies of the projects with one query per collection,
+     * into the same persistence context
+     */
+    private void fetchDetails(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return;
+        }
+        projectRepository.fetchProjectPoints(projects);
+        projectRepository.fetchTechnologies(projects);
+    }
+}
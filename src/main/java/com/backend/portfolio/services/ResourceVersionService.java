@@ -0,0 +1,108 @@
+package com.backend.portfolio.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.models.projections.ResourceVersion;
+import com.backend.portfolio.repositories.AchievementRepository;
+import com.backend.portfolio.repositories.AddressRepository;
+import com.backend.portfolio.repositories.ContactRepository;
+import com.backend.portfolio.repositories.EducationRepository;
+import com.backend.portfolio.repositories.ExperienceRepository;
+import com.backend.portfolio.repositories.FaqRepository;
+import com.backend.portfolio.repositories.ProfileRepository;
+import com.backend.portfolio.repositories.ProjectRepository;
+import com.backend.portfolio.repositories.TechnologyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Computes strong ETags for the public resources from count, max(updated_at) and id checksum
+ * of the underlying rows, so conditional GETs can be answered without loading any entity.
+ * Resources are identified by the name of the cache holding their body.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceVersionService {
+
+    private final ProfileRepository profileRepository;
+    private final AddressRepository addressRepository;
+    private final ContactRepository contactRepository;
+    private final EducationRepository educationRepository;
+    private final ExperienceRepository experienceRepository;
+    private final ProjectRepository projectRepository;
+    private final AchievementRepository achievementRepository;
+    private final TechnologyRepository technologyRepository;
+    private final FaqRepository faqRepository;
+    private final ProfileExistenceService profileExistenceService;
+
+    /**
+     * Get the ETag of a public resource for a specific profile
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ETAGS_CACHE, key = "#resource + ':' + #profileId",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    @StaleWhileRevalidate
+    public String getETag(String resource, Long profileId) {
+        log.debug("Computing ETag of {} for profile id: {}", resource, profileId);
+        String versions = findVersions(resource, profileId)
+                .stream()
+                .map(ResourceVersion::toString)
+                .collect(Collectors.joining("|"));
+        String hash = DigestUtils.md5DigestAsHex((resource + ":" + profileId + ":" + versions).getBytes(StandardCharsets.UTF_8));
+        return "\"" + hash + "\"";
+    }
+
+    private List<ResourceVersion> findVersions(String resource, Long profileId) {
+        return switch (resource) {
+            case CacheConfig.PROFILE_CACHE -> List.of(findProfileVersion(profileId));
+            case CacheConfig.ADDRESSES_CACHE -> List.of(addressRepository.findVersionByProfileId(profileId));
+            case CacheConfig.CONTACTS_CACHE -> List.of(contactRepository.findVersionByProfileId(profileId));
+            case CacheConfig.EDUCATIONS_CACHE -> List.of(educationRepository.findVersionByProfileId(profileId));
+            case CacheConfig.EXPERIENCES_CACHE -> List.of(
+                    experienceRepository.findVersionByProfileId(profileId),
+                    experienceRepository.findPointsVersionByProfileId(profileId),
+                    experienceRepository.findTechnologiesVersionByProfileId(profileId));
+            case CacheConfig.PROJECTS_CACHE -> List.of(
+                    projectRepository.findVersionByProfileId(profileId),
+                    projectRepository.findPointsVersionByProfileId(profileId),
+                    projectRepository.findTechnologiesVersionByProfileId(profileId));
+            case CacheConfig.ACHIEVEMENTS_CACHE -> List.of(achievementRepository.findVersionByProfileId(profileId));
+            case CacheConfig.TECHNOLOGIES_CACHE -> List.of(technologyRepository.findVersionByProfileId(profileId));
+            case CacheConfig.FAQS_CACHE -> List.of(faqRepository.findVersionByProfileId(profileId));
+            case CacheConfig.PORTFOLIO_CACHE -> {
+                List<ResourceVersion> versions = new ArrayList<>();
+                for (String section : CacheConfig.PORTFOLIO_SECTION_CACHES) {
+                    versions.addAll(findVersions(section, profileId));
+                }
+                yield versions;
+            }
+            default -> throw new IllegalArgumentException("No version available for resource: " + resource);
+        };
+    }
+
+    /**
+     * The profile and portfolio of a missing profile are not found, so fail before caching an ETag for them
+     */
+    private ResourceVersion findProfileVersion(Long profileId) {
+        ResourceVersion version = profileRepository.findVersionById(profileId);
+        if (version.getCount() == 0) {
+            profileExistenceService.recordMissing(profileId);
+            throw new ResourceNotFoundException("Profile not found with id: " + profileId);
+        }
+        return version;
+    }
+}
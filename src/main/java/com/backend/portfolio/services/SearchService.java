@@ -0,0 +1,60 @@
+package com.backend.portfolio.services;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.portfolio.models.projections.SearchHitView;
+import com.backend.portfolio.models.responses.SearchHitResponse;
+import com.backend.portfolio.models.responses.SearchResponse;
+import com.backend.portfolio.repositories.SearchRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+
+    static final int MAX_QUERY_LENGTH = 200;
+
+    private final SearchRepository searchRepository;
+
+    /**
+     * Search the projects, points, FAQs and achievements of a profile, best matches first.
+     * The query takes web search syntax ("kafka payments", "\"event sourcing\"", "java -spring").
+     */
+    @Transactional(readOnly = true)
+    public SearchResponse search(Long profileId, String query, Integer page, Integer size) {
+        String trimmed = query == null ? "" : query.trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        int limit = size == null ? SearchResponse.DEFAULT_SIZE : Math.max(1, Math.min(size, SearchResponse.MAX_SIZE));
+        int pageNumber = page == null ? 0 : Math.max(0, page);
+        int offset = pageNumber * limit;
+        if (offset + limit > SearchResponse.MAX_HITS) {
+            throw new IllegalArgumentException("Search results are limited to the first " + SearchResponse.MAX_HITS + " hits");
+        }
+
+        log.info("Searching profile id: {} for '{}', page {} of size {}", profileId, trimmed, pageNumber, limit);
+        // One extra row only tells whether another page exists
+        List<SearchHitView> rows = searchRepository.search(profileId, trimmed, limit + 1, offset);
+        boolean hasMore = rows.size() > limit;
+        List<SearchHitView> pageRows = hasMore ? rows.subList(0, limit) : rows;
+
+        return SearchResponse.builder()
+                .query(trimmed)
+                .hits(pageRows.stream().map(SearchHitResponse::fromView).toList())
+                .page(pageNumber)
+                .size(pageRows.size())
+                .hasMore(hasMore && offset + limit < SearchResponse.MAX_HITS)
+                .build();
+    }
+}
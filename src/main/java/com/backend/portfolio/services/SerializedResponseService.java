@@ -0,0 +1,199 @@
+package com.backend.portfolio.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.WebRequest;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.models.responses.SerializedResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the serialized (JSON and gzip) body of hot public endpoints, so a cache hit
+ * is returned as ready bytes without building or serializing responses.
+ * Enabled with app.response-cache.enabled, entries are evicted by PortfolioCacheInvalidator.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SerializedResponseService {
+
+    public static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.response-cache.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get the serialized body of a public resource for a specific profile, not cached when the body was served stale
+     */
+    @Cacheable(cacheNames = CacheConfig.RESPONSE_BYTES_CACHE, key = "#resource + ':' + #profileId",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    public SerializedResponse getSerializedResponse(String resource, Long profileId, Supplier<?> body) {
+        log.info("Serializing {} for profile id: {}", resource, profileId);
+        // The body may be a cache hit, which does not reset the flag of an earlier stale read
+        StaleWhileRevalidateAspect.resetServedStale();
+        return serialize(body.get());
+    }
+
+    /**
+     * Serialize a response body to JSON and gzip, exactly as the JSON message converter would write it
+     */
+    public SerializedResponse serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new SerializedResponse(json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + body.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Serialize a response body to JSON only, for requests served without the response cache
+     */
+    public SerializedResponse serializeJson(Object body) {
+        try {
+            return new SerializedResponse(objectMapper.writeValueAsBytes(body), null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + body.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Response carrying a serialized body, gzipped when there is a gzip variant and the client accepts it.
+     * Each encoding is a representation of its own with its own ETag (see eTagOf).
+     */
+    public ResponseEntity<byte[]> toResponseEntity(SerializedResponse body, String eTag, String acceptEncoding) {
+        boolean useGzip = body.getGzip() != null && acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTagOf(eTag, useGzip))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (useGzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(useGzip ? body.getGzip() : body.getJson());
+    }
+
+    /**
+     * 304 for a request whose If-None-Match matched (see isNotModified), with the ETag of the representation
+     * toResponseEntity would have sent
+     */
+    public ResponseEntity<byte[]> notModified(String eTag, String acceptEncoding) {
+        // Bodies only have a gzip variant when they come from the response cache
+        boolean useGzip = enabled && acceptsGzip(acceptEncoding);
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTagOf(eTag, useGzip))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    /**
+     * ETag of one representation of a resource: the gzip variant gets "-gzip" inside the quotes,
+     * so a cache never answers a conditional request for one encoding with the bytes of the other
+     */
+    public static String eTagOf(String eTag, boolean gzip) {
+        if (!gzip) {
+            return eTag;
+        }
+        return eTag.endsWith("\"")
+                ? eTag.substring(0, eTag.length() - 1) + GZIP_ETAG_SUFFIX + "\""
+                : eTag + GZIP_ETAG_SUFFIX;
+    }
+
+    /**
+     * Whether If-None-Match holds "*" or the ETag of either representation of the resource,
+     * compared weakly as RFC 9110 requires for If-None-Match
+     */
+    public static boolean isNotModified(WebRequest webRequest, String eTag) {
+        String[] ifNoneMatch = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String gzipETag = eTagOf(eTag, true);
+        for (String header : ifNoneMatch) {
+            for (String entry : header.split(",")) {
+                String tag = entry.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(eTag) || tag.equals(gzipETag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows gzip, honouring q-values ("gzip;q=0" refuses it).
+     * An explicit gzip (or x-gzip) entry wins over "*".
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            } else if (coding.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,302 @@
+package com.backend.portfolio.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.exceptions.custom.StaleDataException;
+import com.backend.portfolio.models.responses.SerializedResponse;
+import com.backend.portfolio.models.responses.StaticExportResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Renders every public endpoint of a profile to disk, next to its gzip sibling and its ETag,
+ * under the same path as its URL (e.g. {directory}/api/v1/projects/profile/1.{version}.json, .json.gz and 1.etag).
+ * Body files are named after the ETag they were exported with and never rewritten, the .etag file points
+ * to the current version and is replaced last. A request that read the previous pointer still finds its files,
+ * so Tomcat can send them by name after the filter returned. Older versions are deleted.
+ * The files are served by StaticExportFilter when app.static-export.enabled is set.
+ * An export that reads a stale result (StaleWhileRevalidateAspect) fails with StaleDataException and writes nothing.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StaticExportService {
+
+    public static final String JSON_EXTENSION = ".json";
+    public static final String GZIP_EXTENSION = ".json.gz";
+    public static final String ETAG_EXTENSION = ".etag";
+
+    /** Public URLs that have a static copy, the profile id is the last segment */
+    private static final Pattern EXPORTED_PATH = Pattern.compile("^/api/v1/(profiles|portfolio|[a-z]+/profile)/(\\d+)$");
+
+    private final ProfileService profileService;
+    private final AddressService addressService;
+    private final ContactService contactService;
+    private final EducationService educationService;
+    private final ExperienceService experienceService;
+    private final ProjectService projectService;
+    private final AchievementService achievementService;
+    private final TechnologyService technologyService;
+    private final FaqService faqService;
+    private final PortfolioService portfolioService;
+    private final SerializedResponseService serializedResponseService;
+    private final ResourceVersionService resourceVersionService;
+
+    @Value("${app.static-export.directory:${java.io.tmpdir}/portfolio-export}")
+    private Path directory;
+
+    /**
+     * Export every public endpoint of a profile
+     */
+    public StaticExportResponse exportProfile(Long profileId) {
+        log.info("Exporting public endpoints of profile id: {}", profileId);
+        long start = System.nanoTime();
+        int files = 0;
+        long bytes = 0;
+
+        // Read the profile first so a missing profile fails before anything is written
+        profileService.getProfileById(profileId);
+
+        // Every body is rendered before anything is written, so a stale read leaves the previous files in place
+        Map<String, RenderedResource> rendered = new LinkedHashMap<>();
+        for (Map.Entry<String, ExportedResource> resource : resourcesOf(profileId).entrySet()) {
+            // The ETag is read before the body and written after it, so a served ETag never belongs to newer data
+            String eTag = resourceVersionService.getETag(resource.getValue().cache(), profileId);
+            StaleWhileRevalidateAspect.resetServedStale();
+            Object body = resource.getValue().body().get();
+            if (StaleWhileRevalidateAspect.servedStale()) {
+                throw new StaleDataException("Stale " + resource.getKey() + " not exported for profile id: " + profileId);
+            }
+            rendered.put(resource.getKey(), new RenderedResource(eTag, serializedResponseService.serialize(body)));
+        }
+
+        for (Map.Entry<String, RenderedResource> resource : rendered.entrySet()) {
+            SerializedResponse body = resource.getValue().body();
+            String eTag = resource.getValue().eTag();
+            String previousETag = readETag(resolve(resource.getKey(), ETAG_EXTENSION));
+            byte[] eTagBytes = eTag.getBytes(StandardCharsets.US_ASCII);
+            writeOnce(resolveVersion(resource.getKey(), eTag, JSON_EXTENSION), body.getJson());
+            writeOnce(resolveVersion(resource.getKey(), eTag, GZIP_EXTENSION), body.getGzip());
+            write(resolve(resource.getKey(), ETAG_EXTENSION), eTagBytes);
+            deleteVersions(resource.getKey(), eTag, previousETag);
+            files += 3;
+            bytes += body.getJson().length + body.getGzip().length + eTagBytes.length;
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Exported {} files ({} bytes) of profile id: {} in {} ms", files, bytes, profileId, durationMs);
+        return StaticExportResponse.builder()
+                .profileId(profileId)
+                .directory(directory.toAbsolutePath().toString())
+                .files(files)
+                .bytes(bytes)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    /**
+     * Delete the exported files of a profile, so its requests go back to the controllers
+     */
+    public void deleteProfileExport(Long profileId) {
+        log.info("Deleting static export of profile id: {}", profileId);
+        for (String path : resourcesOf(profileId).keySet()) {
+            try {
+                // Without its ETag the filter already hands the URL back to the controllers
+                Files.deleteIfExists(resolve(path, ETAG_EXTENSION));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            deleteVersions(path, null, null);
+        }
+    }
+
+    /**
+     * Get the ids of the profiles that currently have a static export
+     */
+    public List<Long> getExportedProfileIds() {
+        Path profiles = directory.resolve("api/v1/profiles");
+        if (!Files.isDirectory(profiles)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(profiles)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(ETAG_EXTENSION))
+                    .map(name -> Long.valueOf(name.substring(0, name.length() - ETAG_EXTENSION.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get the exported file of a public URL for the ETag read by findExportedETag,
+     * or null when the URL has no static copy of that version
+     */
+    public Path findExportedFile(String requestUri, String eTag, boolean gzip) {
+        Matcher matcher = EXPORTED_PATH.matcher(requestUri);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        Path file = resolveVersion(requestUri.substring("/api/v1/".length()), eTag, gzip ? GZIP_EXTENSION : JSON_EXTENSION);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    /**
+     * Get the ETag exported with a public URL, or null when the URL has no complete static copy
+     */
+    public String findExportedETag(String requestUri) {
+        Matcher matcher = EXPORTED_PATH.matcher(requestUri);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        return readETag(resolve(requestUri.substring("/api/v1/".length()), ETAG_EXTENSION));
+    }
+
+    /**
+     * Public endpoints of a profile by URL path (relative to /api/v1), with the same bodies and ETags as the controllers
+     */
+    private Map<String, ExportedResource> resourcesOf(Long profileId) {
+        Map<String, ExportedResource> resources = new LinkedHashMap<>();
+        resources.put("profiles/" + profileId,
+                new ExportedResource(CacheConfig.PROFILE_CACHE, () -> profileService.getProfileById(profileId)));
+        resources.put("addresses/profile/" + profileId,
+                new ExportedResource(CacheConfig.ADDRESSES_CACHE, () -> addressService.getAllAddressesByProfileId(profileId)));
+        resources.put("contacts/profile/" + profileId,
+                new ExportedResource(CacheConfig.CONTACTS_CACHE, () -> contactService.getAllContactsByProfileId(profileId)));
+        resources.put("educations/profile/" + profileId,
+                new ExportedResource(CacheConfig.EDUCATIONS_CACHE, () -> educationService.getAllEducationsByProfileId(profileId)));
+        resources.put("experiences/profile/" + profileId,
+                new ExportedResource(CacheConfig.EXPERIENCES_CACHE, () -> experienceService.getAllExperiencesByProfileId(profileId)));
+        resources.put("projects/profile/" + profileId,
+                new ExportedResource(CacheConfig.PROJECTS_CACHE, () -> projectService.getAllProjectsByProfileId(profileId)));
+        resources.put("achievements/profile/" + profileId,
+                new ExportedResource(CacheConfig.ACHIEVEMENTS_CACHE, () -> achievementService.getAllAchievementsByProfileId(profileId)));
+        resources.put("technologies/profile/" + profileId,
+                new ExportedResource(CacheConfig.TECHNOLOGIES_CACHE, () -> technologyService.getAllTechnologiesByProfileId(profileId)));
+        resources.put("faqs/profile/" + profileId,
+                new ExportedResource(CacheConfig.FAQS_CACHE, () -> faqService.getAllFaqsByProfileId(profileId)));
+        resources.put("portfolio/" + profileId,
+                new ExportedResource(CacheConfig.PORTFOLIO_CACHE, () -> portfolioService.getPortfolioByProfileId(profileId)));
+        return resources;
+    }
+
+    /**
+     * A public endpoint: the cache its ETag is computed for, and its body
+     */
+    private record ExportedResource(String cache, Supplier<?> body) {
+    }
+
+    /**
+     * A public endpoint ready to be written: its ETag and its serialized body
+     */
+    private record RenderedResource(String eTag, SerializedResponse body) {
+    }
+
+    private Path resolve(String path, String extension) {
+        return directory.resolve("api/v1").resolve(path + extension);
+    }
+
+    /**
+     * Body file of one exported version, named after its ETag (e.g. profile/1.{etag}.json)
+     */
+    private Path resolveVersion(String path, String eTag, String extension) {
+        return resolve(path, "." + versionOf(eTag) + extension);
+    }
+
+    /**
+     * ETags are quoted hex digests, only their letters and digits go into file names
+     */
+    private static String versionOf(String eTag) {
+        return eTag.replaceAll("[^A-Za-z0-9]", "");
+    }
+
+    private String readETag(Path file) {
+        try {
+            return Files.isRegularFile(file) ? Files.readString(file, StandardCharsets.US_ASCII) : null;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Failed to read exported ETag {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Delete the body files of a URL path, except those of the given versions (null keeps none)
+     */
+    private void deleteVersions(String path, String eTag, String previousETag) {
+        Path file = resolve(path, "");
+        String prefix = file.getFileName().toString() + ".";
+        Set<String> kept = Stream.of(eTag, previousETag)
+                .filter(Objects::nonNull)
+                .map(StaticExportService::versionOf)
+                .collect(Collectors.toSet());
+        if (!Files.isDirectory(file.getParent())) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            for (Path candidate : files.toList()) {
+                String name = candidate.getFileName().toString();
+                int versionEnd = name.indexOf('.', prefix.length());
+                if (!name.startsWith(prefix) || versionEnd < 0 || name.endsWith(ETAG_EXTENSION) || name.endsWith(".tmp")) {
+                    continue;
+                }
+                if (!kept.contains(name.substring(prefix.length(), versionEnd))) {
+                    Files.deleteIfExists(candidate);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a versioned body file unless it already exists: files that may be in flight are never replaced
+     */
+    private void writeOnce(Path file, byte[] bytes) {
+        if (!Files.isRegularFile(file)) {
+            write(file, bytes);
+        }
+    }
+
+    /**
+     * Write through a temporary file and rename it, so the filter never serves a partial file
+     */
+    private void write(Path file, byte[] bytes) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
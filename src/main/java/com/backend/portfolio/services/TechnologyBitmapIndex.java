@@ -0,0 +1,126 @@
+package com.backend.portfolio.services;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import com.backend.portfolio.models.projections.TechnologyLink;
+import com.backend.portfolio.models.states.enums.TechnologyFilterMode;
+
+/**
+ * Inverted index of one technology join table: per profile, technology id to a compressed bitmap of owner ids
+ * (projects or experiences). Keyed by profile first, so a profile is replaced without touching the others
+ * and an owner moved between profiles needs no bookkeeping.
+ * Filters share the read lock, updates take the write lock.
+ * Bitmaps are run-length optimized after every load, replaced profile or replaced technology.
+ */
+final class TechnologyBitmapIndex {
+
+    private static final long[] NONE = new long[0];
+
+    private final Map<Long, Map<Long, Roaring64Bitmap>> ownersByProfileId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void replaceAll(List<TechnologyLink> links) {
+        lock.writeLock().lock();
+        try {
+            ownersByProfileId.clear();
+            links.forEach(this::add);
+            ownersByProfileId.values().forEach(technologies -> technologies.values().forEach(Roaring64Bitmap::runOptimize));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the links of every owner of the profile
+     */
+    void replaceProfile(Long profileId, List<TechnologyLink> links) {
+        lock.writeLock().lock();
+        try {
+            ownersByProfileId.remove(profileId);
+            links.forEach(this::add);
+            Map<Long, Roaring64Bitmap> technologies = ownersByProfileId.get(profileId);
+            if (technologies != null) {
+                technologies.values().forEach(Roaring64Bitmap::runOptimize);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the links of the technology in every profile
+     */
+    void replaceTechnology(Long technologyId, List<TechnologyLink> links) {
+        lock.writeLock().lock();
+        try {
+            ownersByProfileId.values().forEach(technologies -> technologies.remove(technologyId));
+            ownersByProfileId.values().removeIf(Map::isEmpty);
+            links.forEach(this::add);
+            ownersByProfileId.values().forEach(technologies -> {
+                Roaring64Bitmap owners = technologies.get(technologyId);
+                if (owners != null) {
+                    owners.runOptimize();
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ascending ids of the profile's owners linked to every (AND) or any (OR) of the technologies
+     */
+    long[] filter(Long profileId, Collection<Long> technologyIds, TechnologyFilterMode mode) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Roaring64Bitmap> technologies = ownersByProfileId.get(profileId);
+            if (technologies == null) {
+                return NONE;
+            }
+
+            Roaring64Bitmap result = null;
+            for (Long technologyId : technologyIds) {
+                Roaring64Bitmap owners = technologies.get(technologyId);
+                if (owners == null) {
+                    if (mode == TechnologyFilterMode.AND) {
+                        return NONE;
+                    }
+                } else if (result == null) {
+                    result = owners.clone();
+                } else if (mode == TechnologyFilterMode.AND) {
+                    result.and(owners);
+                } else {
+                    result.or(owners);
+                }
+            }
+            return result == null ? NONE : result.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            return ownersByProfileId.values().stream()
+                    .flatMap(technologies -> technologies.values().stream())
+                    .mapToLong(Roaring64Bitmap::getLongSizeInBytes)
+                    .sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(TechnologyLink link) {
+        ownersByProfileId.computeIfAbsent(link.getProfileId(), id -> new HashMap<>())
+                .computeIfAbsent(link.getTechnologyId(), id -> new Roaring64Bitmap())
+                .addLong(link.getOwnerId());
+    }
+}
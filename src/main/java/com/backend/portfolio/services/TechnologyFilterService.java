@@ -0,0 +1,127 @@
+package com.backend.portfolio.services;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.portfolio.models.responses.TechnologyFilterResponse;
+import com.backend.portfolio.models.states.enums.TechnologyFilterMode;
+import com.backend.portfolio.repositories.ExperienceRepository;
+import com.backend.portfolio.repositories.ProjectRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filters the projects and experiences of a profile by technology from an in-memory inverted index
+ * of projects_technologies and experiences_technologies. The index is built in the background by
+ * TechnologyIndexUpdater and kept current one profile or technology per committed change.
+ * A full rebuild loads new indexes and swaps them in, filters keep using the previous ones until then.
+ * Before the first build completes, a filter reads the technology links of its profile from the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TechnologyFilterService {
+
+    static final int MAX_TECHNOLOGIES = 20;
+
+    private final ProjectRepository projectRepository;
+    private final ExperienceRepository experienceRepository;
+
+    // Null until the first build
+    private volatile Indexes indexes;
+
+    /**
+     * Ids of the projects and experiences of the profile linked to all (AND) or any (OR) of the technologies
+     */
+    public TechnologyFilterResponse filter(Long profileId, List<Long> technologyIds, TechnologyFilterMode mode) {
+        if (technologyIds == null || technologyIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one technology id is required");
+        }
+        List<Long> distinctIds = technologyIds.stream().distinct().toList();
+        if (distinctIds.size() > MAX_TECHNOLOGIES) {
+            throw new IllegalArgumentException("At most " + MAX_TECHNOLOGIES + " technologies can be combined");
+        }
+        TechnologyFilterMode filterMode = mode == null ? TechnologyFilterMode.AND : mode;
+        Indexes current = indexes;
+        if (current == null) {
+            log.debug("Technology index not built yet, reading the links of profile id: {}", profileId);
+            current = loadProfile(profileId);
+        }
+
+        log.debug("Filtering profile id: {} by technologies {} ({})", profileId, distinctIds, filterMode);
+        return TechnologyFilterResponse.builder()
+                .profileId(profileId)
+                .technologyIds(distinctIds)
+                .mode(filterMode)
+                .projectIds(toList(current.projects().filter(profileId, distinctIds, filterMode)))
+                .experienceIds(toList(current.experiences().filter(profileId, distinctIds, filterMode)))
+                .build();
+    }
+
+    /**
+     * Load both join tables into new indexes and swap them in.
+     * Refreshes wait for it, so a change committed while it runs is applied to the new indexes.
+     */
+    @Transactional
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        TechnologyBitmapIndex projects = new TechnologyBitmapIndex();
+        TechnologyBitmapIndex experiences = new TechnologyBitmapIndex();
+        projects.replaceAll(projectRepository.findAllTechnologyLinks());
+        experiences.replaceAll(experienceRepository.findAllTechnologyLinks());
+        indexes = new Indexes(projects, experiences);
+        log.info("Built technology index in {} ms ({} bytes)", (System.nanoTime() - start) / 1_000_000,
+                projects.sizeInBytes() + experiences.sizeInBytes());
+    }
+
+    // Refreshes are not readOnly, so they read the primary: a replica may not have the committed change yet.
+    // Before the first build there is nothing to refresh, the build reads the current links.
+
+    @Transactional
+    public synchronized void refreshProjects(Long profileId) {
+        Indexes current = indexes;
+        if (current != null) {
+            log.info("Refreshing project technology index for profile id: {}", profileId);
+            current.projects().replaceProfile(profileId, projectRepository.findTechnologyLinksByProfileId(profileId));
+        }
+    }
+
+    @Transactional
+    public synchronized void refreshExperiences(Long profileId) {
+        Indexes current = indexes;
+        if (current != null) {
+            log.info("Refreshing experience technology index for profile id: {}", profileId);
+            current.experiences().replaceProfile(profileId, experienceRepository.findTechnologyLinksByProfileId(profileId));
+        }
+    }
+
+    @Transactional
+    public synchronized void refreshTechnology(Long technologyId) {
+        Indexes current = indexes;
+        if (current != null) {
+            log.info("Refreshing technology index for technology id: {}", technologyId);
+            current.projects().replaceTechnology(technologyId, projectRepository.findTechnologyLinksByTechnologyId(technologyId));
+            current.experiences().replaceTechnology(technologyId,
+                    experienceRepository.findTechnologyLinksByTechnologyId(technologyId));
+        }
+    }
+
+    private Indexes loadProfile(Long profileId) {
+        TechnologyBitmapIndex projects = new TechnologyBitmapIndex();
+        TechnologyBitmapIndex experiences = new TechnologyBitmapIndex();
+        projects.replaceProfile(profileId, projectRepository.findTechnologyLinksByProfileId(profileId));
+        experiences.replaceProfile(profileId, experienceRepository.findTechnologyLinksByProfileId(profileId));
+        return new Indexes(projects, experiences);
+    }
+
+    private static List<Long> toList(long[] ids) {
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    private record Indexes(TechnologyBitmapIndex projects, TechnologyBitmapIndex experiences) {
+    }
+}
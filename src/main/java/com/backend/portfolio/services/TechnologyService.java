@@ -4,13 +4,19 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Technology;
 import com.backend.portfolio.models.requests.TechnologyRequestInsert;
 import com.backend.portfolio.models.responses.TechnologyResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.TechnologyRequestUpdate;
 import com.backend.portfolio.repositories.TechnologyRepository;
 
@@ -23,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 public class TechnologyService {
 
     private final TechnologyRepository technologyRepository;
+    private final PortfolioChangePublisher portfolioChangePublisher;
 
     /**
      * Get all technologies ordered by creation date (descending)
@@ -74,12 +81,12 @@ public class TechnologyService {
      * Get all technologies for a specific profile
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TECHNOLOGIES_CACHE, key = "#profileId",
+            unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+    @StaleWhileRevalidate
     public List<TechnologyResponse> getAllTechnologiesByProfileId(Long profileId) {
         log.info("Fetching all technologies for profile id: {}", profileId);
-        return technologyRepository.findAllByProfileIdOrderByCategoryAndName(profileId)
-                .stream()
-                .map(TechnologyResponse::fromTechnology)
-                .collect(Collectors.toList());
+        return technologyRepository.findAllResponsesByProfileId(profileId);
     }
 
     /**
@@ -99,6 +106,7 @@ public class TechnologyService {
                 .build();
 
         Technology savedTechnology = technologyRepository.save(technology);
+        portfolioChangePublisher.publish(PortfolioSection.TECHNOLOGY, savedTechnology.getId());
         log.info("Technology created successfully with id: {}", savedTechnology.getId());
 
         return TechnologyResponse.fromTechnology(savedTechnology);
@@ -122,6 +130,7 @@ public class TechnologyService {
         updateIfNotNull(request.getGithub(), technology::setGithub);
 
         Technology updatedTechnology = technologyRepository.save(technology);
+        portfolioChangePublisher.publish(PortfolioSection.TECHNOLOGY, id);
         log.info("Technology updated successfully with id: {}", updatedTechnology.getId());
 
         return TechnologyResponse.fromTechnology(updatedTechnology);
@@ -139,6 +148,7 @@ public class TechnologyService {
         }
 
         technologyRepository.deleteById(id);
+        portfolioChangePublisher.publish(PortfolioSection.TECHNOLOGY, id);
         log.info("Technology deleted successfully with id: {}", id);
     }
 
@@ -0,0 +1,69 @@
+-- =====================================================
+-- V2 QUERY INDEXES
+-- One index per repository query shape: the filtered column first, then the ORDER BY column,
+-- so a section read is a single index range scan that returns its rows already sorted.
+-- IF NOT EXISTS / IF EXISTS because databases baselined from a schema built by
+-- ddl-auto have none of the V1 indexes.
+-- =====================================================
+
+-- ProfileRepository.findByFnameAndLname
+CREATE INDEX IF NOT EXISTS idx_profiles_fname_lname ON profiles(fname, lname);
+DROP INDEX IF EXISTS idx_profiles_fname;
+-- ProfileRepository.findAllByOrderByCreatedAtDesc, findAllIdsByOrderByCreatedAtDesc
+CREATE INDEX IF NOT EXISTS idx_profiles_created_at ON profiles(created_at);
+
+-- TechnologyRepository.findByName
+CREATE INDEX IF NOT EXISTS idx_technologies_name ON technologies(name);
+-- TechnologyRepository.findAllByCategoryOrderByNameAsc
+CREATE INDEX IF NOT EXISTS idx_technologies_category_name ON technologies(category, name);
+DROP INDEX IF EXISTS idx_technologies_category;
+-- TechnologyRepository.findAllResponsesByProfileId, findVersionByProfileId
+CREATE INDEX IF NOT EXISTS idx_prof_tech_profile_id ON profiles_technologies(profile_id);
+
+-- AddressRepository.findAllResponsesByProfileId, findVersionByProfileId
+CREATE INDEX IF NOT EXISTS idx_addresses_profile_id_created_at ON addresses(profile_id, created_at);
+DROP INDEX IF EXISTS idx_addresses_profile_id;
+
+-- ContactRepository.findAllResponsesByProfileId, findVersionByProfileId
+CREATE INDEX IF NOT EXISTS idx_contacts_profile_id_created_at ON contacts(profile_id, created_at);
+DROP INDEX IF EXISTS idx_contacts_profile_id;
+
+-- EducationRepository.findAllResponsesByProfileId, findVersionByProfileId
+CREATE INDEX IF NOT EXISTS idx_educations_profile_id_start_date ON educations(profile_id, start_date);
+DROP INDEX IF EXISTS idx_educations_profile_id;
+
+-- AchievementRepository.findAllResponsesByProfileId, findVersionByProfileId
+CREATE INDEX IF NOT EXISTS idx_achievements_profile_id_date_achieved ON achievements(profile_id, date_achieved);
+DROP INDEX IF EXISTS idx_achievements_profile_id;
+
+-- FaqRepository.findAllResponsesByProfileId, findVersionByProfileId
+CREATE INDEX IF NOT EXISTS idx_faqs_profile_id_created_at ON faqs(profile_id, created_at);
+DROP INDEX IF EXISTS idx_faqs_profile_id;
+
+-- InquireRepository.findAllByProfileIdOrderByCreatedAtDesc
+CREATE INDEX IF NOT EXISTS idx_inquires_profile_id_created_at ON inquires(profile_id, created_at);
+DROP INDEX IF EXISTS idx_inquires_profile_id;
+-- InquireRepository.findFirstPage, findPageAfter
+CREATE INDEX IF NOT EXISTS idx_inquires_created_at_id ON inquires(created_at, id);
+
+-- ExperienceRepository.findAllByProfileIdOrderByStartDateDesc, version queries by profile
+CREATE INDEX IF NOT EXISTS idx_experiences_profile_id_start_date ON experiences(profile_id, start_date);
+DROP INDEX IF EXISTS idx_experiences_profile_id;
+-- ExperienceRepository.findFirstPage, findPageAfter
+CREATE INDEX IF NOT EXISTS idx_experiences_created_at_id ON experiences(created_at, id);
+-- ExperienceRepository.fetchTechnologies
+CREATE INDEX IF NOT EXISTS idx_exp_tech_experience_id ON experiences_technologies(experience_id);
+-- ExperiencePointRepository.findAllByExperienceIdOrderByCreatedAtAsc, ExperienceRepository.fetchExperiencePoints
+CREATE INDEX IF NOT EXISTS idx_experience_points_experience_id_created_at ON experience_points(experience_id, created_at);
+DROP INDEX IF EXISTS idx_experience_points_experience_id;
+
+-- ProjectRepository.findAllByProfileIdOrderByStartDateDesc, version queries by profile
+CREATE INDEX IF NOT EXISTS idx_projects_profile_id_start_date ON projects(profile_id, start_date);
+DROP INDEX IF EXISTS idx_projects_profile_id;
+-- ProjectRepository.findFirstPage, findPageAfter
+CREATE INDEX IF NOT EXISTS idx_projects_created_at_id ON projects(created_at, id);
+-- ProjectRepository.fetchTechnologies
+CREATE INDEX IF NOT EXISTS idx_proj_tech_project_id ON projects_technologies(project_id);
+-- ProjectPointRepository.findAllByProjectIdOrderByCreatedAtAsc, ProjectRepository.fetchProjectPoints
+CREATE INDEX IF NOT EXISTS idx_project_points_project_id_created_at ON project_points(project_id, created_at);
+DROP INDEX IF EXISTS idx_project_points_project_id;
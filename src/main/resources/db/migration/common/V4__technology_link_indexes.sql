@@ -0,0 +1,10 @@
+-- =====================================================
+-- V4 TECHNOLOGY LINK INDEXES
+-- The technology index reloads the links of one technology after it changes.
+-- IF NOT EXISTS because only databases created by V1 already have them.
+-- =====================================================
+
+-- ProjectRepository.findTechnologyLinksByTechnologyId
+CREATE INDEX IF NOT EXISTS idx_proj_tech_technology_id ON projects_technologies(technology_id);
+-- ExperienceRepository.findTechnologyLinksByTechnologyId
+CREATE INDEX IF NOT EXISTS idx_exp_tech_technology_id ON experiences_technologies(technology_id);
@@ -0,0 +1,35 @@
+-- =====================================================
+-- V3 SEARCH VECTORS (PostgreSQL only)
+-- Full-text search for GET /api/v1/search (SearchRepository.search).
+-- Stored generated columns are recomputed by the same INSERT/UPDATE that changes the text,
+-- so the vectors and their GIN indexes stay current inside the admin write transactions.
+-- Titles weigh 'A' and body text 'B', ts_rank_cd ranks title matches first.
+-- The text search configuration must match the one in SearchRepository.
+-- =====================================================
+
+-- Project.name
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (setweight(to_tsvector('english', coalesce(name, '')), 'A')) STORED;
+CREATE INDEX IF NOT EXISTS idx_projects_search_vector ON projects USING GIN (search_vector);
+
+-- ProjectPoint.content
+ALTER TABLE project_points ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (setweight(to_tsvector('english', coalesce(content, '')), 'B')) STORED;
+CREATE INDEX IF NOT EXISTS idx_project_points_search_vector ON project_points USING GIN (search_vector);
+
+-- ExperiencePoint.content
+ALTER TABLE experience_points ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (setweight(to_tsvector('english', coalesce(content, '')), 'B')) STORED;
+CREATE INDEX IF NOT EXISTS idx_experience_points_search_vector ON experience_points USING GIN (search_vector);
+
+-- Faq.question, Faq.answer
+ALTER TABLE faqs ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (setweight(to_tsvector('english', coalesce(question, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(answer, '')), 'B')) STORED;
+CREATE INDEX IF NOT EXISTS idx_faqs_search_vector ON faqs USING GIN (search_vector);
+
+-- Achievement.name, Achievement.description
+ALTER TABLE achievements ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (setweight(to_tsvector('english', coalesce(name, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED;
+CREATE INDEX IF NOT EXISTS idx_achievements_search_vector ON achievements USING GIN (search_vector);
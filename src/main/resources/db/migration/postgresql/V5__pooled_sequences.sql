@@ -0,0 +1,22 @@
+-- =====================================================
+-- V5 POOLED SEQUENCES (PostgreSQL only)
+-- Entities allocate ids in blocks of 50 (@SequenceGenerator allocationSize = 50),
+-- and Hibernate refuses to start while a sequence increment differs.
+-- Databases created by V1 already have it, databases baselined at V1 (create.sql, BIGSERIAL)
+-- still increment by 1. Same statements as manages/alter/alter_pooled_sequences.sql,
+-- a no-op where they already ran. Sequences keep their current value.
+-- =====================================================
+
+ALTER SEQUENCE IF EXISTS profiles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS technologies_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS addresses_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS educations_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS contacts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS achievements_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS inquires_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS experiences_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS experience_points_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS projects_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS project_points_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS faqs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS admins_id_seq INCREMENT BY 50;
@@ -0,0 +1,220 @@
+package com.backend.portfolio.configurations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.backend.portfolio.events.PortfolioChangePublisher;
+import com.backend.portfolio.models.entities.Technology;
+import com.backend.portfolio.repositories.TechnologyRepository;
+import com.backend.portfolio.services.ExperienceService;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+/**
+ * Runs requests through QueryMetricsFilter against H2 with the Hibernate hooks of QueryMetricsConfig installed.
+ * Transactions are committed by the code under test, as in a real request. The data JPA slice leaves out
+ * the auto-configuration that applies TransactionExecutionListener beans, so it is imported here,
+ * along with AOP for the stale-while-revalidate reads that run on their own pool.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Import({
+        QueryMetricsConfig.class, SimpleMeterRegistry.class, ExperienceService.class, SingleFlight.class,
+        StaleWhileRevalidateAspect.class, QueryMetricsConfigTest.ResilienceConfig.class
+})
+@ImportAutoConfiguration({TransactionManagerCustomizationAutoConfiguration.class, AopAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryMetricsConfigTest {
+
+    private static final String URI = "/api/v1/technologies/profile/{profileId}";
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ExperienceService experienceService;
+
+    @MockitoBean
+    private PortfolioChangePublisher portfolioChangePublisher;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        technologyRepository.saveAll(List.of(
+                Technology.builder().name("Java").category("Language").build(),
+                Technology.builder().name("Spring").category("Framework").build(),
+                Technology.builder().name("PostgreSQL").category("Database").build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "technologies");
+    }
+
+    @Test
+    void doFilter_ShouldPublishDatabaseWorkOfTheRequest() throws Exception {
+        // Arrange
+        QueryMetricsFilter filter = new QueryMetricsFilter(meterRegistry, true);
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+            transactionTemplate.executeWithoutResult(status -> {
+                technologyRepository.findAll();
+                technologyRepository.findByName("Java");
+            });
+        };
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals("2", response.getHeader(QueryMetricsFilter.QUERY_COUNT_HEADER));
+        assertTrue(response.getHeader(QueryMetricsFilter.SERVER_TIMING_HEADER).startsWith("db;dur="));
+        assertEquals(2.0, summary("portfolio.request.statements").totalAmount());
+        assertEquals(4.0, summary("portfolio.request.rows").totalAmount());
+        assertEquals(3.0, summary("portfolio.request.entity.loads").totalAmount());
+        assertEquals(1, summary("portfolio.request.statements").count());
+        assertTrue(timer("portfolio.request.db.time").totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertTrue(timer("portfolio.request.connection.acquisition").totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertTrue(timer("portfolio.request.transaction.time").totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void doFilter_WhenBodyCommittedEarly_ShouldReportWorkDoneBeforeTheCommit() throws Exception {
+        // Arrange
+        QueryMetricsFilter filter = new QueryMetricsFilter(meterRegistry, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            technologyRepository.findAll();
+            res.getWriter().write("[]");
+            res.flushBuffer();
+            technologyRepository.findAll();
+        };
+
+        // Act
+        filter.doFilter(request(), response, chain);
+
+        // Assert
+        assertEquals("1", response.getHeader(QueryMetricsFilter.QUERY_COUNT_HEADER));
+        assertEquals(2.0, meterRegistry.get("portfolio.request.statements").tag("uri", "UNKNOWN").summary().totalAmount());
+    }
+
+    @Test
+    void doFilter_WhenResponseHeaderDisabled_ShouldOnlyPublishMeters() throws Exception {
+        // Arrange
+        QueryMetricsFilter filter = new QueryMetricsFilter(meterRegistry, false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request(), response, (req, res) -> technologyRepository.findAll());
+
+        // Assert
+        assertNull(response.getHeader(QueryMetricsFilter.QUERY_COUNT_HEADER));
+        assertNull(response.getHeader(QueryMetricsFilter.SERVER_TIMING_HEADER));
+        assertEquals(1.0, meterRegistry.get("portfolio.request.statements").summary().totalAmount());
+    }
+
+    @Test
+    void doFilter_WhenReadRunsOnStaleWhileRevalidatePool_ShouldCountItsStatements() throws Exception {
+        // Arrange
+        QueryMetricsFilter filter = new QueryMetricsFilter(meterRegistry, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+            experienceService.getAllExperiencesByProfileId(1L);
+        };
+
+        // Act
+        filter.doFilter(request(), response, chain);
+
+        // Assert
+        assertEquals("1", response.getHeader(QueryMetricsFilter.QUERY_COUNT_HEADER));
+        assertEquals(1.0, summary("portfolio.request.statements").totalAmount());
+        assertTrue(timer("portfolio.request.transaction.time").totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void statementsOutsideRequests_ShouldNotBeCounted() throws Exception {
+        // Arrange
+        QueryMetricsFilter filter = new QueryMetricsFilter(meterRegistry, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        technologyRepository.findAll();
+
+        // Act
+        filter.doFilter(request(), response, (req, res) -> { });
+
+        // Assert
+        assertEquals("0", response.getHeader(QueryMetricsFilter.QUERY_COUNT_HEADER));
+        assertNull(RequestQueryMetrics.current());
+    }
+
+    @TestConfiguration
+    static class ResilienceConfig {
+
+        @Bean
+        CircuitBreakerRegistry circuitBreakerRegistry() {
+            return CircuitBreakerRegistry.ofDefaults();
+        }
+
+        @Bean
+        TimeLimiterRegistry timeLimiterRegistry() {
+            return TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                    .timeoutDuration(Duration.ofSeconds(5))
+                    .cancelRunningFuture(false)
+                    .build());
+        }
+    }
+
+    private MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/v1/technologies/profile/1");
+    }
+
+    private DistributionSummary summary(String name) {
+        return meterRegistry.get(name).tag("uri", URI).tag("method", "GET").summary();
+    }
+
+    private Timer timer(String name) {
+        return meterRegistry.get(name).tag("uri", URI).tag("method", "GET").timer();
+    }
+}
@@ -0,0 +1,59 @@
+package com.backend.portfolio.configurations;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReadReplicaConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(ReadReplicaConfig.class)
+            // Durations in @Value ("5s") need the Boot conversion service, as in the application
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:primary",
+                    "spring.datasource.driver-class-name=org.h2.Driver",
+                    "spring.datasource.hikari.maximum-pool-size=3",
+                    "app.read-replica.url=jdbc:h2:mem:replica",
+                    "app.read-replica.hikari.maximum-pool-size=2");
+
+    @Test
+    void readReplica_WhenEnabled_ShouldExposeLazyProxyOverTwoPools() {
+        contextRunner.withPropertyValues("app.read-replica.enabled=true").run(context -> {
+            // Assert
+            assertInstanceOf(LazyConnectionDataSourceProxy.class, context.getBean(DataSource.class));
+            HikariDataSource primary = context.getBean("primaryDataSource", HikariDataSource.class);
+            HikariDataSource replica = context.getBean("replicaDataSource", HikariDataSource.class);
+            assertEquals(3, primary.getMaximumPoolSize());
+            assertEquals(2, replica.getMaximumPoolSize());
+            assertEquals("jdbc:h2:mem:replica", replica.getJdbcUrl());
+            // H2 has no replay lag functions, so the replica never becomes usable
+            assertFalse(context.getBean(ReadReplicaMonitor.class).isUsable());
+        });
+    }
+
+    @Test
+    void readReplica_WhenDisabled_ShouldKeepSingleDataSource() {
+        contextRunner.run(context -> {
+            // Assert
+            assertInstanceOf(HikariDataSource.class, context.getBean(DataSource.class));
+            assertFalse(context.containsBean("readReplicaMonitor"));
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package com.backend.portfolio.configurations;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.portfolio.events.PortfolioChangedEvent;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaMonitorTest {
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadReplicaMonitor readReplicaMonitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        readReplicaMonitor = new ReadReplicaMonitor(replicaDataSource, Duration.ofSeconds(5), Duration.ofSeconds(10),
+                meterRegistry);
+    }
+
+    @Test
+    void isUsable_BeforeFirstCheck_ShouldBeFalse() {
+        // Act & Assert
+        assertFalse(readReplicaMonitor.isUsable());
+    }
+
+    @Test
+    void check_WhenReplicaCaughtUp_ShouldBeUsable() throws SQLException {
+        // Arrange
+        replicaLagging(0.4);
+
+        // Act
+        readReplicaMonitor.check();
+
+        // Assert
+        assertTrue(readReplicaMonitor.isUsable());
+        assertEquals(1.0, meterRegistry.get(ReadReplicaMonitor.HEALTHY_GAUGE).gauge().value());
+        assertEquals(0.4, meterRegistry.get(ReadReplicaMonitor.LAG_GAUGE).gauge().value());
+    }
+
+    @Test
+    void check_WhenReplicaLagsBeyondMaxLag_ShouldNotBeUsable() throws SQLException {
+        // Arrange
+        replicaLagging(30);
+
+        // Act
+        readReplicaMonitor.check();
+
+        // Assert
+        assertFalse(readReplicaMonitor.isUsable());
+        assertEquals(1.0, meterRegistry.get(ReadReplicaMonitor.HEALTHY_GAUGE).gauge().value());
+    }
+
+    @Test
+    void check_WhenReplicaUnreachable_ShouldNotBeUsable() throws SQLException {
+        // Arrange
+        replicaLagging(0);
+        readReplicaMonitor.check();
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act
+        readReplicaMonitor.check();
+
+        // Assert
+        assertFalse(readReplicaMonitor.isUsable());
+        assertEquals(0.0, meterRegistry.get(ReadReplicaMonitor.HEALTHY_GAUGE).gauge().value());
+    }
+
+    @Test
+    void onPortfolioChanged_ShouldKeepReadsOnPrimaryForMaxLag() throws SQLException {
+        // Arrange
+        replicaLagging(0);
+        readReplicaMonitor.check();
+
+        // Act
+        readReplicaMonitor.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.FAQ, 1L, 10L));
+
+        // Assert
+        assertFalse(readReplicaMonitor.isUsable());
+    }
+
+    private void replicaLagging(double seconds) throws SQLException {
+        when(replicaDataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReadReplicaMonitor.LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(seconds);
+    }
+}
@@ -0,0 +1,113 @@
+package com.backend.portfolio.configurations;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReplicaFallbackDataSourceTest {
+
+    @Mock
+    private DataSource primaryDataSource;
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private ReadReplicaMonitor readReplicaMonitor;
+
+    private ReplicaFallbackDataSource replicaFallbackDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        replicaFallbackDataSource = new ReplicaFallbackDataSource(replicaDataSource, primaryDataSource, readReplicaMonitor);
+    }
+
+    @Test
+    void getConnection_WhenReplicaUsable_ShouldUseReplica() throws SQLException {
+        // Arrange
+        when(readReplicaMonitor.isUsable()).thenReturn(true);
+
+        // Act & Assert
+        assertSame(replicaConnection, replicaFallbackDataSource.getConnection());
+        verify(primaryDataSource, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_WhenReplicaNotUsable_ShouldUsePrimary() throws SQLException {
+        // Arrange
+        when(readReplicaMonitor.isUsable()).thenReturn(false);
+
+        // Act & Assert
+        assertSame(primaryConnection, replicaFallbackDataSource.getConnection());
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_WhenReplicaRefusesConnection_ShouldMarkUnhealthyAndUsePrimary() throws SQLException {
+        // Arrange
+        SQLException refused = new SQLException("Connection refused");
+        when(readReplicaMonitor.isUsable()).thenReturn(true);
+        when(replicaDataSource.getConnection()).thenThrow(refused);
+
+        // Act & Assert
+        assertSame(primaryConnection, replicaFallbackDataSource.getConnection());
+        verify(readReplicaMonitor, times(1)).markUnhealthy(refused);
+    }
+
+    @Test
+    void lazyProxy_ShouldRouteReadOnlyTransactionsToReplicaAndOthersToPrimary() throws SQLException {
+        // Arrange
+        when(readReplicaMonitor.isUsable()).thenReturn(true);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaFallbackDataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // Act
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> createStatement(dataSource));
+        transactionTemplate.setReadOnly(false);
+        transactionTemplate.executeWithoutResult(status -> createStatement(dataSource));
+
+        // Assert
+        verify(replicaConnection, times(1)).createStatement();
+        verify(primaryConnection, times(1)).createStatement();
+        verify(readReplicaMonitor, never()).markUnhealthy(any());
+    }
+
+    private void createStatement(DataSource dataSource) {
+        try {
+            DataSourceUtils.getConnection(dataSource).createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
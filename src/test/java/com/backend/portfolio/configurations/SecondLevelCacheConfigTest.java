@@ -0,0 +1,204 @@
+package com.backend.portfolio.configurations;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.portfolio.events.CacheBusReconnectedEvent;
+import com.backend.portfolio.events.PortfolioChangedEvent;
+import com.backend.portfolio.events.SecondLevelCacheInvalidator;
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.entities.Project;
+import com.backend.portfolio.models.entities.Technology;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+import com.backend.portfolio.repositories.ProjectRepository;
+import com.backend.portfolio.repositories.TechnologyRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Second-level and query cache behaviour on H2 with the regions built by SecondLevelCacheConfig.
+ * Rows written by an open transaction are never cached, so every step commits its own transaction.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheConfigTest {
+
+    private static final String PROJECT_TECHNOLOGIES_ROLE = Project.class.getName() + ".technologies";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Cache cache;
+    private Technology java;
+    private Profile profile;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            java = Technology.builder().name("Java").category("Language").build();
+            entityManager.persist(java);
+            profile = Profile.builder().fname("John").lname("Doe").technologies(new HashSet<>(List.of(java))).build();
+            entityManager.persist(profile);
+            project = Project.builder().name("E-Commerce Platform").technologies(new HashSet<>(List.of(java))).profile(profile).build();
+            entityManager.persist(project);
+        });
+
+        SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        cache = sessionFactory.getCache();
+        cache.evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate,
+                "projects_technologies", "profiles_technologies", "projects", "profiles", "technologies");
+        cache.evictAllRegions();
+    }
+
+    @Test
+    void findById_ShouldBeServedFromSecondLevelCacheAfterFirstLoad() {
+        // Act
+        technologyRepository.findById(java.getId()).orElseThrow();
+        Technology cached = technologyRepository.findById(java.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("Java", cached.getName());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.TECHNOLOGY_REGION).getHitCount());
+    }
+
+    @Test
+    void projectTechnologies_ShouldBeServedFromCollectionRegionAfterFirstLoad() {
+        // Act
+        loadProjectTechnologies();
+        int technologies = loadProjectTechnologies();
+
+        // Assert
+        assertEquals(1, technologies);
+        assertTrue(cache.containsCollection(PROJECT_TECHNOLOGIES_ROLE, project.getId()));
+        // The project row is read again, its technology links and the technology itself are not
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllResponsesByProfileId_ShouldUseQueryCacheUntilLinksChange() {
+        // Act
+        technologyRepository.findAllResponsesByProfileId(profile.getId());
+        technologyRepository.findAllResponsesByProfileId(profile.getId());
+        long hitsBeforeChange = statistics.getQueryCacheHitCount();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Technology docker = Technology.builder().name("Docker").category("DevOps").build();
+            entityManager.persist(docker);
+            entityManager.find(Profile.class, profile.getId()).getTechnologies().add(docker);
+        });
+        int afterChange = technologyRepository.findAllResponsesByProfileId(profile.getId()).size();
+
+        // Assert
+        assertEquals(1, hitsBeforeChange);
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(2, afterChange);
+    }
+
+    @Test
+    void onPortfolioChanged_WhenTechnologyChanged_ShouldEvictTechnologyCollections() {
+        // Arrange
+        loadProjectTechnologies();
+        technologyRepository.findById(java.getId()).orElseThrow();
+        assertTrue(cache.containsCollection(PROJECT_TECHNOLOGIES_ROLE, project.getId()));
+
+        // Act
+        secondLevelCacheInvalidator.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.TECHNOLOGY, null, java.getId()));
+
+        // Assert
+        assertFalse(cache.containsCollection(PROJECT_TECHNOLOGIES_ROLE, project.getId()));
+        // Local writes already went through Hibernate, so the entity itself is kept
+        assertTrue(cache.containsEntity(Technology.class, java.getId()));
+    }
+
+    @Test
+    void onPortfolioChanged_WhenRemoteTechnologyChanged_ShouldEvictTechnology() {
+        // Arrange
+        technologyRepository.findById(java.getId()).orElseThrow();
+
+        // Act
+        secondLevelCacheInvalidator.onPortfolioChanged(
+                new PortfolioChangedEvent(PortfolioSection.TECHNOLOGY, null, java.getId(), true));
+
+        // Assert
+        assertFalse(cache.containsEntity(Technology.class, java.getId()));
+    }
+
+    @Test
+    void onPortfolioChanged_WhenRemoteProjectChanged_ShouldEvictTechnologyCollections() {
+        // Arrange
+        loadProjectTechnologies();
+
+        // Act
+        secondLevelCacheInvalidator.onPortfolioChanged(
+                new PortfolioChangedEvent(PortfolioSection.PROJECT, profile.getId(), project.getId(), true));
+
+        // Assert
+        assertFalse(cache.containsCollection(PROJECT_TECHNOLOGIES_ROLE, project.getId()));
+    }
+
+    @Test
+    void onCacheBusReconnected_ShouldEvictAllRegions() {
+        // Arrange
+        loadProjectTechnologies();
+        technologyRepository.findById(java.getId()).orElseThrow();
+
+        // Act
+        secondLevelCacheInvalidator.onCacheBusReconnected(new CacheBusReconnectedEvent());
+
+        // Assert
+        assertFalse(cache.containsEntity(Technology.class, java.getId()));
+        assertFalse(cache.containsCollection(PROJECT_TECHNOLOGIES_ROLE, project.getId()));
+    }
+
+    private int loadProjectTechnologies() {
+        return transactionTemplate.execute(status ->
+                projectRepository.findById(project.getId()).orElseThrow().getTechnologies().size());
+    }
+}
@@ -0,0 +1,78 @@
+package com.backend.portfolio.configurations;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+    }
+
+    @Test
+    void load_WhenSameKeyInFlight_ShouldShareLoadAndCountCoalescedCaller() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<Object> databaseLoad = new CompletableFuture<>();
+
+        // Act
+        CompletableFuture<Object> first = singleFlight.load("faqs:1", "FaqService.getAllFaqsByProfileId", () -> {
+            loads.incrementAndGet();
+            return databaseLoad;
+        });
+        CompletableFuture<Object> second = singleFlight.load("faqs:1", "FaqService.getAllFaqsByProfileId", () -> {
+            loads.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        databaseLoad.complete("faqs");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("faqs", second.join());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get(SingleFlight.COALESCED_COUNTER)
+                .tag("method", "FaqService.getAllFaqsByProfileId").counter().count());
+    }
+
+    @Test
+    void load_AfterLoadCompleted_ShouldStartNewLoad() {
+        // Arrange
+        CompletableFuture<Object> first = singleFlight.load("faqs:1", "FaqService.getAllFaqsByProfileId",
+                () -> CompletableFuture.completedFuture("old"));
+
+        // Act
+        CompletableFuture<Object> second = singleFlight.load("faqs:1", "FaqService.getAllFaqsByProfileId",
+                () -> CompletableFuture.completedFuture("new"));
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals("new", second.join());
+        assertEquals(0.0, meterRegistry.get(SingleFlight.IN_FLIGHT_GAUGE).gauge().value());
+    }
+
+    @Test
+    void load_WhenLoaderThrows_ShouldFailAndReleaseKey() {
+        // Act
+        CompletableFuture<Object> failed = singleFlight.load("faqs:1", "FaqService.getAllFaqsByProfileId", () -> {
+            throw new IllegalStateException("Pool exhausted");
+        });
+
+        // Assert
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(0.0, meterRegistry.get(SingleFlight.IN_FLIGHT_GAUGE).gauge().value());
+    }
+}
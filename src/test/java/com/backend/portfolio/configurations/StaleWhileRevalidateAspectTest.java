@@ -0,0 +1,187 @@
+package com.backend.portfolio.configurations;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StaleWhileRevalidateAspectTest {
+
+    private StaleWhileRevalidateAspect staleWhileRevalidateAspect;
+    private SectionReader sectionReader;
+    private SectionReader proxy;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofMillis(200))
+                .cancelRunningFuture(false)
+                .build());
+        staleWhileRevalidateAspect = new StaleWhileRevalidateAspect(new SingleFlight(new SimpleMeterRegistry()),
+                CircuitBreakerRegistry.ofDefaults(), timeLimiterRegistry, true, 100, 2, 10);
+
+        sectionReader = new SectionReader();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(sectionReader);
+        proxyFactory.addAspect(staleWhileRevalidateAspect);
+        proxy = proxyFactory.getProxy();
+
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        staleWhileRevalidateAspect.destroy();
+    }
+
+    @Test
+    void staleWhileRevalidate_WhenReadSucceeds_ShouldReturnFreshResult() {
+        // Arrange
+        sectionReader.result.set("fresh");
+
+        // Act
+        String result = proxy.read(1L);
+
+        // Assert
+        assertEquals("fresh", result);
+        assertNull(response.getHeader(StaleWhileRevalidateAspect.STALE_HEADER));
+    }
+
+    @Test
+    void staleWhileRevalidate_WhenReadFails_ShouldReturnLastGoodResultMarkedStale() {
+        // Arrange
+        sectionReader.result.set("good");
+        proxy.read(1L);
+        sectionReader.failure.set(new IllegalStateException("Connection is not available"));
+
+        // Act
+        String result = proxy.read(1L);
+
+        // Assert
+        assertEquals("good", result);
+        assertEquals("true", response.getHeader(StaleWhileRevalidateAspect.STALE_HEADER));
+    }
+
+    @Test
+    void staleWhileRevalidate_WhenReadTimesOut_ShouldReturnLastGoodResultMarkedStale() {
+        // Arrange
+        sectionReader.result.set("good");
+        proxy.read(1L);
+        sectionReader.delayMillis = 1_000;
+
+        // Act
+        String result = proxy.read(1L);
+
+        // Assert
+        assertEquals("good", result);
+        assertEquals("true", response.getHeader(StaleWhileRevalidateAspect.STALE_HEADER));
+    }
+
+    @Test
+    void servedStale_ShouldStayTrueUntilResetOrNextCall() {
+        // Arrange
+        sectionReader.result.set("good");
+        proxy.read(1L);
+        sectionReader.failure.set(new IllegalStateException("Connection is not available"));
+
+        // Act
+        proxy.read(1L);
+        boolean first = StaleWhileRevalidateAspect.servedStale();
+        boolean second = StaleWhileRevalidateAspect.servedStale();
+        StaleWhileRevalidateAspect.resetServedStale();
+        boolean afterReset = StaleWhileRevalidateAspect.servedStale();
+        proxy.read(1L);
+        sectionReader.failure.set(null);
+        proxy.read(1L);
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(afterReset);
+        assertFalse(StaleWhileRevalidateAspect.servedStale());
+    }
+
+    @Test
+    void staleWhileRevalidate_WhenReadFailsWithoutLastGoodResult_ShouldThrowException() {
+        // Arrange
+        sectionReader.failure.set(new IllegalStateException("Connection is not available"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> proxy.read(1L));
+    }
+
+    @Test
+    void staleWhileRevalidate_WhenResourceNotFound_ShouldNotServeStaleResult() {
+        // Arrange
+        sectionReader.result.set("good");
+        proxy.read(1L);
+        sectionReader.failure.set(new ResourceNotFoundException("Profile not found with id: 1"));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> proxy.read(1L));
+        assertNull(response.getHeader(StaleWhileRevalidateAspect.STALE_HEADER));
+    }
+
+    @Test
+    void staleWhileRevalidate_WhenCalledConcurrently_ShouldLoadOnce() throws Exception {
+        // Arrange
+        sectionReader.result.set("fresh");
+        sectionReader.delayMillis = 100;
+
+        // Act
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> proxy.read(1L));
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> proxy.read(1L));
+
+        // Assert
+        assertEquals("fresh", first.get());
+        assertEquals("fresh", second.get());
+        assertEquals(1, sectionReader.calls.get());
+    }
+
+    static class SectionReader {
+
+        final AtomicReference<String> result = new AtomicReference<>();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final AtomicInteger calls = new AtomicInteger();
+        volatile long delayMillis;
+
+        @StaleWhileRevalidate
+        public String read(Long profileId) {
+            calls.incrementAndGet();
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            return result.get();
+        }
+    }
+}
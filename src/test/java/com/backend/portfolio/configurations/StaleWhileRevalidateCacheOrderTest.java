@@ -0,0 +1,251 @@
+package com.backend.portfolio.configurations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.backend.portfolio.models.responses.SerializedResponse;
+import com.backend.portfolio.services.SerializedResponseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest(
+        classes = {
+                CacheConfig.class,
+                SingleFlight.class,
+                StaleWhileRevalidateAspect.class,
+                SerializedResponseService.class,
+                StaleWhileRevalidateCacheOrderTest.TestConfig.class
+        },
+        properties = {
+                "app.stale-while-revalidate.threads=1",
+                "app.stale-while-revalidate.queue-capacity=1"
+        })
+class StaleWhileRevalidateCacheOrderTest {
+
+    @Autowired
+    private SectionReader sectionReader;
+
+    @Autowired
+    private SerializedResponseService serializedResponseService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.FAQS_CACHE).clear();
+        cacheManager.getCache(CacheConfig.RESPONSE_BYTES_CACHE).clear();
+        sectionReader.reset();
+        circuitBreakerRegistry.circuitBreaker(StaleWhileRevalidateAspect.RESILIENCE_INSTANCE).reset();
+
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sectionReader.release();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void cacheHit_WhenDatabaseIsBlocked_ShouldBeServedWithoutTheResiliencePath() throws Exception {
+        // Arrange
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(StaleWhileRevalidateAspect.RESILIENCE_INSTANCE);
+        sectionReader.setResult("good");
+        sectionReader.read(1L);
+        sectionReader.block();
+        CompletableFuture<String> blockedMiss = CompletableFuture.supplyAsync(() -> sectionReader.read(2L));
+        assertTrue(sectionReader.awaitCalls(2));
+
+        // Act
+        String first = sectionReader.read(1L);
+        String second = sectionReader.read(1L);
+
+        // Assert
+        assertEquals("good", first);
+        assertEquals("good", second);
+        assertNull(response.getHeader(StaleWhileRevalidateAspect.STALE_HEADER));
+        assertEquals(2, sectionReader.calls());
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfBufferedCalls());
+        sectionReader.release();
+        assertEquals("good", blockedMiss.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cacheMiss_WhenServedStale_ShouldNotCacheStaleResult() {
+        // Arrange
+        sectionReader.setResult("good");
+        sectionReader.read(1L);
+        cacheManager.getCache(CacheConfig.FAQS_CACHE).evict(1L);
+        sectionReader.setFailure(new IllegalStateException("Connection is not available"));
+
+        // Act
+        String stale = sectionReader.read(1L);
+        sectionReader.setFailure(null);
+        sectionReader.setResult("fresh");
+        String fresh = sectionReader.read(1L);
+
+        // Assert
+        assertEquals("good", stale);
+        assertEquals("true", response.getHeader(StaleWhileRevalidateAspect.STALE_HEADER));
+        assertEquals("fresh", fresh);
+    }
+
+    @Test
+    void getSerializedResponse_WhenBodyServedStale_ShouldNotCacheIt() {
+        // Arrange
+        sectionReader.setResult("good");
+        sectionReader.read(1L);
+        cacheManager.getCache(CacheConfig.FAQS_CACHE).evict(1L);
+        sectionReader.setFailure(new IllegalStateException("Connection is not available"));
+
+        // Act
+        SerializedResponse stale = serializedResponseService.getSerializedResponse(
+                CacheConfig.FAQS_CACHE, 1L, () -> sectionReader.read(1L));
+        sectionReader.setFailure(null);
+        sectionReader.setResult("fresh");
+        SerializedResponse fresh = serializedResponseService.getSerializedResponse(
+                CacheConfig.FAQS_CACHE, 1L, () -> sectionReader.read(1L));
+        SerializedResponse cached = serializedResponseService.getSerializedResponse(
+                CacheConfig.FAQS_CACHE, 1L, () -> sectionReader.read(1L));
+
+        // Assert
+        assertEquals("\"good\"", new String(stale.getJson(), StandardCharsets.UTF_8));
+        assertEquals("\"fresh\"", new String(fresh.getJson(), StandardCharsets.UTF_8));
+        assertSame(fresh, cached);
+    }
+
+    @TestConfiguration
+    @EnableAspectJAutoProxy
+    static class TestConfig {
+
+        @Bean
+        CaffeineCacheManager cacheManager() {
+            return new CaffeineCacheManager();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        CircuitBreakerRegistry circuitBreakerRegistry() {
+            return CircuitBreakerRegistry.ofDefaults();
+        }
+
+        @Bean
+        TimeLimiterRegistry timeLimiterRegistry() {
+            return TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                    .timeoutDuration(Duration.ofSeconds(5))
+                    .cancelRunningFuture(false)
+                    .build());
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        SectionReader sectionReader() {
+            return new SectionReader();
+        }
+    }
+
+    static class SectionReader {
+
+        private final AtomicReference<String> result = new AtomicReference<>();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        @Cacheable(cacheNames = CacheConfig.FAQS_CACHE, key = "#profileId",
+                unless = StaleWhileRevalidateAspect.UNLESS_STALE)
+        @StaleWhileRevalidate
+        public String read(Long profileId) {
+            calls.incrementAndGet();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            return result.get();
+        }
+
+        void setResult(String value) {
+            result.set(value);
+        }
+
+        void setFailure(RuntimeException value) {
+            failure.set(value);
+        }
+
+        int calls() {
+            return calls.get();
+        }
+
+        void reset() {
+            result.set(null);
+            failure.set(null);
+            calls.set(0);
+            gate = new CountDownLatch(0);
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        boolean awaitCalls(int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (calls.get() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return calls.get() >= expected;
+        }
+    }
+}
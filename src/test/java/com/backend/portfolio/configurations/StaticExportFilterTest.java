@@ -0,0 +1,204 @@
+package com.backend.portfolio.configurations;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.backend.portfolio.services.StaticExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import jakarta.servlet.FilterChain;
+
+class StaticExportFilterTest {
+
+    private static final String URI = "/api/v1/faqs/profile/1";
+    private static final String ETAG = "\"faqs-v1\"";
+
+    @TempDir
+    private Path directory;
+
+    private final StaticExportService staticExportService = mock(StaticExportService.class);
+    private final FilterChain filterChain = mock(FilterChain.class);
+
+    private Path json;
+    private Path gzip;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        json = Files.writeString(directory.resolve("1.json"), "[]");
+        gzip = Files.write(directory.resolve("1.json.gz"), new byte[] {1, 2, 3});
+        when(staticExportService.findExportedETag(URI)).thenReturn(ETAG);
+        when(staticExportService.findExportedFile(URI, ETAG, false)).thenReturn(json);
+        when(staticExportService.findExportedFile(URI, ETAG, true)).thenReturn(gzip);
+    }
+
+    @Test
+    void doFilter_ShouldServeExportedFileWithItsETag() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter(100).doFilter(request(), response, filterChain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertEquals(ETAG, response.getHeader("ETag"));
+        assertEquals("[]", response.getContentAsString(StandardCharsets.UTF_8));
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_WhenIfNoneMatchMatches_ShouldAnswerNotModified() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request();
+        request.addHeader("If-None-Match", ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter(100).doFilter(request, response, filterChain);
+
+        // Assert
+        assertEquals(304, response.getStatus());
+        assertEquals(ETAG, response.getHeader("ETag"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void doFilter_WhenIfNoneMatchHoldsOtherEncodingETag_ShouldAnswerNotModifiedWithOwnETag() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request();
+        request.addHeader("If-None-Match", ETAG);
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter(100).doFilter(request, response, filterChain);
+
+        // Assert
+        assertEquals(304, response.getStatus());
+        assertEquals("\"faqs-v1-gzip\"", response.getHeader("ETag"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+    }
+
+    @Test
+    void doFilter_WhenGzipRefusedByQValue_ShouldServePlainJson() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request();
+        request.addHeader("Accept-Encoding", "gzip;q=0, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter(100).doFilter(request, response, filterChain);
+
+        // Assert
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals("[]", response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void doFilter_WhenClientAcceptsGzip_ShouldServeGzipFile() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request();
+        request.addHeader("Accept-Encoding", "gzip, deflate, br");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter(100).doFilter(request, response, filterChain);
+
+        // Assert
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("\"faqs-v1-gzip\"", response.getHeader("ETag"));
+        assertEquals(3, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void doFilter_WhenPublicRateLimitExceeded_ShouldAnswerTooManyRequests() throws Exception {
+        // Arrange
+        StaticExportFilter filter = filter(1);
+        filter.doFilter(request(), new MockHttpServletResponse(), filterChain);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request(), response, filterChain);
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals("Too Many Requests",
+                new ObjectMapper().readTree(response.getContentAsByteArray()).get("error").asText());
+    }
+
+    @Test
+    void doFilter_WhenSendfileSupported_ShouldHandTheVersionedFileToTomcat() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter(100).doFilter(request, response, filterChain);
+
+        // Assert
+        assertEquals(json.toAbsolutePath().toString(), request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(2L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+        assertEquals("2", response.getHeader("Content-Length"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void doFilter_WhenVersionedFileDeletedMeanwhile_ShouldPassToControllers() throws Exception {
+        // Arrange
+        Files.delete(json);
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter(100).doFilter(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void doFilter_WhenNoExportedETag_ShouldPassToControllers() throws Exception {
+        // Arrange
+        when(staticExportService.findExportedETag(URI)).thenReturn(null);
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter(100).doFilter(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+    }
+
+    private StaticExportFilter filter(int limitForPeriod) {
+        RateLimiterRegistry registry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                .limitForPeriod(limitForPeriod)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+        return new StaticExportFilter(staticExportService, registry, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", URI);
+    }
+}
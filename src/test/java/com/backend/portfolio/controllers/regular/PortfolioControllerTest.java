@@ -0,0 +1,49 @@
+package com.backend.portfolio.controllers.regular;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.services.PortfolioService;
+import com.backend.portfolio.services.ProfileExistenceService;
+import com.backend.portfolio.services.ResourceVersionService;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioControllerTest {
+
+    @Mock
+    private PortfolioService portfolioService;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    @Mock
+    private ProfileExistenceService profileExistenceService;
+
+    @InjectMocks
+    private PortfolioController portfolioController;
+
+    @Test
+    void getPortfolioByProfileId_WhenKnownMissing_ShouldThrowExceptionBeforeAnyRead() {
+        // Arrange
+        doThrow(new ResourceNotFoundException("Profile not found with id: 999"))
+                .when(profileExistenceService).checkNotKnownMissing(999L);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+            portfolioController.getPortfolioByProfileId(999L, new ServletWebRequest(new MockHttpServletRequest())));
+        verify(resourceVersionService, never()).getETag(anyString(), anyLong());
+        verify(portfolioService, never()).getPortfolioByProfileId(anyLong());
+    }
+}
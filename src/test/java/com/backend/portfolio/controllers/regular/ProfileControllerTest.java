@@ -0,0 +1,71 @@
+package com.backend.portfolio.controllers.regular;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.models.responses.ProfileResponse;
+import com.backend.portfolio.services.ProfileExistenceService;
+import com.backend.portfolio.services.ProfileService;
+import com.backend.portfolio.services.ResourceVersionService;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileControllerTest {
+
+    @Mock
+    private ProfileService profileService;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    @Mock
+    private ProfileExistenceService profileExistenceService;
+
+    @InjectMocks
+    private ProfileController profileController;
+
+    @Test
+    void getProfileById_WhenExists_ShouldReturnProfileWithETag() {
+        // Arrange
+        when(resourceVersionService.getETag(CacheConfig.PROFILE_CACHE, 1L)).thenReturn("\"v1\"");
+        when(profileService.getProfileById(1L)).thenReturn(ProfileResponse.builder().id(1L).build());
+
+        // Act
+        ResponseEntity<ProfileResponse> result = profileController.getProfileById(1L,
+                new ServletWebRequest(new MockHttpServletRequest()));
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"v1\"", result.getHeaders().getETag());
+        assertEquals(1L, result.getBody().getId());
+    }
+
+    @Test
+    void getProfileById_WhenKnownMissing_ShouldThrowExceptionBeforeAnyRead() {
+        // Arrange
+        doThrow(new ResourceNotFoundException("Profile not found with id: 999"))
+                .when(profileExistenceService).checkNotKnownMissing(999L);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+            profileController.getProfileById(999L, new ServletWebRequest(new MockHttpServletRequest())));
+        verify(resourceVersionService, never()).getETag(anyString(), anyLong());
+        verify(profileService, never()).getProfileById(anyLong());
+    }
+}
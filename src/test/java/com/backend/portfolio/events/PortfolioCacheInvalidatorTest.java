@@ -0,0 +1,86 @@
+package com.backend.portfolio.events;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+
+class PortfolioCacheInvalidatorTest {
+
+    private CacheManager cacheManager;
+    private PortfolioCacheInvalidator portfolioCacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(
+                CacheConfig.PORTFOLIO_CACHE,
+                CacheConfig.PROFILE_CACHE,
+                CacheConfig.PROJECTS_CACHE,
+                CacheConfig.FAQS_CACHE,
+                CacheConfig.TECHNOLOGIES_CACHE,
+                CacheConfig.ETAGS_CACHE,
+                CacheConfig.RESPONSE_BYTES_CACHE);
+        portfolioCacheInvalidator = new PortfolioCacheInvalidator(cacheManager);
+
+        for (Long profileId : new Long[] {1L, 2L}) {
+            cacheManager.getCache(CacheConfig.PORTFOLIO_CACHE).put(profileId, "portfolio");
+            cacheManager.getCache(CacheConfig.PROFILE_CACHE).put(profileId, "profile");
+            cacheManager.getCache(CacheConfig.PROJECTS_CACHE).put(profileId, "projects");
+            cacheManager.getCache(CacheConfig.FAQS_CACHE).put(profileId, "faqs");
+            cacheManager.getCache(CacheConfig.ETAGS_CACHE).put(CacheConfig.PROJECTS_CACHE + ":" + profileId, "\"etag\"");
+            cacheManager.getCache(CacheConfig.RESPONSE_BYTES_CACHE).put(CacheConfig.PROJECTS_CACHE + ":" + profileId, "bytes");
+        }
+    }
+
+    @Test
+    void onPortfolioChanged_WithFaqChange_ShouldEvictOnlyFaqsOfThatProfile() {
+        // Act
+        portfolioCacheInvalidator.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.FAQ, 1L, 10L));
+
+        // Assert
+        assertNull(cacheManager.getCache(CacheConfig.FAQS_CACHE).get(1L));
+        assertNull(cacheManager.getCache(CacheConfig.PORTFOLIO_CACHE).get(1L));
+        assertNotNull(cacheManager.getCache(CacheConfig.PROJECTS_CACHE).get(1L));
+        assertNotNull(cacheManager.getCache(CacheConfig.FAQS_CACHE).get(2L));
+        assertNotNull(cacheManager.getCache(CacheConfig.PORTFOLIO_CACHE).get(2L));
+    }
+
+    @Test
+    void onPortfolioChanged_WithTechnologyChange_ShouldClearProjectsOfAllProfiles() {
+        // Act
+        portfolioCacheInvalidator.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.TECHNOLOGY, null, 10L));
+
+        // Assert
+        assertNull(cacheManager.getCache(CacheConfig.PROJECTS_CACHE).get(1L));
+        assertNull(cacheManager.getCache(CacheConfig.PROJECTS_CACHE).get(2L));
+        assertNotNull(cacheManager.getCache(CacheConfig.FAQS_CACHE).get(1L));
+    }
+
+    @Test
+    void onPortfolioChanged_WithProfileChange_ShouldEvictEverySectionOfThatProfile() {
+        // Act
+        portfolioCacheInvalidator.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.PROFILE, 1L, 1L));
+
+        // Assert
+        assertNull(cacheManager.getCache(CacheConfig.PROFILE_CACHE).get(1L));
+        assertNull(cacheManager.getCache(CacheConfig.PROJECTS_CACHE).get(1L));
+        assertNull(cacheManager.getCache(CacheConfig.FAQS_CACHE).get(1L));
+        assertNotNull(cacheManager.getCache(CacheConfig.PROJECTS_CACHE).get(2L));
+    }
+
+    @Test
+    void onPortfolioChanged_WithProjectChange_ShouldEvictETagAndBytesOfThatProfile() {
+        // Act
+        portfolioCacheInvalidator.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.PROJECT, 1L, 10L));
+
+        // Assert
+        assertNull(cacheManager.getCache(CacheConfig.ETAGS_CACHE).get(CacheConfig.PROJECTS_CACHE + ":1"));
+        assertNull(cacheManager.getCache(CacheConfig.RESPONSE_BYTES_CACHE).get(CacheConfig.PROJECTS_CACHE + ":1"));
+        assertNotNull(cacheManager.getCache(CacheConfig.RESPONSE_BYTES_CACHE).get(CacheConfig.PROJECTS_CACHE + ":2"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.backend.portfolio.events;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresCacheBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private PostgresCacheBus postgresCacheBus;
+
+    @BeforeEach
+    void setUp() {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:postgresql://localhost:5432/portfolio");
+        postgresCacheBus = new PostgresCacheBus(jdbcTemplate, applicationEventPublisher, cacheManager,
+                dataSourceProperties, "", "portfolio_cache", 5000);
+    }
+
+    @Test
+    void decode_ShouldRestoreEncodedEventAsRemote() {
+        // Arrange
+        PortfolioChangedEvent event = new PortfolioChangedEvent(PortfolioSection.FAQ, 1L, 10L);
+
+        // Act
+        PortfolioChangedEvent result = PostgresCacheBus.decode("other-node", PostgresCacheBus.encode("node", event));
+
+        // Assert
+        assertEquals(PortfolioSection.FAQ, result.getSection());
+        assertEquals(1L, result.getProfileId());
+        assertEquals(10L, result.getEntityId());
+        assertTrue(result.isRemote());
+    }
+
+    @Test
+    void decode_WithAllProfilesEvent_ShouldKeepNullProfileId() {
+        // Arrange
+        PortfolioChangedEvent event = new PortfolioChangedEvent(PortfolioSection.TECHNOLOGY, null, 5L);
+
+        // Act
+        PortfolioChangedEvent result = PostgresCacheBus.decode("other-node", PostgresCacheBus.encode("node", event));
+
+        // Assert
+        assertTrue(result.affectsAllProfiles());
+    }
+
+    @Test
+    void decode_WhenSentByThisNode_ShouldReturnNull() {
+        // Arrange
+        PortfolioChangedEvent event = new PortfolioChangedEvent(PortfolioSection.FAQ, 1L, 10L);
+
+        // Act & Assert
+        assertNull(PostgresCacheBus.decode("node", PostgresCacheBus.encode("node", event)));
+    }
+
+    @Test
+    void decode_WithInvalidPayload_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            PostgresCacheBus.decode("node", "not a message"));
+    }
+
+    @Test
+    void onPortfolioChanged_WithLocalEvent_ShouldNotify() {
+        // Act
+        postgresCacheBus.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.FAQ, 1L, 10L));
+
+        // Assert
+        verify(jdbcTemplate, times(1)).queryForObject(eq("SELECT pg_notify(?, ?)"), eq(Object.class), eq("portfolio_cache"), anyString());
+    }
+
+    @Test
+    void onPortfolioChanged_WithRemoteEvent_ShouldNotForwardAgain() {
+        // Act
+        postgresCacheBus.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.FAQ, 1L, 10L, true));
+
+        // Assert
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Object.class), any(Object[].class));
+    }
+
+    @Test
+    void clearAllCaches_ShouldClearEveryCacheAndPublishReconnect() {
+        // Arrange
+        Cache faqs = mock(Cache.class);
+        when(cacheManager.getCacheNames()).thenReturn(List.of(CacheConfig.FAQS_CACHE));
+        when(cacheManager.getCache(CacheConfig.FAQS_CACHE)).thenReturn(faqs);
+
+        // Act
+        postgresCacheBus.clearAllCaches();
+
+        // Assert
+        verify(faqs, times(1)).clear();
+        verify(applicationEventPublisher, times(1)).publishEvent(any(CacheBusReconnectedEvent.class));
+    }
+
+    @Test
+    void constructor_WithInvalidChannel_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            new PostgresCacheBus(jdbcTemplate, applicationEventPublisher, cacheManager,
+                    new DataSourceProperties(), "", "cache; DROP TABLE profiles", 5000));
+    }
+}
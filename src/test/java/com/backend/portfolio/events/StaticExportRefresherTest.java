@@ -0,0 +1,122 @@
+package com.backend.portfolio.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyLong;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.exceptions.custom.StaleDataException;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+import com.backend.portfolio.services.StaticExportService;
+
+@ExtendWith(MockitoExtension.class)
+class StaticExportRefresherTest {
+
+    @Mock
+    private StaticExportService staticExportService;
+
+    private final QueuedExecutor executor = new QueuedExecutor();
+
+    @Test
+    void onPortfolioChanged_ShouldQueueOneExportPerProfileWithoutRunningIt() {
+        // Arrange
+        StaticExportRefresher refresher = new StaticExportRefresher(staticExportService, executor);
+        when(staticExportService.getExportedProfileIds()).thenReturn(List.of(1L, 2L));
+
+        // Act
+        refresher.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.FAQ, 1L, 10L));
+        refresher.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.PROJECT, 1L, 11L));
+
+        // Assert
+        verify(staticExportService, never()).exportProfile(anyLong());
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        verify(staticExportService, times(1)).exportProfile(1L);
+        verify(staticExportService, never()).exportProfile(2L);
+    }
+
+    @Test
+    void refresh_WhenProfileDeleted_ShouldDeleteItsExport() {
+        // Arrange
+        StaticExportRefresher refresher = new StaticExportRefresher(staticExportService, executor);
+        when(staticExportService.getExportedProfileIds()).thenReturn(List.of(1L));
+        when(staticExportService.exportProfile(1L)).thenThrow(new ResourceNotFoundException("Profile not found with id: 1"));
+        refresher.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.PROFILE, 1L, 1L));
+
+        // Act
+        executor.runAll();
+
+        // Assert
+        verify(staticExportService).deleteProfileExport(1L);
+    }
+
+    @Test
+    void refresh_WhenExportServedStale_ShouldKeepPreviousExport() {
+        // Arrange
+        StaticExportRefresher refresher = new StaticExportRefresher(staticExportService, executor);
+        when(staticExportService.getExportedProfileIds()).thenReturn(List.of(1L));
+        when(staticExportService.exportProfile(1L)).thenThrow(new StaleDataException("Stale faqs/profile/1 not exported for profile id: 1"));
+        refresher.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.FAQ, 1L, 10L));
+
+        // Act
+        executor.runAll();
+
+        // Assert
+        verify(staticExportService, never()).deleteProfileExport(anyLong());
+    }
+
+    /**
+     * Holds tasks until the test runs them
+     */
+    private static class QueuedExecutor extends AbstractExecutorService {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        void runAll() {
+            List<Runnable> queued = new ArrayList<>(tasks);
+            tasks.clear();
+            queued.forEach(Runnable::run);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.backend.portfolio.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+import com.backend.portfolio.services.TechnologyFilterService;
+
+@ExtendWith(MockitoExtension.class)
+class TechnologyIndexUpdaterTest {
+
+    @Mock
+    private TechnologyFilterService technologyFilterService;
+
+    private final QueuedExecutor executor = new QueuedExecutor();
+
+    private TechnologyIndexUpdater technologyIndexUpdater;
+
+    @BeforeEach
+    void setUp() {
+        technologyIndexUpdater = new TechnologyIndexUpdater(technologyFilterService, executor);
+    }
+
+    @Test
+    void onPortfolioChanged_WithProfileChange_ShouldRefreshThatProfileInPlace() {
+        // Act
+        technologyIndexUpdater.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.PROJECT, 1L, 10L));
+
+        // Assert
+        verify(technologyFilterService, times(1)).refreshProjects(1L);
+        assertEquals(0, executor.tasks.size());
+    }
+
+    @Test
+    void onPortfolioChanged_WhenAllProfilesAffected_ShouldQueueOneRebuildWithoutRunningIt() {
+        // Act
+        technologyIndexUpdater.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.TECHNOLOGY, null, null));
+        technologyIndexUpdater.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.PROJECT, null, null));
+
+        // Assert
+        verify(technologyFilterService, never()).rebuild();
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        verify(technologyFilterService, times(1)).rebuild();
+    }
+
+    @Test
+    void onPortfolioChanged_WhenRefreshFails_ShouldRebuildInBackground() {
+        // Arrange
+        doThrow(new IllegalStateException("Connection is not available")).when(technologyFilterService).refreshTechnology(5L);
+
+        // Act
+        technologyIndexUpdater.onPortfolioChanged(new PortfolioChangedEvent(PortfolioSection.TECHNOLOGY, null, 5L));
+
+        // Assert
+        executor.runAll();
+        verify(technologyFilterService, times(1)).rebuild();
+    }
+
+    @Test
+    void rebuild_WhenChangeArrivesWhileRunning_ShouldQueueAnother() {
+        // Arrange
+        technologyIndexUpdater.onCacheBusReconnected(new CacheBusReconnectedEvent());
+        executor.runAll();
+
+        // Act
+        technologyIndexUpdater.onCacheBusReconnected(new CacheBusReconnectedEvent());
+
+        // Assert
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        verify(technologyFilterService, times(2)).rebuild();
+    }
+
+    /**
+     * Holds tasks until the test runs them
+     */
+    private static class QueuedExecutor extends AbstractExecutorService {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        void runAll() {
+            List<Runnable> queued = new ArrayList<>(tasks);
+            tasks.clear();
+            queued.forEach(Runnable::run);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
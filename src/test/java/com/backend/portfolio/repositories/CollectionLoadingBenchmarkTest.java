@@ -0,0 +1,185 @@
+package com.backend.portfolio.repositories;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.backend.portfolio.models.entities.Experience;
+import com.backend.portfolio.models.entities.ExperiencePoint;
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.entities.Project;
+import com.backend.portfolio.models.entities.ProjectPoint;
+import com.backend.portfolio.models.entities.Technology;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares the former single query that JOIN FETCHes points and technologies together
+ * with the two-phase loader (parents, then one query per collection) on a synthetic profile.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Slf4j
+class CollectionLoadingBenchmarkTest {
+
+    private static final int PARENTS = 300;
+    private static final int POINTS_PER_PARENT = 10;
+    private static final int TECHNOLOGIES_PER_PARENT = 15;
+    private static final int ITERATIONS = 5;
+
+    private static final String CARTESIAN_PROJECTS = "SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.projectPoints "
+            + "LEFT JOIN FETCH p.technologies WHERE p.profile.id = :profileId ORDER BY p.startDate DESC";
+    private static final String CARTESIAN_EXPERIENCES = "SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.experiencePoints "
+            + "LEFT JOIN FETCH e.technologies WHERE e.profile.id = :profileId ORDER BY e.startDate DESC";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    private Long profileId;
+
+    @BeforeEach
+    void setUp() {
+        Profile profile = Profile.builder()
+                .fname("Bench")
+                .lname("Mark")
+                .build();
+        entityManager.persist(profile);
+        profileId = profile.getId();
+
+        List<Technology> technologies = new ArrayList<>();
+        for (int i = 0; i < TECHNOLOGIES_PER_PARENT * 2; i++) {
+            Technology technology = Technology.builder()
+                    .name("Technology " + i)
+                    .build();
+            entityManager.persist(technology);
+            technologies.add(technology);
+        }
+
+        for (int i = 0; i < PARENTS; i++) {
+            Project project = Project.builder()
+                    .name("Project " + i)
+                    .startDate(LocalDate.of(2020, 1, 1).plusDays(i))
+                    .profile(profile)
+                    .build();
+            Experience experience = Experience.builder()
+                    .company("Company " + i)
+                    .position("Engineer")
+                    .startDate(LocalDate.of(2020, 1, 1).plusDays(i))
+                    .profile(profile)
+                    .build();
+            for (int t = 0; t < TECHNOLOGIES_PER_PARENT; t++) {
+                project.getTechnologies().add(technologies.get((i + t) % technologies.size()));
+                experience.getTechnologies().add(technologies.get((i + t) % technologies.size()));
+            }
+            entityManager.persist(project);
+            entityManager.persist(experience);
+            for (int p = 0; p < POINTS_PER_PARENT; p++) {
+                entityManager.persist(ProjectPoint.builder().content("Point " + p).project(project).build());
+                entityManager.persist(ExperiencePoint.builder().content("Point " + p).experience(experience).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void projects_TwoPhaseLoader_ShouldLoadSameGraphWithAdditiveRows() {
+        // Act
+        List<Project> cartesian = entityManager.createQuery(CARTESIAN_PROJECTS, Project.class)
+                .setParameter("profileId", profileId)
+                .getResultList();
+        entityManager.clear();
+        List<Project> twoPhase = loadProjectsInTwoPhases();
+
+        // Assert
+        assertEquals(PARENTS, twoPhase.size());
+        assertEquals(cartesian.stream().map(Project::getId).toList(), twoPhase.stream().map(Project::getId).toList());
+        for (Project project : twoPhase) {
+            assertEquals(POINTS_PER_PARENT, project.getProjectPoints().size());
+            assertEquals(TECHNOLOGIES_PER_PARENT, project.getTechnologies().size());
+        }
+
+        long cartesianRows = (long) PARENTS * POINTS_PER_PARENT * TECHNOLOGIES_PER_PARENT;
+        long twoPhaseRows = PARENTS + (long) PARENTS * POINTS_PER_PARENT + (long) PARENTS * TECHNOLOGIES_PER_PARENT;
+        report("projects", cartesianRows, twoPhaseRows,
+                () -> entityManager.createQuery(CARTESIAN_PROJECTS, Project.class).setParameter("profileId", profileId).getResultList(),
+                this::loadProjectsInTwoPhases);
+        assertTrue(twoPhaseRows < cartesianRows);
+    }
+
+    @Test
+    void experiences_TwoPhaseLoader_ShouldLoadSameGraphWithAdditiveRows() {
+        // Act
+        List<Experience> cartesian = entityManager.createQuery(CARTESIAN_EXPERIENCES, Experience.class)
+                .setParameter("profileId", profileId)
+                .getResultList();
+        entityManager.clear();
+        List<Experience> twoPhase = loadExperiencesInTwoPhases();
+
+        // Assert
+        assertEquals(PARENTS, twoPhase.size());
+        assertEquals(cartesian.stream().map(Experience::getId).toList(), twoPhase.stream().map(Experience::getId).toList());
+        for (Experience experience : twoPhase) {
+            assertEquals(POINTS_PER_PARENT, experience.getExperiencePoints().size());
+            assertEquals(TECHNOLOGIES_PER_PARENT, experience.getTechnologies().size());
+        }
+
+        long cartesianRows = (long) PARENTS * POINTS_PER_PARENT * TECHNOLOGIES_PER_PARENT;
+        long twoPhaseRows = PARENTS + (long) PARENTS * POINTS_PER_PARENT + (long) PARENTS * TECHNOLOGIES_PER_PARENT;
+        report("experiences", cartesianRows, twoPhaseRows,
+                () -> entityManager.createQuery(CARTESIAN_EXPERIENCES, Experience.class).setParameter("profileId", profileId).getResultList(),
+                this::loadExperiencesInTwoPhases);
+        assertTrue(twoPhaseRows < cartesianRows);
+    }
+
+    private List<Project> loadProjectsInTwoPhases() {
+        List<Project> projects = projectRepository.findAllByProfileIdOrderByStartDateDesc(profileId);
+        projectRepository.fetchProjectPoints(projects);
+        projectRepository.fetchTechnologies(projects);
+        return projects;
+    }
+
+    private List<Experience> loadExperiencesInTwoPhases() {
+        List<Experience> experiences = experienceRepository.findAllByProfileIdOrderByStartDateDesc(profileId);
+        experienceRepository.fetchExperiencePoints(experiences);
+        experienceRepository.fetchTechnologies(experiences);
+        return experiences;
+    }
+
+    private void report(String name, long cartesianRows, long twoPhaseRows, Supplier<List<?>> cartesian, Supplier<List<?>> twoPhase) {
+        long cartesianMillis = time(cartesian);
+        long twoPhaseMillis = time(twoPhase);
+        log.info("{} x {} ({} points, {} technologies each): cartesian {} rows in {} ms, two-phase {} rows in {} ms (avg of {})",
+                PARENTS, name, POINTS_PER_PARENT, TECHNOLOGIES_PER_PARENT,
+                cartesianRows, cartesianMillis, twoPhaseRows, twoPhaseMillis, ITERATIONS);
+    }
+
+    private long time(Supplier<List<?>> loader) {
+        // One warm-up run, then the average of the timed runs, each in an empty persistence context
+        entityManager.clear();
+        loader.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            entityManager.clear();
+            loader.get();
+        }
+        entityManager.clear();
+        return (System.nanoTime() - start) / ITERATIONS / 1_000_000;
+    }
+}
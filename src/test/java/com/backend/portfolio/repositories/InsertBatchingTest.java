@@ -0,0 +1,87 @@
+package com.backend.portfolio.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.entities.Project;
+import com.backend.portfolio.models.entities.ProjectPoint;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Pooled sequence ids keep JDBC insert batching on, so a project and its points take a statement per table
+ * (IDENTITY ids force one statement per row)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=20",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class InsertBatchingTest {
+
+    private static final int POINTS = 12;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Profile profile;
+
+    @BeforeEach
+    void setUp() {
+        profile = Profile.builder().fname("John").lname("Doe").build();
+        entityManager.persist(profile);
+        entityManager.flush();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void persistProjectWithPoints_ShouldBatchInserts() {
+        // Arrange
+        Project project = Project.builder().name("E-Commerce Platform").profile(profile).build();
+
+        // Act
+        entityManager.persist(project);
+        for (int i = 0; i < POINTS; i++) {
+            entityManager.persist(ProjectPoint.builder().content("Point " + i).project(project).build());
+        }
+        entityManager.flush();
+
+        // Assert
+        assertEquals(POINTS + 1, statistics.getEntityInsertCount());
+        // One insert statement per table plus the sequence calls, far below one per row
+        assertTrue(statistics.getPrepareStatementCount() <= 6,
+                "Expected batched inserts but prepared " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void persistProjectWithPoints_ShouldAllocateIdsFromOneSequenceBlock() {
+        // Act
+        ProjectPoint first = ProjectPoint.builder().content("First").build();
+        ProjectPoint last = ProjectPoint.builder().content("Last").build();
+        Project project = Project.builder().name("E-Commerce Platform").profile(profile).build();
+        entityManager.persist(project);
+        first.setProject(project);
+        entityManager.persist(first);
+        for (int i = 0; i < POINTS - 2; i++) {
+            entityManager.persist(ProjectPoint.builder().content("Point " + i).project(project).build());
+        }
+        last.setProject(project);
+        entityManager.persist(last);
+
+        // Assert
+        assertEquals(POINTS - 1, last.getId() - first.getId());
+    }
+}
@@ -0,0 +1,87 @@
+package com.backend.portfolio.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.backend.portfolio.models.entities.Inquire;
+import com.backend.portfolio.models.entities.Profile;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Walks the inquire keyset pages, rows sharing a created_at must neither repeat nor go missing across pages
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+class KeysetPaginationQueriesTest {
+
+    private static final LocalDateTime OLDER = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final LocalDateTime NEWER = LocalDateTime.of(2024, 2, 1, 9, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private InquireRepository inquireRepository;
+
+    private final List<Long> expectedOrder = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Profile profile = Profile.builder().fname("John").lname("Doe").build();
+        entityManager.persist(profile);
+
+        List<Inquire> older = new ArrayList<>();
+        List<Inquire> newer = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Inquire inquire = Inquire.builder()
+                    .name("Sender " + i)
+                    .email("sender" + i + "@example.com")
+                    .message("Hello")
+                    .profile(profile)
+                    .build();
+            entityManager.persist(inquire);
+            (i < 3 ? older : newer).add(inquire);
+        }
+        entityManager.flush();
+
+        // @CreationTimestamp stamps the insert time, so pin the timestamps afterwards to force ties
+        setCreatedAt(older, OLDER);
+        setCreatedAt(newer, NEWER);
+        entityManager.clear();
+
+        newer.reversed().forEach(inquire -> expectedOrder.add(inquire.getId()));
+        older.reversed().forEach(inquire -> expectedOrder.add(inquire.getId()));
+    }
+
+    @Test
+    void findPageAfter_ShouldVisitEveryRowOnceInCreatedAtAndIdOrder() {
+        // Act
+        List<Long> visited = new ArrayList<>();
+        List<Inquire> page = inquireRepository.findFirstPage(Limit.of(2));
+        while (!page.isEmpty()) {
+            page.forEach(inquire -> visited.add(inquire.getId()));
+            Inquire last = page.get(page.size() - 1);
+            page = inquireRepository.findPageAfter(last.getCreatedAt(), last.getId(), Limit.of(2));
+        }
+
+        // Assert
+        assertEquals(expectedOrder, visited);
+    }
+
+    private void setCreatedAt(List<Inquire> inquires, LocalDateTime createdAt) {
+        entityManager.createQuery("UPDATE Inquire i SET i.createdAt = :createdAt WHERE i IN :inquires")
+                .setParameter("createdAt", createdAt)
+                .setParameter("inquires", inquires)
+                .executeUpdate();
+    }
+}
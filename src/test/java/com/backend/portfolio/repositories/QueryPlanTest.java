@@ -0,0 +1,230 @@
+package com.backend.portfolio.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs each filtered repository query on PostgreSQL with the Flyway schema (no ddl-auto), seeded with
+ * a few hundred profiles, records the SQL Hibernate actually prepares and fails when the generic plan
+ * of any of those statements reads a table by a sequential scan.
+ * Sequential scans are disabled for the planner, so one only shows up where no index can serve the query.
+ * The seed and ANALYZE run inside the test transaction and are rolled back with it.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.backend.portfolio.repositories.QueryPlanTest$StatementRecorder"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    private static final int PROFILES = 300;
+    private static final int ROWS_PER_PROFILE = 5;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ProfileRepository profileRepository;
+    @Autowired private TechnologyRepository technologyRepository;
+    @Autowired private AddressRepository addressRepository;
+    @Autowired private ContactRepository contactRepository;
+    @Autowired private EducationRepository educationRepository;
+    @Autowired private AchievementRepository achievementRepository;
+    @Autowired private FaqRepository faqRepository;
+    @Autowired private InquireRepository inquireRepository;
+    @Autowired private ExperienceRepository experienceRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private ProjectPointRepository projectPointRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO profiles (id, fname, lname, url) "
+                + "SELECT x, 'First' || x, 'Last' || x, 'https://example.com/' || x FROM generate_series(1, ?) x", PROFILES);
+        jdbcTemplate.update("INSERT INTO technologies (id, name, category) "
+                + "SELECT x, 'Technology ' || x, 'Category ' || MOD(x, 10) FROM generate_series(1, 200) x");
+        jdbcTemplate.update("INSERT INTO profiles_technologies (profile_id, technology_id) "
+                + "SELECT p, MOD(p * 7 + t, 200) + 1 FROM generate_series(1, ?) p, generate_series(1, ?) t",
+                PROFILES, ROWS_PER_PROFILE);
+
+        seedPerProfile("addresses", "city, pincode", "'City', 411001");
+        seedPerProfile("contacts", "platform", "'GitHub'");
+        seedPerProfile("educations", "degree", "'BSc'");
+        seedPerProfile("achievements", "name", "'Award'");
+        seedPerProfile("faqs", "question, answer", "'Question', 'Answer'");
+        seedPerProfile("inquires", "name, email", "'Sender', 'sender@example.com'");
+        seedPerProfile("experiences", "company, start_date", "'Company', DATE '2024-01-15'");
+        seedPerProfile("projects", "name", "'Project'");
+        jdbcTemplate.update("INSERT INTO experience_points (id, content, experience_id) "
+                + "SELECT e.id * 10 + r, 'Point', e.id FROM experiences e, generate_series(1, 3) r");
+        jdbcTemplate.update("INSERT INTO project_points (id, content, project_id) "
+                + "SELECT p.id * 10 + r, 'Point', p.id FROM projects p, generate_series(1, 3) r");
+        jdbcTemplate.update("INSERT INTO projects_technologies (project_id, technology_id) "
+                + "SELECT p.id, MOD(p.id, 200) + 1 FROM projects p");
+        jdbcTemplate.update("INSERT INTO experiences_technologies (experience_id, technology_id) "
+                + "SELECT e.id, MOD(e.id, 200) + 1 FROM experiences e");
+
+        // Refresh the selectivity statistics the planner uses, and leave it no choice but an index
+        jdbcTemplate.execute("ANALYZE");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        StatementRecorder.STATEMENTS.clear();
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                call("ProfileRepository.findByFnameAndLname",
+                        test -> test.profileRepository.findByFnameAndLname("First42", "Last42")),
+                call("ProfileRepository.findVersionById", test -> test.profileRepository.findVersionById(42L)),
+                call("TechnologyRepository.findByName", test -> test.technologyRepository.findByName("Technology 42")),
+                call("TechnologyRepository.findAllByCategoryOrderByNameAsc",
+                        test -> test.technologyRepository.findAllByCategoryOrderByNameAsc("Category 4")),
+                call("TechnologyRepository.findAllResponsesByProfileId",
+                        test -> test.technologyRepository.findAllResponsesByProfileId(42L)),
+                call("TechnologyRepository.findVersionByProfileId",
+                        test -> test.technologyRepository.findVersionByProfileId(42L)),
+                call("AddressRepository.findAllResponsesByProfileId",
+                        test -> test.addressRepository.findAllResponsesByProfileId(42L)),
+                call("AddressRepository.findVersionByProfileId", test -> test.addressRepository.findVersionByProfileId(42L)),
+                call("ContactRepository.findAllResponsesByProfileId",
+                        test -> test.contactRepository.findAllResponsesByProfileId(42L)),
+                call("ContactRepository.findVersionByProfileId", test -> test.contactRepository.findVersionByProfileId(42L)),
+                call("EducationRepository.findAllResponsesByProfileId",
+                        test -> test.educationRepository.findAllResponsesByProfileId(42L)),
+                call("EducationRepository.findVersionByProfileId",
+                        test -> test.educationRepository.findVersionByProfileId(42L)),
+                call("AchievementRepository.findAllResponsesByProfileId",
+                        test -> test.achievementRepository.findAllResponsesByProfileId(42L)),
+                call("AchievementRepository.findVersionByProfileId",
+                        test -> test.achievementRepository.findVersionByProfileId(42L)),
+                call("FaqRepository.findAllResponsesByProfileId", test -> test.faqRepository.findAllResponsesByProfileId(42L)),
+                call("FaqRepository.findVersionByProfileId", test -> test.faqRepository.findVersionByProfileId(42L)),
+                call("InquireRepository.findAllByProfileIdOrderByCreatedAtDesc",
+                        test -> test.inquireRepository.findAllByProfileIdOrderByCreatedAtDesc(42L)),
+                call("InquireRepository.findFirstPage", test -> test.inquireRepository.findFirstPage(Limit.of(20))),
+                call("InquireRepository.findPageAfter",
+                        test -> test.inquireRepository.findPageAfter(LocalDateTime.now(), 500L, Limit.of(20))),
+                call("ExperienceRepository.findAllByProfileIdOrderByStartDateDesc",
+                        test -> test.experienceRepository.findAllByProfileIdOrderByStartDateDesc(42L)),
+                call("ExperienceRepository.fetchExperiencePoints", test -> test.experienceRepository.fetchExperiencePoints(
+                        test.experienceRepository.findAllById(List.of(420L, 421L, 422L)))),
+                call("ExperienceRepository.fetchTechnologies", test -> test.experienceRepository.fetchTechnologies(
+                        test.experienceRepository.findAllById(List.of(420L, 421L, 422L)))),
+                call("ExperienceRepository.findPageAfter",
+                        test -> test.experienceRepository.findPageAfter(LocalDateTime.now(), 500L, Limit.of(20))),
+                call("ExperienceRepository.findVersionByProfileId",
+                        test -> test.experienceRepository.findVersionByProfileId(42L)),
+                call("ExperienceRepository.findPointsVersionByProfileId",
+                        test -> test.experienceRepository.findPointsVersionByProfileId(42L)),
+                call("ExperienceRepository.findTechnologiesVersionByProfileId",
+                        test -> test.experienceRepository.findTechnologiesVersionByProfileId(42L)),
+                call("ExperienceRepository.findTechnologyLinksByProfileId",
+                        test -> test.experienceRepository.findTechnologyLinksByProfileId(42L)),
+                call("ExperienceRepository.findTechnologyLinksByTechnologyId",
+                        test -> test.experienceRepository.findTechnologyLinksByTechnologyId(42L)),
+                call("ProjectRepository.findAllByProfileIdOrderByStartDateDesc",
+                        test -> test.projectRepository.findAllByProfileIdOrderByStartDateDesc(42L)),
+                call("ProjectRepository.fetchProjectPoints", test -> test.projectRepository.fetchProjectPoints(
+                        test.projectRepository.findAllById(List.of(420L, 421L, 422L)))),
+                call("ProjectRepository.fetchTechnologies", test -> test.projectRepository.fetchTechnologies(
+                        test.projectRepository.findAllById(List.of(420L, 421L, 422L)))),
+                call("ProjectRepository.findPageAfter",
+                        test -> test.projectRepository.findPageAfter(LocalDateTime.now(), 500L, Limit.of(20))),
+                call("ProjectRepository.findVersionByProfileId", test -> test.projectRepository.findVersionByProfileId(42L)),
+                call("ProjectRepository.findPointsVersionByProfileId",
+                        test -> test.projectRepository.findPointsVersionByProfileId(42L)),
+                call("ProjectRepository.findTechnologiesVersionByProfileId",
+                        test -> test.projectRepository.findTechnologiesVersionByProfileId(42L)),
+                call("ProjectRepository.findTechnologyLinksByProfileId",
+                        test -> test.projectRepository.findTechnologyLinksByProfileId(42L)),
+                call("ProjectRepository.findTechnologyLinksByTechnologyId",
+                        test -> test.projectRepository.findTechnologyLinksByTechnologyId(42L)),
+                call("ProjectPointRepository.findAllByProjectIdOrderByCreatedAtAsc",
+                        test -> test.projectPointRepository.findAllByProjectIdOrderByCreatedAtAsc(420L)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void explain_ShouldNotScanWholeTables(String repositoryMethod, RepositoryCall call) {
+        // Arrange
+        call.run(this);
+
+        // Act & Assert
+        for (String sql : StatementRecorder.STATEMENTS) {
+            String plan = String.join("\n",
+                    jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql), String.class));
+            assertFalse(plan.contains("Seq Scan"), repositoryMethod + " scans a whole table:\n" + sql + "\n" + plan);
+        }
+    }
+
+    private void seedPerProfile(String table, String columns, String values) {
+        jdbcTemplate.update("INSERT INTO " + table + " (id, profile_id, " + columns + ") "
+                + "SELECT p * 10 + r, p, " + values + " FROM generate_series(1, ?) p, generate_series(1, ?) r",
+                PROFILES, ROWS_PER_PROFILE);
+    }
+
+    /**
+     * JDBC ? markers as the $1, $2... parameters EXPLAIN (GENERIC_PLAN) takes, string literals left alone
+     */
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        boolean inLiteral = false;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private static Arguments call(String repositoryMethod, RepositoryCall call) {
+        return Arguments.of(repositoryMethod, call);
+    }
+
+    @FunctionalInterface
+    interface RepositoryCall {
+        void run(QueryPlanTest test);
+    }
+
+    /**
+     * Records every statement Hibernate prepares, installed through hibernate.session_factory.statement_inspector
+     */
+    public static class StatementRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
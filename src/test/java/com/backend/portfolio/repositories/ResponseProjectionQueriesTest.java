@@ -0,0 +1,88 @@
+package com.backend.portfolio.repositories;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.backend.portfolio.models.entities.Faq;
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.entities.Technology;
+import com.backend.portfolio.models.responses.FaqResponse;
+import com.backend.portfolio.models.responses.TechnologyResponse;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Public section reads select straight into the response types, these check the constructor expressions
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+class ResponseProjectionQueriesTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private FaqRepository faqRepository;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    private Long profileId;
+
+    @BeforeEach
+    void setUp() {
+        Technology java = Technology.builder().name("Java").category("Language").build();
+        Technology docker = Technology.builder().name("Docker").category("DevOps").build();
+        entityManager.persist(java);
+        entityManager.persist(docker);
+
+        Profile profile = Profile.builder()
+                .fname("John")
+                .lname("Doe")
+                .bio("A long biography")
+                .build();
+        profile.getTechnologies().add(java);
+        profile.getTechnologies().add(docker);
+        entityManager.persist(profile);
+        profileId = profile.getId();
+
+        entityManager.persist(Faq.builder().question("What is your experience?").answer("Ten years").profile(profile).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAllResponsesByProfileId_ShouldSelectFaqResponses() {
+        // Act
+        List<FaqResponse> result = faqRepository.findAllResponsesByProfileId(profileId);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("What is your experience?", result.get(0).getQuestion());
+        assertEquals("Ten years", result.get(0).getAnswer());
+    }
+
+    @Test
+    void findAllResponsesByProfileId_ShouldSelectTechnologyResponsesOrderedByCategoryAndName() {
+        // Act
+        List<TechnologyResponse> result = technologyRepository.findAllResponsesByProfileId(profileId);
+
+        // Assert
+        assertEquals(List.of("Docker", "Java"), result.stream().map(TechnologyResponse::getName).toList());
+    }
+
+    @Test
+    void findAllIdsByOrderByCreatedAtDesc_ShouldReturnProfileIds() {
+        // Act & Assert
+        assertEquals(List.of(profileId), profileRepository.findAllIdsByOrderByCreatedAtDesc());
+    }
+}
@@ -0,0 +1,109 @@
+package com.backend.portfolio.repositories;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.backend.portfolio.models.projections.SearchHitView;
+
+/**
+ * Runs SearchRepository.search on PostgreSQL with the Flyway migrations applied (search vectors and GIN indexes).
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class SearchRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private SearchRepository searchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO profiles (id, fname, lname) VALUES (1, 'Jane', 'Doe'), (2, 'John', 'Roe')");
+        jdbcTemplate.update("INSERT INTO projects (id, name, profile_id) VALUES "
+                + "(10, 'Payments platform', 1), (11, 'Blog', 1), (40, 'Payments', 2)");
+        jdbcTemplate.update("INSERT INTO project_points (id, content, project_id) VALUES "
+                + "(100, 'Tuned <b>payments</b> & refunds throughput', 11)");
+        jdbcTemplate.update("INSERT INTO experiences (id, company, start_date, profile_id) VALUES "
+                + "(30, 'Acme', DATE '2024-01-15', 1)");
+        jdbcTemplate.update("INSERT INTO experience_points (id, content, experience_id) VALUES "
+                + "(300, 'Migrated payments to Kafka', 30)");
+        jdbcTemplate.update("INSERT INTO faqs (id, question, answer, profile_id) VALUES "
+                + "(20, 'Do you use Kafka?', 'Yes, for payments events', 1), (21, 'Remote?', 'Yes', 1)");
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirstWithinTheProfile() {
+        // Act
+        List<SearchHitView> hits = searchRepository.search(1L, "payments", 10, 0);
+
+        // Assert
+        assertEquals(4, hits.size());
+        assertEquals("PROJECT", hits.get(0).getType());
+        assertEquals(10L, hits.get(0).getId());
+        assertEquals(List.of("EXPERIENCE_POINT:300", "FAQ:20", "PROJECT:10", "PROJECT_POINT:100"),
+                hits.stream().map(hit -> hit.getType() + ":" + hit.getId()).sorted().toList());
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).getRank() >= hits.get(i).getRank(), "hits are not ordered by rank");
+        }
+    }
+
+    @Test
+    void search_WithLimitAndOffset_ShouldReturnConsecutivePages() {
+        // Arrange
+        List<String> all = keys(searchRepository.search(1L, "payments", 10, 0));
+
+        // Act
+        List<String> first = keys(searchRepository.search(1L, "payments", 2, 0));
+        List<String> second = keys(searchRepository.search(1L, "payments", 2, 2));
+        List<String> past = keys(searchRepository.search(1L, "payments", 2, 4));
+
+        // Assert
+        assertEquals(all, Stream.concat(first.stream(), second.stream()).toList());
+        assertTrue(past.isEmpty());
+    }
+
+    @Test
+    void search_ShouldHighlightMatchesInEscapedText() {
+        // Act
+        SearchHitView point = searchRepository.search(1L, "payments", 10, 0).stream()
+                .filter(hit -> hit.getType().equals("PROJECT_POINT"))
+                .findFirst()
+                .orElseThrow();
+
+        // Assert
+        assertEquals(11L, point.getParentId());
+        assertEquals("Blog", point.getTitle());
+        assertTrue(point.getHighlight().contains("<mark>payments</mark>"), point.getHighlight());
+        assertTrue(point.getHighlight().contains("&lt;b&gt;"), point.getHighlight());
+        assertTrue(point.getHighlight().contains("&amp;"), point.getHighlight());
+        assertFalse(point.getHighlight().contains("<b>"), point.getHighlight());
+    }
+
+    private static List<String> keys(List<SearchHitView> hits) {
+        return hits.stream().map(hit -> hit.getType() + ":" + hit.getId()).toList();
+    }
+}
@@ -22,11 +22,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Achievement;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.AchievementRequestInsert;
 import com.backend.portfolio.models.responses.AchievementResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.AchievementRequestUpdate;
 import com.backend.portfolio.repositories.AchievementRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -40,6 +42,9 @@ class AchievementServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private PortfolioChangePublisher portfolioChangePublisher;
+
     @InjectMocks
     private AchievementService achievementService;
 
@@ -104,7 +109,8 @@ class AchievementServiceTest {
     void getAllAchievementsByProfileId_ShouldReturnListOfAchievements() {
         // Arrange
         List<Achievement> achievements = Arrays.asList(testAchievement);
-        when(achievementRepository.findAllByProfileIdOrderByDateAchievedDesc(1L)).thenReturn(achievements);
+        when(achievementRepository.findAllResponsesByProfileId(1L))
+                .thenReturn(achievements.stream().map(AchievementResponse::fromAchievement).toList());
 
         // Act
         List<AchievementResponse> result = achievementService.getAllAchievementsByProfileId(1L);
@@ -112,7 +118,7 @@ class AchievementServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(achievementRepository, times(1)).findAllByProfileIdOrderByDateAchievedDesc(1L);
+        verify(achievementRepository, times(1)).findAllResponsesByProfileId(1L);
     }
 
     @Test
@@ -218,26 +224,27 @@ class AchievementServiceTest {
     @Test
     void deleteAchievement_WhenExists_ShouldDeleteSuccessfully() {
         // Arrange
-        when(achievementRepository.existsById(1L)).thenReturn(true);
+        when(achievementRepository.findProfileIdById(1L)).thenReturn(Optional.of(1L));
         doNothing().when(achievementRepository).deleteById(1L);
 
         // Act
         achievementService.deleteAchievement(1L);
 
         // Assert
-        verify(achievementRepository, times(1)).existsById(1L);
+        verify(achievementRepository, times(1)).findProfileIdById(1L);
         verify(achievementRepository, times(1)).deleteById(1L);
+        verify(portfolioChangePublisher, times(1)).publish(PortfolioSection.ACHIEVEMENT, 1L, 1L);
     }
 
     @Test
     void deleteAchievement_WhenNotExists_ShouldThrowException() {
         // Arrange
-        when(achievementRepository.existsById(anyLong())).thenReturn(false);
+        when(achievementRepository.findProfileIdById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> 
             achievementService.deleteAchievement(999L));
-        verify(achievementRepository, times(1)).existsById(999L);
+        verify(achievementRepository, times(1)).findProfileIdById(999L);
         verify(achievementRepository, never()).deleteById(anyLong());
     }
 }
@@ -21,11 +21,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Address;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.AddressRequestInsert;
 import com.backend.portfolio.models.responses.AddressResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.AddressRequestUpdate;
 import com.backend.portfolio.repositories.AddressRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -39,6 +41,9 @@ class AddressServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private PortfolioChangePublisher portfolioChangePublisher;
+
     @InjectMocks
     private AddressService addressService;
 
@@ -109,7 +114,8 @@ class AddressServiceTest {
     void getAllAddressesByProfileId_ShouldReturnListOfAddresses() {
         // Arrange
         List<Address> addresses = Arrays.asList(testAddress);
-        when(addressRepository.findAllByProfileIdOrderByCreatedAtDesc(1L)).thenReturn(addresses);
+        when(addressRepository.findAllResponsesByProfileId(1L))
+                .thenReturn(addresses.stream().map(AddressResponse::fromAddress).toList());
 
         // Act
         List<AddressResponse> result = addressService.getAllAddressesByProfileId(1L);
@@ -117,7 +123,7 @@ class AddressServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(addressRepository, times(1)).findAllByProfileIdOrderByCreatedAtDesc(1L);
+        verify(addressRepository, times(1)).findAllResponsesByProfileId(1L);
     }
 
     @Test
@@ -203,26 +209,27 @@ class AddressServiceTest {
     @Test
     void deleteAddress_WhenExists_ShouldDeleteSuccessfully() {
         // Arrange
-        when(addressRepository.existsById(1L)).thenReturn(true);
+        when(addressRepository.findProfileIdById(1L)).thenReturn(Optional.of(1L));
         doNothing().when(addressRepository).deleteById(1L);
 
         // Act
         addressService.deleteAddress(1L);
 
         // Assert
-        verify(addressRepository, times(1)).existsById(1L);
+        verify(addressRepository, times(1)).findProfileIdById(1L);
         verify(addressRepository, times(1)).deleteById(1L);
+        verify(portfolioChangePublisher, times(1)).publish(PortfolioSection.ADDRESS, 1L, 1L);
     }
 
     @Test
     void deleteAddress_WhenNotExists_ShouldThrowException() {
         // Arrange
-        when(addressRepository.existsById(anyLong())).thenReturn(false);
+        when(addressRepository.findProfileIdById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> 
             addressService.deleteAddress(999L));
-        verify(addressRepository, times(1)).existsById(999L);
+        verify(addressRepository, times(1)).findProfileIdById(999L);
         verify(addressRepository, never()).deleteById(anyLong());
     }
 }
@@ -0,0 +1,157 @@
+package com.backend.portfolio.services;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.repositories.ProfileRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmUpServiceTest {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private PortfolioService portfolioService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private ExperienceService experienceService;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    @Mock
+    private SerializedResponseService serializedResponseService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CacheWarmUpService cacheWarmUpService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cacheWarmUpService, "attempts", 3);
+        ReflectionTestUtils.setField(cacheWarmUpService, "retryDelay", Duration.ZERO);
+    }
+
+    @Test
+    void onApplicationReady_ShouldRefuseTrafficAndWarmUpEveryProfile() {
+        // Arrange
+        when(profileRepository.findAllIdsByOrderByCreatedAtDesc()).thenReturn(List.of(1L, 2L));
+
+        // Act
+        cacheWarmUpService.onApplicationReady();
+
+        // Assert
+        verify(applicationEventPublisher, times(1)).publishEvent(any(AvailabilityChangeEvent.class));
+        verify(portfolioService, times(1)).getPortfolioByProfileId(1L);
+        verify(portfolioService, times(1)).getPortfolioByProfileId(2L);
+        verify(resourceVersionService, times(1)).getETag(CacheConfig.PORTFOLIO_CACHE, 1L);
+        verify(resourceVersionService, times(1)).getETag(CacheConfig.FAQS_CACHE, 2L);
+        // One read-only transaction per profile, which the stale-while-revalidate aspect does not wrap
+        verify(transactionManager, times(2)).getTransaction(argThat(definition -> definition.isReadOnly()));
+        Timer timer = meterRegistry.find(CacheWarmUpService.WARMUP_TIMER).timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void warmUp_WhenProfileFails_ShouldContinueWithNextProfile() {
+        // Arrange
+        when(profileRepository.findAllIdsByOrderByCreatedAtDesc()).thenReturn(List.of(1L, 2L));
+        when(portfolioService.getPortfolioByProfileId(1L))
+                .thenThrow(new ResourceNotFoundException("Profile not found with id: 1"));
+
+        // Act
+        cacheWarmUpService.warmUp();
+
+        // Assert
+        verify(portfolioService, times(1)).getPortfolioByProfileId(2L);
+        verify(resourceVersionService, never()).getETag(anyString(), eq(1L));
+    }
+
+    @Test
+    void warmUp_WhenProfileFailsOnce_ShouldRetryIt() {
+        // Arrange
+        when(profileRepository.findAllIdsByOrderByCreatedAtDesc()).thenReturn(List.of(1L, 2L));
+        when(portfolioService.getPortfolioByProfileId(1L))
+                .thenThrow(new IllegalStateException("Connection is not available"))
+                .thenReturn(null);
+
+        // Act
+        cacheWarmUpService.warmUp();
+
+        // Assert
+        verify(portfolioService, times(2)).getPortfolioByProfileId(1L);
+        verify(portfolioService, times(1)).getPortfolioByProfileId(2L);
+        verify(resourceVersionService, times(1)).getETag(CacheConfig.PORTFOLIO_CACHE, 1L);
+        assertEquals(0, meterRegistry.counter(CacheWarmUpService.WARMUP_FAILURES).count());
+    }
+
+    @Test
+    void warmUp_WhenProfileKeepsFailing_ShouldGiveUpAfterAttemptsAndCountIt() {
+        // Arrange
+        when(profileRepository.findAllIdsByOrderByCreatedAtDesc()).thenReturn(List.of(1L, 2L));
+        when(portfolioService.getPortfolioByProfileId(1L))
+                .thenThrow(new IllegalStateException("Connection is not available"));
+
+        // Act
+        cacheWarmUpService.warmUp();
+
+        // Assert
+        verify(portfolioService, times(3)).getPortfolioByProfileId(1L);
+        verify(portfolioService, times(1)).getPortfolioByProfileId(2L);
+        assertEquals(1, meterRegistry.counter(CacheWarmUpService.WARMUP_FAILURES).count());
+    }
+
+    @Test
+    void warmUp_WhenResponseCacheDisabled_ShouldNotSerialize() {
+        // Arrange
+        when(profileRepository.findAllIdsByOrderByCreatedAtDesc()).thenReturn(List.of(1L));
+
+        // Act
+        cacheWarmUpService.warmUp();
+
+        // Assert
+        verify(serializedResponseService, never()).getSerializedResponse(anyString(), anyLong(), any());
+    }
+}
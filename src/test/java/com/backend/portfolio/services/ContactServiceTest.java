@@ -21,11 +21,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Contact;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.ContactRequestInsert;
 import com.backend.portfolio.models.responses.ContactResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.ContactRequestUpdate;
 import com.backend.portfolio.repositories.ContactRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -39,6 +41,9 @@ class ContactServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private PortfolioChangePublisher portfolioChangePublisher;
+
     @InjectMocks
     private ContactService contactService;
 
@@ -97,7 +102,8 @@ class ContactServiceTest {
     void getAllContactsByProfileId_ShouldReturnListOfContacts() {
         // Arrange
         List<Contact> contacts = Arrays.asList(testContact);
-        when(contactRepository.findAllByProfileIdOrderByCreatedAtDesc(1L)).thenReturn(contacts);
+        when(contactRepository.findAllResponsesByProfileId(1L))
+                .thenReturn(contacts.stream().map(ContactResponse::fromContact).toList());
 
         // Act
         List<ContactResponse> result = contactService.getAllContactsByProfileId(1L);
@@ -105,7 +111,7 @@ class ContactServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(contactRepository, times(1)).findAllByProfileIdOrderByCreatedAtDesc(1L);
+        verify(contactRepository, times(1)).findAllResponsesByProfileId(1L);
     }
 
     @Test
@@ -191,26 +197,27 @@ class ContactServiceTest {
     @Test
     void deleteContact_WhenExists_ShouldDeleteSuccessfully() {
         // Arrange
-        when(contactRepository.existsById(1L)).thenReturn(true);
+        when(contactRepository.findProfileIdById(1L)).thenReturn(Optional.of(1L));
         doNothing().when(contactRepository).deleteById(1L);
 
         // Act
         contactService.deleteContact(1L);
 
         // Assert
-        verify(contactRepository, times(1)).existsById(1L);
+        verify(contactRepository, times(1)).findProfileIdById(1L);
         verify(contactRepository, times(1)).deleteById(1L);
+        verify(portfolioChangePublisher, times(1)).publish(PortfolioSection.CONTACT, 1L, 1L);
     }
 
     @Test
     void deleteContact_WhenNotExists_ShouldThrowException() {
         // Arrange
-        when(contactRepository.existsById(anyLong())).thenReturn(false);
+        when(contactRepository.findProfileIdById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> 
             contactService.deleteContact(999L));
-        verify(contactRepository, times(1)).existsById(999L);
+        verify(contactRepository, times(1)).findProfileIdById(999L);
         verify(contactRepository, never()).deleteById(anyLong());
     }
 }
@@ -23,11 +23,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Education;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.EducationRequestInsert;
 import com.backend.portfolio.models.responses.EducationResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.EducationRequestUpdate;
 import com.backend.portfolio.repositories.EducationRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -41,6 +43,9 @@ class EducationServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private PortfolioChangePublisher portfolioChangePublisher;
+
     @InjectMocks
     private EducationService educationService;
 
@@ -136,7 +141,8 @@ class EducationServiceTest {
     void getAllEducationsByProfileId_ShouldReturnListOfEducations() {
         // Arrange
         List<Education> educations = Arrays.asList(testEducation);
-        when(educationRepository.findAllByProfileIdOrderByStartDateDesc(1L)).thenReturn(educations);
+        when(educationRepository.findAllResponsesByProfileId(1L))
+                .thenReturn(educations.stream().map(EducationResponse::fromEducation).toList());
 
         // Act
         List<EducationResponse> result = educationService.getAllEducationsByProfileId(1L);
@@ -144,7 +150,7 @@ class EducationServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(educationRepository, times(1)).findAllByProfileIdOrderByStartDateDesc(1L);
+        verify(educationRepository, times(1)).findAllResponsesByProfileId(1L);
     }
 
     @Test
@@ -205,26 +211,27 @@ class EducationServiceTest {
     @Test
     void deleteEducation_WhenExists_ShouldDeleteSuccessfully() {
         // Arrange
-        when(educationRepository.existsById(1L)).thenReturn(true);
+        when(educationRepository.findProfileIdById(1L)).thenReturn(Optional.of(1L));
         doNothing().when(educationRepository).deleteById(1L);
 
         // Act
         educationService.deleteEducation(1L);
 
         // Assert
-        verify(educationRepository, times(1)).existsById(1L);
+        verify(educationRepository, times(1)).findProfileIdById(1L);
         verify(educationRepository, times(1)).deleteById(1L);
+        verify(portfolioChangePublisher, times(1)).publish(PortfolioSection.EDUCATION, 1L, 1L);
     }
 
     @Test
     void deleteEducation_WhenNotExists_ShouldThrowException() {
         // Arrange
-        when(educationRepository.existsById(anyLong())).thenReturn(false);
+        when(educationRepository.findProfileIdById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> 
             educationService.deleteEducation(999L));
-        verify(educationRepository, times(1)).existsById(999L);
+        verify(educationRepository, times(1)).findProfileIdById(999L);
         verify(educationRepository, never()).deleteById(anyLong());
     }
 }
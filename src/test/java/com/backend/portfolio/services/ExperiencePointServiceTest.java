@@ -21,11 +21,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Experience;
 import com.backend.portfolio.models.entities.ExperiencePoint;
+import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.ExperiencePointRequestInsert;
 import com.backend.portfolio.models.responses.ExperiencePointResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.ExperiencePointRequestUpdate;
 import com.backend.portfolio.repositories.ExperiencePointRepository;
 import com.backend.portfolio.repositories.ExperienceRepository;
@@ -39,9 +42,13 @@ class ExperiencePointServiceTest {
     @Mock
     private ExperienceRepository experienceRepository;
 
+    @Mock
+    private PortfolioChangePublisher portfolioChangePublisher;
+
     @InjectMocks
     private ExperiencePointService experiencePointService;
 
+    private Profile testProfile;
     private Experience testExperience;
     private ExperiencePoint testExperiencePoint;
     private ExperiencePointRequestInsert testRequestInsert;
@@ -49,10 +56,17 @@ class ExperiencePointServiceTest {
 
     @BeforeEach
     void setUp() {
+        testProfile = Profile.builder()
+                .id(1L)
+                .fname("John")
+                .lname("Doe")
+                .build();
+
         testExperience = Experience.builder()
                 .id(1L)
                 .company("Tech Corp")
                 .position("Software Engineer")
+                .profile(testProfile)
                 .build();
 
         testExperiencePoint = ExperiencePoint.builder()
@@ -170,7 +184,7 @@ class ExperiencePointServiceTest {
     void updateExperiencePoint_WithExperienceIdChange_ShouldUpdateExperience() {
         // Arrange
         testRequestUpdate.setExperienceId(2L);
-        Experience newExperience = Experience.builder().id(2L).company("New Corp").build();
+        Experience newExperience = Experience.builder().id(2L).company("New Corp").profile(testProfile).build();
         
         when(experiencePointRepository.findById(1L)).thenReturn(Optional.of(testExperiencePoint));
         when(experienceRepository.findById(2L)).thenReturn(Optional.of(newExperience));
@@ -189,26 +203,27 @@ class ExperiencePointServiceTest {
     @Test
     void deleteExperiencePoint_WhenExists_ShouldDeleteSuccessfully() {
         // Arrange
-        when(experiencePointRepository.existsById(1L)).thenReturn(true);
+        when(experiencePointRepository.findProfileIdById(1L)).thenReturn(Optional.of(1L));
         doNothing().when(experiencePointRepository).deleteById(1L);
 
         // Act
         experiencePointService.deleteExperiencePoint(1L);
 
         // Assert
-        verify(experiencePointRepository, times(1)).existsById(1L);
+        verify(experiencePointRepository, times(1)).findProfileIdById(1L);
         verify(experiencePointRepository, times(1)).deleteById(1L);
+        verify(portfolioChangePublisher, times(1)).publish(PortfolioSection.EXPERIENCE, 1L, 1L);
     }
 
     @Test
     void deleteExperiencePoint_WhenNotExists_ShouldThrowException() {
         // Arrange
-        when(experiencePointRepository.existsById(anyLong())).thenReturn(false);
+        when(experiencePointRepository.findProfileIdById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> 
             experiencePointService.deleteExperiencePoint(999L));
-        verify(experiencePointRepository, times(1)).existsById(999L);
+        verify(experiencePointRepository, times(1)).findProfileIdById(999L);
         verify(experiencePointRepository, never()).deleteById(anyLong());
     }
 }
@@ -23,12 +23,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Experience;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.entities.Technology;
 import com.backend.portfolio.models.requests.ExperienceRequestInsert;
 import com.backend.portfolio.models.responses.ExperienceResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.ExperienceRequestUpdate;
 import com.backend.portfolio.repositories.ExperienceRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -46,6 +48,9 @@ class ExperienceServiceTest {
     @Mock
     private TechnologyRepository technologyRepository;
 
+    @Mock
+    private PortfolioChangePublisher portfolioChangePublisher;
+
     @InjectMocks
     private ExperienceService experienceService;
 
@@ -253,26 +258,27 @@ class ExperienceServiceTest {
     @Test
     void deleteExperience_WhenExists_ShouldDeleteSuccessfully() {
         // Arrange
-        when(experienceRepository.existsById(1L)).thenReturn(true);
+        when(experienceRepository.findProfileIdById(1L)).thenReturn(Optional.of(1L));
         doNothing().when(experienceRepository).deleteById(1L);
 
         // Act
         experienceService.deleteExperience(1L);
 
         // Assert
-        verify(experienceRepository, times(1)).existsById(1L);
+        verify(experienceRepository, times(1)).findProfileIdById(1L);
         verify(experienceRepository, times(1)).deleteById(1L);
+        verify(portfolioChangePublisher, times(1)).publish(PortfolioSection.EXPERIENCE, 1L, 1L);
     }
 
     @Test
     void deleteExperience_WhenNotExists_ShouldThrowException() {
         // Arrange
-        when(experienceRepository.existsById(anyLong())).thenReturn(false);
+        when(experienceRepository.findProfileIdById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> 
             experienceService.deleteExperience(999L));
-        verify(experienceRepository, times(1)).existsById(999L);
+        verify(experienceRepository, times(1)).findProfileIdById(999L);
         verify(experienceRepository, never()).deleteById(anyLong());
     }
 }
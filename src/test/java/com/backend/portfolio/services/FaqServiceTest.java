@@ -21,11 +21,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Faq;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.FaqRequestInsert;
 import com.backend.portfolio.models.responses.FaqResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.FaqRequestUpdate;
 import com.backend.portfolio.repositories.FaqRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -39,6 +41,9 @@ class FaqServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private PortfolioChangePublisher portfolioChangePublisher;
+
     @InjectMocks
     private FaqService faqService;
 
@@ -93,7 +98,8 @@ class FaqServiceTest {
     void getAllFaqsByProfileId_ShouldReturnListOfFaqs() {
         // Arrange
         List<Faq> faqs = Arrays.asList(testFaq);
-        when(faqRepository.findAllByProfileIdOrderByCreatedAtDesc(1L)).thenReturn(faqs);
+        when(faqRepository.findAllResponsesByProfileId(1L))
+                .thenReturn(faqs.stream().map(FaqResponse::fromFaq).toList());
 
         // Act
         List<FaqResponse> result = faqService.getAllFaqsByProfileId(1L);
@@ -101,7 +107,7 @@ class FaqServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(faqRepository, times(1)).findAllByProfileIdOrderByCreatedAtDesc(1L);
+        verify(faqRepository, times(1)).findAllResponsesByProfileId(1L);
     }
 
     @Test
@@ -187,26 +193,27 @@ class FaqServiceTest {
     @Test
     void deleteFaq_WhenExists_ShouldDeleteSuccessfully() {
         // Arrange
-        when(faqRepository.existsById(1L)).thenReturn(true);
+        when(faqRepository.findProfileIdById(1L)).thenReturn(Optional.of(1L));
         doNothing().when(faqRepository).deleteById(1L);
 
         // Act
         faqService.deleteFaq(1L);
 
         // Assert
-        verify(faqRepository, times(1)).existsById(1L);
+        verify(faqRepository, times(1)).findProfileIdById(1L);
         verify(faqRepository, times(1)).deleteById(1L);
+        verify(portfolioChangePublisher, times(1)).publish(PortfolioSection.FAQ, 1L, 1L);
     }
 
     @Test
     void deleteFaq_WhenNotExists_ShouldThrowException() {
         // Arrange
-        when(faqRepository.existsById(anyLong())).thenReturn(false);
+        when(faqRepository.findProfileIdById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> 
             faqService.deleteFaq(999L));
-        verify(faqRepository, times(1)).existsById(999L);
+        verify(faqRepository, times(1)).findProfileIdById(999L);
         verify(faqRepository, never()).deleteById(anyLong());
     }
 }
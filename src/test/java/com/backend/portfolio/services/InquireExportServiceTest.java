@@ -0,0 +1,143 @@
+package com.backend.portfolio.services;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.backend.portfolio.models.entities.Inquire;
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.states.enums.InquireExportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Export scrolls the H2 inquires table with a fetch size smaller than the table, so the cursor takes several round trips
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.inquire-export.fetch-size=2"
+})
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(InquireExportService.class)
+class InquireExportServiceTest {
+
+    @Autowired
+    private InquireExportService inquireExportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Profile profile;
+    private Inquire first;
+    private Inquire second;
+    private Inquire third;
+
+    @BeforeEach
+    void setUp() {
+        profile = persist(Profile.builder().fname("John").lname("Doe").build());
+        first = persist(Inquire.builder().name("Alice").email("alice@example.com").message("Hello").profile(profile).build());
+        second = persist(Inquire.builder().name("Smith, Bob").email("bob@example.com")
+                .message("He said \"hi\"\nthen left").profile(profile).build());
+        third = persist(Inquire.builder().name("Carol").email("carol@example.com").profile(profile).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void exportInquires_WhenNdjson_ShouldWriteOneObjectPerLineNewestFirst() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = inquireExportService.exportInquires(InquireExportFormat.NDJSON, out);
+
+        // Assert
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, rows);
+        assertEquals(3, lines.size());
+        JsonNode newest = objectMapper.readTree(lines.get(0));
+        assertEquals(third.getId(), newest.get("id").asLong());
+        assertEquals(profile.getId(), newest.get("profileId").asLong());
+        assertEquals("Carol", newest.get("name").asText());
+        assertEquals("He said \"hi\"\nthen left", objectMapper.readTree(lines.get(1)).get("message").asText());
+        assertEquals(first.getId(), objectMapper.readTree(lines.get(2)).get("id").asLong());
+    }
+
+    @Test
+    void exportInquires_WhenCsv_ShouldWriteHeaderAndQuoteSpecialFields() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        inquireExportService.exportInquires(InquireExportFormat.CSV, out);
+
+        // Assert
+        String[] records = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(4, records.length);
+        assertEquals(InquireExportService.CSV_HEADER, records[0]);
+        assertEquals(third.getId() + "," + profile.getId() + ",Carol,carol@example.com,,", records[1].substring(0, records[1].lastIndexOf(',') + 1));
+        assertEquals(second.getId() + "," + profile.getId() + ",\"Smith, Bob\",bob@example.com,\"He said \"\"hi\"\"\nthen left\",",
+                records[2].substring(0, records[2].lastIndexOf(',') + 1));
+    }
+
+    @Test
+    void escape_WhenValueStartsLikeFormula_ShouldPrefixQuoteAndQuoteField() {
+        // Act & Assert
+        assertEquals("\"'=HYPERLINK(\"\"http://evil\"\")\"", InquireExportService.escape("=HYPERLINK(\"http://evil\")"));
+        assertEquals("\"'+1+1\"", InquireExportService.escape("+1+1"));
+        assertEquals("\"'-2+3\"", InquireExportService.escape("-2+3"));
+        assertEquals("\"'@SUM(A1)\"", InquireExportService.escape("@SUM(A1)"));
+        assertEquals("\"'\t=1\"", InquireExportService.escape("\t=1"));
+        assertEquals("\"'\r=1\"", InquireExportService.escape("\r=1"));
+        assertEquals("a=1", InquireExportService.escape("a=1"));
+        assertEquals("", InquireExportService.escape(""));
+    }
+
+    @Test
+    void exportInquires_ShouldDetachRowsOnceWritten() throws Exception {
+        // Act
+        inquireExportService.exportInquires(InquireExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        // Assert
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void exportInquires_WhenTableEmpty_ShouldWriteNothingButTheCsvHeader() throws Exception {
+        // Arrange
+        entityManager.createQuery("DELETE FROM Inquire").executeUpdate();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+
+        // Act
+        long rows = inquireExportService.exportInquires(InquireExportFormat.NDJSON, ndjson);
+        inquireExportService.exportInquires(InquireExportFormat.CSV, csv);
+
+        // Assert
+        assertEquals(0, rows);
+        assertEquals("", ndjson.toString(StandardCharsets.UTF_8));
+        assertEquals(InquireExportService.CSV_HEADER + "\r\n", csv.toString(StandardCharsets.UTF_8));
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
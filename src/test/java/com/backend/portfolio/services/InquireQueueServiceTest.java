@@ -0,0 +1,183 @@
+package com.backend.portfolio.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.portfolio.exceptions.custom.InquireQueueFullException;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.requests.InquireRequestInsert;
+import com.backend.portfolio.models.responses.InquireResponse;
+import com.backend.portfolio.repositories.ProfileRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The writer thread uses its own connections, so rows are committed for real and removed after each test
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InquireQueueServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProfileExistenceService profileExistenceService = mock(ProfileExistenceService.class);
+
+    private Profile profile;
+
+    @BeforeEach
+    void setUp() {
+        profile = profileRepository.save(Profile.builder().fname("John").lname("Doe").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "inquires", "profiles");
+    }
+
+    @Test
+    void stop_ShouldDrainQueuedInquiresInOneMultiRowInsert() {
+        // Arrange
+        InquireQueueService queue = queue(10);
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(inquire("Sender " + i, profile.getId()));
+        }
+
+        // Act
+        queue.start();
+        queue.stop();
+
+        // Assert
+        assertEquals(5, JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "inquires", "profile_id = " + profile.getId()));
+        assertEquals(5.0, meterRegistry.get(InquireQueueService.WRITTEN_COUNTER).counter().count());
+        assertEquals(1, meterRegistry.get(InquireQueueService.FLUSH_TIMER).timer().count());
+        assertEquals(0.0, meterRegistry.get(InquireQueueService.DEPTH_GAUGE).gauge().value());
+    }
+
+    @Test
+    void stop_WhenOneRowIsRejected_ShouldWriteTheOthersAndDropOnlyThatRow() {
+        // Arrange
+        InquireQueueService queue = queue(10);
+        queue.enqueue(inquire("Alice", profile.getId()));
+        queue.enqueue(inquire("x".repeat(300), profile.getId()));
+        queue.enqueue(inquire("Bob", profile.getId()));
+
+        // Act
+        queue.start();
+        queue.stop();
+
+        // Assert
+        assertEquals(List.of("Alice", "Bob"),
+                jdbcTemplate.queryForList("SELECT name FROM inquires ORDER BY name", String.class));
+        assertEquals(2.0, meterRegistry.get(InquireQueueService.WRITTEN_COUNTER).counter().count());
+        assertEquals(1.0, meterRegistry.get(InquireQueueService.DROPPED_COUNTER).tag("reason", "invalid").counter().count());
+        assertEquals(0.0, meterRegistry.get(InquireQueueService.DROPPED_COUNTER).tag("reason", "failed").counter().count());
+    }
+
+    @Test
+    void enqueue_ShouldAcknowledgeWithoutId() {
+        // Arrange
+        InquireQueueService queue = queue(10);
+
+        // Act
+        InquireResponse result = queue.enqueue(inquire("Alice", profile.getId()));
+
+        // Assert
+        assertNull(result.getId());
+        assertEquals("Alice", result.getName());
+        assertEquals(1.0, meterRegistry.get(InquireQueueService.DEPTH_GAUGE).gauge().value());
+    }
+
+    @Test
+    void enqueue_WhenQueueFull_ShouldThrowInquireQueueFullException() {
+        // Arrange
+        InquireQueueService queue = queue(2);
+        queue.enqueue(inquire("Alice", profile.getId()));
+        queue.enqueue(inquire("Bob", profile.getId()));
+
+        // Act & Assert
+        assertThrows(InquireQueueFullException.class, () -> queue.enqueue(inquire("Carol", profile.getId())));
+        assertEquals(1.0, meterRegistry.get(InquireQueueService.REJECTED_COUNTER).counter().count());
+        assertEquals(2.0, meterRegistry.get(InquireQueueService.DEPTH_GAUGE).gauge().value());
+    }
+
+    @Test
+    void enqueue_WhenStopped_ShouldThrowInquireQueueFullException() {
+        // Arrange
+        InquireQueueService queue = queue(10);
+        queue.start();
+        queue.stop();
+
+        // Act & Assert
+        assertThrows(InquireQueueFullException.class, () -> queue.enqueue(inquire("Alice", profile.getId())));
+    }
+
+    @Test
+    void enqueue_WhenProfileKnownMissing_ShouldThrowResourceNotFoundException() {
+        // Arrange
+        InquireQueueService queue = queue(10);
+        doThrow(new ResourceNotFoundException("Profile not found with id: 99"))
+                .when(profileExistenceService).checkNotKnownMissing(99L);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> queue.enqueue(inquire("Alice", 99L)));
+        assertEquals(0.0, meterRegistry.get(InquireQueueService.DEPTH_GAUGE).gauge().value());
+    }
+
+    @Test
+    void write_WhenProfileDeleted_ShouldSkipItsRowsAndWriteTheRest() {
+        // Arrange
+        InquireQueueService queue = queue(10);
+
+        // Act
+        int rows = queue.write(List.of(
+                new InquireQueueService.QueuedInquire(inquire("Alice", profile.getId()), LocalDateTime.now()),
+                new InquireQueueService.QueuedInquire(inquire("Ghost", Long.MAX_VALUE), LocalDateTime.now())));
+
+        // Assert
+        assertEquals(1, rows);
+        assertEquals(List.of("Alice"), jdbcTemplate.queryForList("SELECT name FROM inquires", String.class));
+    }
+
+    private InquireQueueService queue(int capacity) {
+        return new InquireQueueService(jdbcTemplate, entityManagerFactory, profileExistenceService, meterRegistry,
+                capacity, 100, Duration.ofSeconds(10), Duration.ofMillis(10));
+    }
+
+    private static InquireRequestInsert inquire(String name, Long profileId) {
+        return InquireRequestInsert.builder()
+                .name(name)
+                .email(name.toLowerCase().replace(' ', '.') + "@example.com")
+                .message("Hello")
+                .profileId(profileId)
+                .build();
+    }
+}
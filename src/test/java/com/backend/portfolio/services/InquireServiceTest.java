@@ -1,12 +1,16 @@
 package com.backend.portfolio.services;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,11 +24,14 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Inquire;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.InquireRequestInsert;
+import com.backend.portfolio.models.requests.PageCursor;
+import com.backend.portfolio.models.responses.CursorPage;
 import com.backend.portfolio.models.responses.InquireResponse;
 import com.backend.portfolio.repositories.InquireRepository;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -69,6 +76,61 @@ class InquireServiceTest {
                 .build();
     }
 
+    @Test
+    void getInquiresPage_WithoutCursor_ShouldReturnFirstPageAndNextCursor() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 30);
+        Inquire first = Inquire.builder().id(3L).name("A").createdAt(createdAt).profile(testProfile).build();
+        Inquire second = Inquire.builder().id(2L).name("B").createdAt(createdAt).profile(testProfile).build();
+        Inquire extra = Inquire.builder().id(1L).name("C").createdAt(createdAt).profile(testProfile).build();
+        when(inquireRepository.findFirstPage(Limit.of(3))).thenReturn(List.of(first, second, extra));
+
+        // Act
+        CursorPage<InquireResponse> result = inquireService.getInquiresPage(null, 2);
+
+        // Assert
+        assertEquals(2, result.getSize());
+        assertEquals(List.of(3L, 2L), result.getItems().stream().map(InquireResponse::getId).toList());
+        assertTrue(result.isHasMore());
+        assertEquals(new PageCursor(createdAt, 2L), PageCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void getInquiresPage_WithCursor_ShouldContinueAfterCursor() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 30);
+        String cursor = new PageCursor(createdAt, 2L).encode();
+        when(inquireRepository.findPageAfter(createdAt, 2L, Limit.of(CursorPage.DEFAULT_SIZE + 1)))
+                .thenReturn(List.of(testInquire));
+
+        // Act
+        CursorPage<InquireResponse> result = inquireService.getInquiresPage(cursor, null);
+
+        // Assert
+        assertEquals(1, result.getSize());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getInquiresPage_ShouldCapPageSize() {
+        // Arrange
+        when(inquireRepository.findFirstPage(Limit.of(CursorPage.MAX_SIZE + 1))).thenReturn(List.of());
+
+        // Act
+        inquireService.getInquiresPage(null, 10_000);
+
+        // Assert
+        verify(inquireRepository, times(1)).findFirstPage(Limit.of(CursorPage.MAX_SIZE + 1));
+    }
+
+    @Test
+    void getInquiresPage_WithMalformedCursor_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> inquireService.getInquiresPage("not-a-cursor", 10));
+        verify(inquireRepository, never()).findPageAfter(any(), anyLong(), any());
+    }
+
     @Test
     void getAllInquires_ShouldReturnListOfInquires() {
         // Arrange
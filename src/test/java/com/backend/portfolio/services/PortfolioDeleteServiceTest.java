@@ -0,0 +1,194 @@
+package com.backend.portfolio.services;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.backend.portfolio.events.PortfolioChangePublisher;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.models.entities.Address;
+import com.backend.portfolio.models.entities.Experience;
+import com.backend.portfolio.models.entities.ExperiencePoint;
+import com.backend.portfolio.models.entities.Faq;
+import com.backend.portfolio.models.entities.Inquire;
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.entities.Project;
+import com.backend.portfolio.models.entities.ProjectPoint;
+import com.backend.portfolio.models.entities.Technology;
+import com.backend.portfolio.models.responses.PortfolioDeleteResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+import com.backend.portfolio.repositories.ExperiencePointRepository;
+import com.backend.portfolio.repositories.InquireRepository;
+import com.backend.portfolio.repositories.ProfileRepository;
+import com.backend.portfolio.repositories.ProjectPointRepository;
+import com.backend.portfolio.repositories.ProjectRepository;
+import com.backend.portfolio.repositories.TechnologyRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Bulk deletes run against H2 so the statement order has to satisfy the real foreign keys
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import(PortfolioDeleteService.class)
+class PortfolioDeleteServiceTest {
+
+    private static final int INQUIRES = 40;
+
+    @Autowired
+    private PortfolioDeleteService portfolioDeleteService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectPointRepository projectPointRepository;
+
+    @Autowired
+    private ExperiencePointRepository experiencePointRepository;
+
+    @Autowired
+    private InquireRepository inquireRepository;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @MockitoBean
+    private PortfolioChangePublisher portfolioChangePublisher;
+
+    private Profile profile;
+    private Profile otherProfile;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        Technology java = persist(Technology.builder().name("Java").category("Language").build());
+        profile = persist(Profile.builder().fname("John").lname("Doe").technologies(new HashSet<>(List.of(java))).build());
+        otherProfile = persist(Profile.builder().fname("Jane").lname("Smith").build());
+
+        persist(Address.builder().city("Pune").pincode(411001).profile(profile).build());
+        persist(Faq.builder().question("Remote?").answer("Yes").profile(profile).build());
+        for (int i = 0; i < INQUIRES; i++) {
+            persist(Inquire.builder().name("Sender " + i).profile(profile).build());
+        }
+        persist(Inquire.builder().name("Other sender").profile(otherProfile).build());
+
+        Experience experience = persist(Experience.builder().company("Acme").startDate(LocalDate.of(2022, 3, 1))
+                .technologies(new HashSet<>(List.of(java))).profile(profile).build());
+        persist(ExperiencePoint.builder().content("Led the team").experience(experience).build());
+        persist(ExperiencePoint.builder().content("Cut latency").experience(experience).build());
+
+        project = persist(Project.builder().name("E-Commerce Platform")
+                .technologies(new HashSet<>(List.of(java))).profile(profile).build());
+        for (int i = 0; i < 3; i++) {
+            persist(ProjectPoint.builder().content("Point " + i).project(project).build());
+        }
+        Project otherProject = persist(Project.builder().name("Portfolio API").profile(otherProfile).build());
+        persist(ProjectPoint.builder().content("Other point").project(otherProject).build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void deleteProfile_ShouldDeleteChildrenWithOneStatementPerTable() {
+        // Arrange
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        PortfolioDeleteResponse result = portfolioDeleteService.deleteProfile(profile.getId());
+
+        // Assert
+        Map<String, Integer> deleted = result.getDeleted();
+        assertEquals(PortfolioSection.PROFILE, result.getSection());
+        assertEquals(2, deleted.get("experience_points"));
+        assertEquals(1, deleted.get("experiences_technologies"));
+        assertEquals(1, deleted.get("experiences"));
+        assertEquals(3, deleted.get("project_points"));
+        assertEquals(1, deleted.get("projects_technologies"));
+        assertEquals(1, deleted.get("projects"));
+        assertEquals(1, deleted.get("profiles_technologies"));
+        assertEquals(1, deleted.get("addresses"));
+        assertEquals(0, deleted.get("contacts"));
+        assertEquals(INQUIRES, deleted.get("inquires"));
+        assertEquals(1, deleted.get("faqs"));
+        assertEquals(1, deleted.get("profiles"));
+        assertEquals(deleted.values().stream().mapToInt(Integer::intValue).sum(), result.getRows());
+        // Existence check plus one DELETE per table, however many children the profile has
+        assertEquals(1 + deleted.size(), statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        assertFalse(profileRepository.existsById(profile.getId()));
+        assertTrue(profileRepository.existsById(otherProfile.getId()));
+        assertEquals(1, inquireRepository.count());
+        assertEquals(1, projectPointRepository.count());
+        assertEquals(0, experiencePointRepository.count());
+        assertEquals(1, technologyRepository.count());
+        verify(portfolioChangePublisher, times(1))
+                .publish(PortfolioSection.PROFILE, profile.getId(), profile.getId());
+    }
+
+    @Test
+    void deleteProfile_WhenNotExists_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> portfolioDeleteService.deleteProfile(999L));
+        verify(portfolioChangePublisher, never()).publish(any(), any(), any());
+    }
+
+    @Test
+    void deleteProject_ShouldDeletePointsAndTechnologyLinks() {
+        // Act
+        PortfolioDeleteResponse result = portfolioDeleteService.deleteProject(project.getId());
+
+        // Assert
+        assertEquals(Map.of("project_points", 3, "projects_technologies", 1, "projects", 1), result.getDeleted());
+        assertEquals(5, result.getRows());
+        assertFalse(projectRepository.existsById(project.getId()));
+        assertTrue(profileRepository.existsById(profile.getId()));
+        assertEquals(1, projectPointRepository.count());
+        verify(portfolioChangePublisher, times(1))
+                .publish(PortfolioSection.PROJECT, project.getId(), profile.getId());
+    }
+
+    @Test
+    void deleteProject_WhenNotExists_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> portfolioDeleteService.deleteProject(999L));
+        verify(portfolioChangePublisher, never()).publish(any(), any(), any());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,106 @@
+package com.backend.portfolio.services;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyLong;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.models.responses.FaqResponse;
+import com.backend.portfolio.models.responses.PortfolioResponse;
+import com.backend.portfolio.models.responses.ProfileResponse;
+import com.backend.portfolio.models.responses.ProjectResponse;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioServiceTest {
+
+    @Mock
+    private ProfileService profileService;
+
+    @Mock
+    private AddressService addressService;
+
+    @Mock
+    private ContactService contactService;
+
+    @Mock
+    private EducationService educationService;
+
+    @Mock
+    private ExperienceService experienceService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private AchievementService achievementService;
+
+    @Mock
+    private TechnologyService technologyService;
+
+    @Mock
+    private FaqService faqService;
+
+    @InjectMocks
+    private PortfolioService portfolioService;
+
+    private ProfileResponse testProfile;
+
+    @BeforeEach
+    void setUp() {
+        testProfile = ProfileResponse.builder()
+                .id(1L)
+                .fname("John")
+                .lname("Doe")
+                .build();
+    }
+
+    @Test
+    void getPortfolioByProfileId_ShouldAggregateAllSections() {
+        // Arrange
+        when(profileService.getProfileById(1L)).thenReturn(testProfile);
+        when(projectService.getAllProjectsByProfileId(1L))
+                .thenReturn(List.of(ProjectResponse.builder().id(1L).name("E-commerce Platform").build()));
+        when(faqService.getAllFaqsByProfileId(1L))
+                .thenReturn(List.of(FaqResponse.builder().id(1L).question("What is your experience?").build()));
+
+        // Act
+        PortfolioResponse result = portfolioService.getPortfolioByProfileId(1L);
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(testProfile, result.getProfile());
+        assertEquals(1, result.getProjects().size());
+        assertEquals(1, result.getFaqs().size());
+        verify(addressService, times(1)).getAllAddressesByProfileId(1L);
+        verify(contactService, times(1)).getAllContactsByProfileId(1L);
+        verify(educationService, times(1)).getAllEducationsByProfileId(1L);
+        verify(experienceService, times(1)).getAllExperiencesByProfileId(1L);
+        verify(achievementService, times(1)).getAllAchievementsByProfileId(1L);
+        verify(technologyService, times(1)).getAllTechnologiesByProfileId(1L);
+    }
+
+    @Test
+    void getPortfolioByProfileId_WhenProfileNotExists_ShouldThrowException() {
+        // Arrange
+        when(profileService.getProfileById(anyLong()))
+                .thenThrow(new ResourceNotFoundException("Profile not found with id: 999"));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+            portfolioService.getPortfolioByProfileId(999L));
+        verify(projectService, never()).getAllProjectsByProfileId(anyLong());
+    }
+}
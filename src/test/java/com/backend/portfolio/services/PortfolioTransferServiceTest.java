@@ -0,0 +1,222 @@
+package com.backend.portfolio.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.backend.portfolio.events.PortfolioChangePublisher;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.entities.Technology;
+import com.backend.portfolio.models.responses.FaqResponse;
+import com.backend.portfolio.models.responses.PortfolioImportResponse;
+import com.backend.portfolio.models.responses.ProfileResponse;
+import com.backend.portfolio.models.responses.ProjectResponse;
+import com.backend.portfolio.models.responses.TechnologyResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
+import com.backend.portfolio.repositories.ProfileRepository;
+import com.backend.portfolio.repositories.ProjectPointRepository;
+import com.backend.portfolio.repositories.ProjectRepository;
+import com.backend.portfolio.repositories.TechnologyRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Import runs against H2 so the batched writes, flush/clear chunks and technology links hit a real schema
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.portfolio-import.flush-size=5"
+})
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(PortfolioTransferService.class)
+class PortfolioTransferServiceTest {
+
+    @Autowired
+    private PortfolioTransferService portfolioTransferService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectPointRepository projectPointRepository;
+
+    @Autowired
+    private TechnologyRepository technologyRepository;
+
+    @MockitoBean
+    private PortfolioChangePublisher portfolioChangePublisher;
+
+    @MockitoBean
+    private ProfileService profileService;
+
+    @MockitoBean
+    private AddressService addressService;
+
+    @MockitoBean
+    private ContactService contactService;
+
+    @MockitoBean
+    private EducationService educationService;
+
+    @MockitoBean
+    private ExperienceService experienceService;
+
+    @MockitoBean
+    private ProjectService projectService;
+
+    @MockitoBean
+    private AchievementService achievementService;
+
+    @MockitoBean
+    private TechnologyService technologyService;
+
+    @MockitoBean
+    private FaqService faqService;
+
+    @Test
+    void importPortfolio_ShouldCreateProfileWithAllSections() throws Exception {
+        // Arrange
+        entityManager.persist(Technology.builder().name("Java").category("Language").build());
+        entityManager.flush();
+        String document = """
+                {
+                  "profile": {"id": 99, "fname": "John", "lname": "Doe", "bio": "Engineer"},
+                  "addresses": [{"city": "Pune", "country": "India", "pincode": 411001}],
+                  "experiences": [{"company": "Acme", "startDate": "2022-03-01", "technologies": [{"name": "Java"}],
+                                   "experiencePoints": [{"content": "Led the team"}, {"content": "Cut latency"}]}],
+                  "projects": [%s],
+                  "technologies": [{"name": "Java"}, {"name": "Docker", "category": "DevOps"}],
+                  "faqs": [{"question": "Remote?", "answer": "Yes"}],
+                  "unknown": {"ignored": true}
+                }
+                """.formatted(objectMapper.writeValueAsString(project("E-Commerce Platform", 12)));
+
+        // Act
+        PortfolioImportResponse result = portfolioTransferService.importPortfolio(stream(document));
+        entityManager.clear();
+
+        // Assert
+        Profile profile = profileRepository.findById(result.getProfileId()).orElseThrow();
+        assertEquals("John", profile.getFname());
+        assertEquals(Set.of("Java", "Docker"),
+                profile.getTechnologies().stream().map(Technology::getName).collect(Collectors.toSet()));
+        assertEquals(2, technologyRepository.count());
+        assertEquals(1, projectRepository.findAllByProfileIdOrderByStartDateDesc(result.getProfileId()).size());
+        assertEquals(12, projectPointRepository.count());
+        assertEquals(Map.of("profiles", 1, "addresses", 1, "experiences", 1, "experiencePoints", 2,
+                "projects", 1, "projectPoints", 12, "technologies", 1, "faqs", 1), result.getCounts());
+        assertEquals(20, result.getRows());
+        assertTrue(result.getRowsPerSecond() > 0);
+        verify(portfolioChangePublisher, times(1))
+                .publish(PortfolioSection.PROFILE, result.getProfileId(), result.getProfileId());
+    }
+
+    @Test
+    void importPortfolio_WhenSectionComesBeforeProfile_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        String document = """
+                {"faqs": [{"question": "Remote?", "answer": "Yes"}], "profile": {"fname": "John", "lname": "Doe"}}
+                """;
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> portfolioTransferService.importPortfolio(stream(document)));
+        verify(portfolioChangePublisher, never()).publish(any(), any(), any());
+    }
+
+    @Test
+    void importPortfolio_WithoutProfile_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> portfolioTransferService.importPortfolio(stream("{}")));
+    }
+
+    @Test
+    void checkExportable_WhenProfileMissing_ShouldThrowResourceNotFoundException() {
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> portfolioTransferService.checkExportable(12345L));
+    }
+
+    @Test
+    void exportPortfolio_ShouldWriteEverySectionAndImportBack() throws Exception {
+        // Arrange
+        Long profileId = 7L;
+        when(profileService.getProfileById(profileId))
+                .thenReturn(ProfileResponse.builder().id(profileId).fname("Jane").lname("Smith").build());
+        when(projectService.getAllProjectsByProfileId(profileId)).thenReturn(List.of(project("Portfolio API", 3)));
+        when(technologyService.getAllTechnologiesByProfileId(profileId))
+                .thenReturn(List.of(TechnologyResponse.builder().name("Spring").category("Framework").build()));
+        when(faqService.getAllFaqsByProfileId(profileId))
+                .thenReturn(List.of(FaqResponse.builder().question("Remote?").answer("Yes").build()));
+
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        portfolioTransferService.exportPortfolio(profileId, out);
+        PortfolioImportResponse imported = portfolioTransferService.importPortfolio(new ByteArrayInputStream(out.toByteArray()));
+
+        // Assert
+        JsonNode exported = objectMapper.readTree(out.toByteArray());
+        assertEquals(List.of("profile", "addresses", "contacts", "educations", "experiences", "projects",
+                "achievements", "technologies", "faqs"), fieldNames(exported));
+        assertEquals("2024-01-15", exported.get("projects").get(0).get("startDate").asText());
+        // Java comes from the project, Spring from the technologies section
+        assertEquals(Map.of("profiles", 1, "projects", 1, "projectPoints", 3, "technologies", 2, "faqs", 1),
+                imported.getCounts());
+    }
+
+    private ProjectResponse project(String name, int points) {
+        return ProjectResponse.builder()
+                .name(name)
+                .startDate(LocalDate.of(2024, 1, 15))
+                .technologies(Set.of(Map.of("name", "Java")))
+                .projectPoints(IntStream.range(0, points)
+                        .mapToObj(i -> Map.of("content", "Point " + i))
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+
+    private ByteArrayInputStream stream(String document) {
+        return new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
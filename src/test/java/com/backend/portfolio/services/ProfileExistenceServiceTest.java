@@ -0,0 +1,50 @@
+package com.backend.portfolio.services;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+
+class ProfileExistenceServiceTest {
+
+    private CacheManager cacheManager;
+    private ProfileExistenceService profileExistenceService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.MISSING_PROFILE_IDS_CACHE);
+        profileExistenceService = new ProfileExistenceService(cacheManager);
+    }
+
+    @Test
+    void checkNotKnownMissing_WhenNotRecorded_ShouldNotThrow() {
+        // Act & Assert
+        assertDoesNotThrow(() -> profileExistenceService.checkNotKnownMissing(1L));
+    }
+
+    @Test
+    void checkNotKnownMissing_WhenRecordedMissing_ShouldThrowException() {
+        // Arrange
+        profileExistenceService.recordMissing(999L);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+            profileExistenceService.checkNotKnownMissing(999L));
+        assertDoesNotThrow(() -> profileExistenceService.checkNotKnownMissing(1L));
+    }
+
+    @Test
+    void checkNotKnownMissing_AfterEviction_ShouldNotThrow() {
+        // Arrange
+        profileExistenceService.recordMissing(999L);
+        cacheManager.getCache(CacheConfig.MISSING_PROFILE_IDS_CACHE).evict(999L);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> profileExistenceService.checkNotKnownMissing(999L));
+    }
+}
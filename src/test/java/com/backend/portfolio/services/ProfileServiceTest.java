@@ -22,10 +22,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.requests.ProfileRequestInsert;
 import com.backend.portfolio.models.responses.ProfileResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.states.enums.Sex;
 import com.backend.portfolio.models.updates.ProfileRequestResponse;
 import com.backend.portfolio.repositories.ProfileRepository;
@@ -36,6 +38,12 @@ class ProfileServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private PortfolioChangePublisher portfolioChangePublisher;
+
+    @Mock
+    private ProfileExistenceService profileExistenceService;
+
     @InjectMocks
     private ProfileService profileService;
 
@@ -113,6 +121,7 @@ class ProfileServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> 
             profileService.getProfileById(999L));
         verify(profileRepository, times(1)).findById(999L);
+        verify(profileExistenceService, times(1)).recordMissing(999L);
     }
 
     @Test
@@ -197,6 +206,7 @@ class ProfileServiceTest {
         // Assert
         verify(profileRepository, times(1)).existsById(1L);
         verify(profileRepository, times(1)).deleteById(1L);
+        verify(portfolioChangePublisher, times(1)).publish(PortfolioSection.PROFILE, 1L, 1L);
     }
 
     @Test
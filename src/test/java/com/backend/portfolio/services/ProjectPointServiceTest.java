@@ -21,11 +21,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.entities.Project;
 import com.backend.portfolio.models.entities.ProjectPoint;
 import com.backend.portfolio.models.requests.ProjectPointRequestInsert;
 import com.backend.portfolio.models.responses.ProjectPointResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.ProjectPointRequestUpdate;
 import com.backend.portfolio.repositories.ProjectPointRepository;
 import com.backend.portfolio.repositories.ProjectRepository;
@@ -39,9 +42,13 @@ class ProjectPointServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private PortfolioChangePublisher portfolioChangePublisher;
+
     @InjectMocks
     private ProjectPointService projectPointService;
 
+    private Profile testProfile;
     private Project testProject;
     private ProjectPoint testProjectPoint;
     private ProjectPointRequestInsert testRequestInsert;
@@ -49,9 +56,16 @@ class ProjectPointServiceTest {
 
     @BeforeEach
     void setUp() {
+        testProfile = Profile.builder()
+                .id(1L)
+                .fname("John")
+                .lname("Doe")
+                .build();
+
         testProject = Project.builder()
                 .id(1L)
                 .name("E-commerce Platform")
+                .profile(testProfile)
                 .build();
 
         testProjectPoint = ProjectPoint.builder()
@@ -169,7 +183,7 @@ class ProjectPointServiceTest {
     void updateProjectPoint_WithProjectIdChange_ShouldUpdateProject() {
         // Arrange
         testRequestUpdate.setProjectId(2L);
-        Project newProject = Project.builder().id(2L).name("New Project").build();
+        Project newProject = Project.builder().id(2L).name("New Project").profile(testProfile).build();
         
         when(projectPointRepository.findById(1L)).thenReturn(Optional.of(testProjectPoint));
         when(projectRepository.findById(2L)).thenReturn(Optional.of(newProject));
@@ -188,26 +202,27 @@ class ProjectPointServiceTest {
     @Test
     void deleteProjectPoint_WhenExists_ShouldDeleteSuccessfully() {
         // Arrange
-        when(projectPointRepository.existsById(1L)).thenReturn(true);
+        when(projectPointRepository.findProfileIdById(1L)).thenReturn(Optional.of(1L));
         doNothing().when(projectPointRepository).deleteById(1L);
 
         // Act
         projectPointService.deleteProjectPoint(1L);
 
         // Assert
-        verify(projectPointRepository, times(1)).existsById(1L);
+        verify(projectPointRepository, times(1)).findProfileIdById(1L);
         verify(projectPointRepository, times(1)).deleteById(1L);
+        verify(portfolioChangePublisher, times(1)).publish(PortfolioSection.PROJECT, 1L, 1L);
     }
 
     @Test
     void deleteProjectPoint_WhenNotExists_ShouldThrowException() {
         // Arrange
-        when(projectPointRepository.existsById(anyLong())).thenReturn(false);
+        when(projectPointRepository.findProfileIdById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> 
             projectPointService.deleteProjectPoint(999L));
-        verify(projectPointRepository, times(1)).existsById(999L);
+        verify(projectPointRepository, times(1)).findProfileIdById(999L);
         verify(projectPointRepository, never()).deleteById(anyLong());
     }
 }
@@ -23,12 +23,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Profile;
 import com.backend.portfolio.models.entities.Project;
 import com.backend.portfolio.models.entities.Technology;
 import com.backend.portfolio.models.requests.ProjectRequestInsert;
 import com.backend.portfolio.models.responses.ProjectResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.updates.ProjectRequestUpdate;
 import com.backend.portfolio.repositories.ProfileRepository;
 import com.backend.portfolio.repositories.ProjectRepository;
@@ -46,6 +48,9 @@ class ProjectServiceTest {
     @Mock
     private TechnologyRepository technologyRepository;
 
+    @Mock
+    private PortfolioChangePublisher portfolioChangePublisher;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -248,26 +253,27 @@ class ProjectServiceTest {
     @Test
     void deleteProject_WhenExists_ShouldDeleteSuccessfully() {
         // Arrange
-        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(projectRepository.findProfileIdById(1L)).thenReturn(Optional.of(1L));
         doNothing().when(projectRepository).deleteById(1L);
 
         // Act
         projectService.deleteProject(1L);
 
         // Assert
-        verify(projectRepository, times(1)).existsById(1L);
+        verify(projectRepository, times(1)).findProfileIdById(1L);
         verify(projectRepository, times(1)).deleteById(1L);
+        verify(portfolioChangePublisher, times(1)).publish(PortfolioSection.PROJECT, 1L, 1L);
     }
 
     @Test
     void deleteProject_WhenNotExists_ShouldThrowException() {
         // Arrange
-        when(projectRepository.existsById(anyLong())).thenReturn(false);
+        when(projectRepository.findProfileIdById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> 
             projectService.deleteProject(999L));
-        verify(projectRepository, times(1)).existsById(999L);
+        verify(projectRepository, times(1)).findProfileIdById(999L);
         verify(projectRepository, never()).deleteById(anyLong());
     }
 }
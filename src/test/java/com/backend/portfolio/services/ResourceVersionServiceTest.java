@@ -0,0 +1,133 @@
+package com.backend.portfolio.services;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.models.projections.ResourceVersion;
+import com.backend.portfolio.repositories.AchievementRepository;
+import com.backend.portfolio.repositories.AddressRepository;
+import com.backend.portfolio.repositories.ContactRepository;
+import com.backend.portfolio.repositories.EducationRepository;
+import com.backend.portfolio.repositories.ExperienceRepository;
+import com.backend.portfolio.repositories.FaqRepository;
+import com.backend.portfolio.repositories.ProfileRepository;
+import com.backend.portfolio.repositories.ProjectRepository;
+import com.backend.portfolio.repositories.TechnologyRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceVersionServiceTest {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private ContactRepository contactRepository;
+
+    @Mock
+    private EducationRepository educationRepository;
+
+    @Mock
+    private ExperienceRepository experienceRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private AchievementRepository achievementRepository;
+
+    @Mock
+    private TechnologyRepository technologyRepository;
+
+    @Mock
+    private FaqRepository faqRepository;
+
+    @Mock
+    private ProfileExistenceService profileExistenceService;
+
+    @InjectMocks
+    private ResourceVersionService resourceVersionService;
+
+    private final LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @Test
+    void getETag_ShouldReturnQuotedStableValue() {
+        // Arrange
+        when(faqRepository.findVersionByProfileId(1L)).thenReturn(new ResourceVersion(2L, updatedAt, 3L));
+
+        // Act
+        String first = resourceVersionService.getETag(CacheConfig.FAQS_CACHE, 1L);
+        String second = resourceVersionService.getETag(CacheConfig.FAQS_CACHE, 1L);
+
+        // Assert
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+        assertEquals(first, second);
+        verify(faqRepository, times(2)).findVersionByProfileId(1L);
+    }
+
+    @Test
+    void getETag_WhenRowsChange_ShouldReturnDifferentValue() {
+        // Arrange
+        when(faqRepository.findVersionByProfileId(1L))
+                .thenReturn(new ResourceVersion(2L, updatedAt, 3L))
+                .thenReturn(new ResourceVersion(2L, updatedAt, 4L));
+
+        // Act
+        String before = resourceVersionService.getETag(CacheConfig.FAQS_CACHE, 1L);
+        String after = resourceVersionService.getETag(CacheConfig.FAQS_CACHE, 1L);
+
+        // Assert
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void getETag_ForProjects_ShouldIncludePointsAndTechnologies() {
+        // Arrange
+        when(projectRepository.findVersionByProfileId(1L)).thenReturn(new ResourceVersion(1L, updatedAt, 1L));
+        when(projectRepository.findPointsVersionByProfileId(1L)).thenReturn(new ResourceVersion(0L, null, null));
+        when(projectRepository.findTechnologiesVersionByProfileId(1L)).thenReturn(new ResourceVersion(1L, updatedAt, 5L));
+
+        // Act
+        resourceVersionService.getETag(CacheConfig.PROJECTS_CACHE, 1L);
+
+        // Assert
+        verify(projectRepository, times(1)).findPointsVersionByProfileId(1L);
+        verify(projectRepository, times(1)).findTechnologiesVersionByProfileId(1L);
+    }
+
+    @Test
+    void getETag_WhenResourceUnknown_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            resourceVersionService.getETag("unknown", 1L));
+    }
+
+    @Test
+    void getETag_WhenProfileNotExists_ShouldRecordMissingAndThrowException() {
+        // Arrange
+        when(profileRepository.findVersionById(999L)).thenReturn(new ResourceVersion(0L, null, null));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+            resourceVersionService.getETag(CacheConfig.PORTFOLIO_CACHE, 999L));
+        verify(profileExistenceService, times(1)).recordMissing(999L);
+        verify(faqRepository, never()).findVersionByProfileId(999L);
+    }
+}
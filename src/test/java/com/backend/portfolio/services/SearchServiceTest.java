@@ -0,0 +1,145 @@
+package com.backend.portfolio.services;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.portfolio.models.projections.SearchHitView;
+import com.backend.portfolio.models.responses.SearchHitResponse;
+import com.backend.portfolio.models.responses.SearchResponse;
+import com.backend.portfolio.models.states.enums.SearchHitType;
+import com.backend.portfolio.repositories.SearchRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SearchRepository searchRepository;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Test
+    void search_ShouldMapHitsAndTrimQuery() {
+        // Arrange
+        when(searchRepository.search(1L, "kafka payments", 11, 0))
+                .thenReturn(List.of(hit("PROJECT_POINT", 7L, 3L, 0.8), hit("FAQ", 2L, 2L, 0.4)));
+
+        // Act
+        SearchResponse result = searchService.search(1L, "  kafka payments ", null, null);
+
+        // Assert
+        assertEquals("kafka payments", result.getQuery());
+        assertEquals(2, result.getSize());
+        assertFalse(result.isHasMore());
+        SearchHitResponse first = result.getHits().get(0);
+        assertEquals(SearchHitType.PROJECT_POINT, first.getType());
+        assertEquals(7L, first.getId());
+        assertEquals(3L, first.getParentId());
+        assertEquals("title 7", first.getTitle());
+        assertEquals("<mark>kafka</mark> 7", first.getHighlight());
+        assertEquals(0.8, first.getRank());
+        verify(searchRepository, times(1)).search(1L, "kafka payments", 11, 0);
+    }
+
+    @Test
+    void search_WhenExtraRowReturned_ShouldTrimPageAndReportMore() {
+        // Arrange
+        when(searchRepository.search(1L, "java", 4, 6)).thenReturn(hits(4));
+
+        // Act
+        SearchResponse result = searchService.search(1L, "java", 2, 3);
+
+        // Assert
+        assertEquals(2, result.getPage());
+        assertEquals(3, result.getSize());
+        assertEquals(3, result.getHits().size());
+        assertTrue(result.isHasMore());
+    }
+
+    @Test
+    void search_WhenSizeOutOfRange_ShouldClamp() {
+        // Arrange
+        when(searchRepository.search(anyLong(), anyString(), anyInt(), anyInt())).thenReturn(List.of());
+
+        // Act
+        searchService.search(1L, "java", -4, 1000);
+        searchService.search(1L, "java", 0, 0);
+
+        // Assert
+        verify(searchRepository, times(1)).search(1L, "java", SearchResponse.MAX_SIZE + 1, 0);
+        verify(searchRepository, times(1)).search(1L, "java", 2, 0);
+    }
+
+    @Test
+    void search_WhenLastPageBeforeMaxHits_ShouldNotReportMore() {
+        // Arrange
+        int size = SearchResponse.MAX_SIZE;
+        int lastPage = SearchResponse.MAX_HITS / size - 1;
+        when(searchRepository.search(1L, "java", size + 1, lastPage * size)).thenReturn(hits(size + 1));
+
+        // Act
+        SearchResponse result = searchService.search(1L, "java", lastPage, size);
+
+        // Assert
+        assertEquals(size, result.getSize());
+        assertFalse(result.isHasMore());
+    }
+
+    @Test
+    void search_WhenPagePastMaxHits_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> searchService.search(1L, "java", SearchResponse.MAX_HITS / SearchResponse.MAX_SIZE, SearchResponse.MAX_SIZE));
+        verify(searchRepository, never()).search(anyLong(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void search_WhenQueryBlank_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(1L, "   ", null, null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(1L, null, null, null));
+        verify(searchRepository, never()).search(anyLong(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void search_WhenQueryTooLong_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        String query = "a".repeat(SearchService.MAX_QUERY_LENGTH + 1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(1L, query, null, null));
+        verify(searchRepository, never()).search(anyLong(), anyString(), anyInt(), anyInt());
+    }
+
+    private static List<SearchHitView> hits(int count) {
+        return IntStream.range(0, count).mapToObj(i -> hit("PROJECT", (long) i, (long) i, 1.0 - i * 0.01)).toList();
+    }
+
+    private static SearchHitView hit(String type, Long id, Long parentId, Double rank) {
+        return new SearchHitView() {
+            public String getType() { return type; }
+            public Long getId() { return id; }
+            public Long getParentId() { return parentId; }
+            public String getTitle() { return "title " + id; }
+            public String getHighlight() { return "<mark>kafka</mark> " + id; }
+            public Double getRank() { return rank; }
+        };
+    }
+}
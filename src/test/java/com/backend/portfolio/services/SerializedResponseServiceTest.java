@@ -0,0 +1,143 @@
+package com.backend.portfolio.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.models.responses.FaqResponse;
+import com.backend.portfolio.models.responses.SerializedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class SerializedResponseServiceTest {
+
+    private SerializedResponseService serializedResponseService;
+
+    @BeforeEach
+    void setUp() {
+        serializedResponseService = new SerializedResponseService(new ObjectMapper());
+    }
+
+    @Test
+    void getSerializedResponse_ShouldStoreJsonAndMatchingGzip() throws IOException {
+        // Arrange
+        List<FaqResponse> faqs = List.of(FaqResponse.builder().id(1L).question("What is your experience?").build());
+
+        // Act
+        SerializedResponse result = serializedResponseService.getSerializedResponse(CacheConfig.FAQS_CACHE, 1L, () -> faqs);
+
+        // Assert
+        String json = new String(result.getJson(), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"question\":\"What is your experience?\""));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(result.getGzip()))) {
+            assertArrayEquals(result.getJson(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void toResponseEntity_WhenClientAcceptsGzip_ShouldReturnGzipBytes() {
+        // Arrange
+        SerializedResponse body = new SerializedResponse("[]".getBytes(StandardCharsets.UTF_8), new byte[] {1, 2, 3});
+
+        // Act
+        ResponseEntity<byte[]> result = serializedResponseService.toResponseEntity(body, "\"etag\"", "gzip, deflate, br");
+
+        // Assert
+        assertEquals("gzip", result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"etag-gzip\"", result.getHeaders().getETag());
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, result.getHeaders().getFirst(HttpHeaders.VARY));
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        assertArrayEquals(new byte[] {1, 2, 3}, result.getBody());
+    }
+
+    @Test
+    void toResponseEntity_WhenClientDoesNotAcceptGzip_ShouldReturnPlainJson() {
+        // Arrange
+        SerializedResponse body = new SerializedResponse("[]".getBytes(StandardCharsets.UTF_8), new byte[] {1, 2, 3});
+
+        // Act
+        ResponseEntity<byte[]> result = serializedResponseService.toResponseEntity(body, "\"etag\"", null);
+
+        // Assert
+        assertNull(result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"etag\"", result.getHeaders().getETag());
+        assertArrayEquals("[]".getBytes(StandardCharsets.UTF_8), result.getBody());
+    }
+
+    @Test
+    void toResponseEntity_WhenNoGzipVariant_ShouldReturnPlainJson() {
+        // Arrange
+        SerializedResponse body = serializedResponseService.serializeJson(List.of());
+
+        // Act
+        ResponseEntity<byte[]> result = serializedResponseService.toResponseEntity(body, "\"etag\"", "gzip");
+
+        // Assert
+        assertNull(result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals("[]".getBytes(StandardCharsets.UTF_8), result.getBody());
+    }
+
+    @Test
+    void isNotModified_ShouldMatchEtagOfEitherEncoding() {
+        // Arrange
+        MockHttpServletRequest plain = new MockHttpServletRequest();
+        plain.addHeader(HttpHeaders.IF_NONE_MATCH, "\"etag\"");
+        MockHttpServletRequest gzip = new MockHttpServletRequest();
+        gzip.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/\"etag-gzip\"");
+        MockHttpServletRequest other = new MockHttpServletRequest();
+        other.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+
+        // Act & Assert
+        assertTrue(SerializedResponseService.isNotModified(new ServletWebRequest(plain), "\"etag\""));
+        assertTrue(SerializedResponseService.isNotModified(new ServletWebRequest(gzip), "\"etag\""));
+        assertFalse(SerializedResponseService.isNotModified(new ServletWebRequest(other), "\"etag\""));
+        assertFalse(SerializedResponseService.isNotModified(new ServletWebRequest(new MockHttpServletRequest()), "\"etag\""));
+    }
+
+    @Test
+    void notModified_ShouldCarryEtagOfTheEncodingThatWouldBeSent() {
+        // Arrange
+        ReflectionTestUtils.setField(serializedResponseService, "enabled", true);
+
+        // Act
+        ResponseEntity<byte[]> gzip = serializedResponseService.notModified("\"etag\"", "gzip");
+        ResponseEntity<byte[]> plain = serializedResponseService.notModified("\"etag\"", null);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, gzip.getStatusCode());
+        assertEquals("\"etag-gzip\"", gzip.getHeaders().getETag());
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, gzip.getHeaders().getFirst(HttpHeaders.VARY));
+        assertEquals("\"etag\"", plain.getHeaders().getETag());
+    }
+
+    @Test
+    void acceptsGzip_ShouldHonourQValues() {
+        // Act & Assert
+        assertTrue(SerializedResponseService.acceptsGzip("gzip"));
+        assertTrue(SerializedResponseService.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(SerializedResponseService.acceptsGzip("br, *"));
+        assertFalse(SerializedResponseService.acceptsGzip("gzip;q=0"));
+        assertFalse(SerializedResponseService.acceptsGzip("gzip; q=0.000, *"));
+        assertFalse(SerializedResponseService.acceptsGzip("*;q=0"));
+        assertFalse(SerializedResponseService.acceptsGzip("identity"));
+        assertFalse(SerializedResponseService.acceptsGzip("deflate, br"));
+        assertFalse(SerializedResponseService.acceptsGzip(null));
+    }
+}
@@ -0,0 +1,428 @@
+package com.backend.portfolio.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.events.PortfolioChangePublisher;
+import com.backend.portfolio.models.entities.Achievement;
+import com.backend.portfolio.models.entities.Address;
+import com.backend.portfolio.models.entities.Contact;
+import com.backend.portfolio.models.entities.Education;
+import com.backend.portfolio.models.entities.Experience;
+import com.backend.portfolio.models.entities.ExperiencePoint;
+import com.backend.portfolio.models.entities.Faq;
+import com.backend.portfolio.models.entities.Inquire;
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.entities.Project;
+import com.backend.portfolio.models.entities.ProjectPoint;
+import com.backend.portfolio.models.entities.Technology;
+import com.backend.portfolio.models.requests.AchievementRequestInsert;
+import com.backend.portfolio.models.requests.AddressRequestInsert;
+import com.backend.portfolio.models.requests.ContactRequestInsert;
+import com.backend.portfolio.models.requests.EducationRequestInsert;
+import com.backend.portfolio.models.requests.ExperiencePointRequestInsert;
+import com.backend.portfolio.models.requests.ExperienceRequestInsert;
+import com.backend.portfolio.models.requests.FaqRequestInsert;
+import com.backend.portfolio.models.requests.InquireRequestInsert;
+import com.backend.portfolio.models.requests.ProfileRequestInsert;
+import com.backend.portfolio.models.requests.ProjectPointRequestInsert;
+import com.backend.portfolio.models.requests.ProjectRequestInsert;
+import com.backend.portfolio.models.requests.TechnologyRequestInsert;
+import com.backend.portfolio.models.states.enums.InquireExportFormat;
+import com.backend.portfolio.models.updates.AchievementRequestUpdate;
+import com.backend.portfolio.models.updates.AddressRequestUpdate;
+import com.backend.portfolio.models.updates.ContactRequestUpdate;
+import com.backend.portfolio.models.updates.EducationRequestUpdate;
+import com.backend.portfolio.models.updates.ExperiencePointRequestUpdate;
+import com.backend.portfolio.models.updates.ExperienceRequestUpdate;
+import com.backend.portfolio.models.updates.FaqRequestUpdate;
+import com.backend.portfolio.models.updates.ProfileRequestResponse;
+import com.backend.portfolio.models.updates.ProjectPointRequestUpdate;
+import com.backend.portfolio.models.updates.ProjectRequestUpdate;
+import com.backend.portfolio.models.updates.TechnologyRequestUpdate;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Exact SQL statement budget of every public and admin service method, run against the Flyway H2 schema
+ * with a profile seeded like a real portfolio (several rows per section, points and technologies per
+ * project and experience). Caches are not enabled here, so each call does its full database work.
+ * A change that adds a statement (an N+1 over projects, a lazy collection touched while mapping)
+ * fails with the statements listed. When a change removes statements on purpose, lower the budget.
+ * <p>
+ * Statements are recorded by a StatementInspector and counted after a flush, so writes include their
+ * INSERT/UPDATE/DELETE statements. Id sequence fetches are left out: the pooled optimizer fetches
+ * once per 50 ids, whatever the method does.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.backend.portfolio.services.ServiceQueryBudgetTest$StatementRecorder"
+})
+@ActiveProfiles("test")
+@Import({
+        ProfileService.class, ProfileExistenceService.class, AddressService.class, ContactService.class,
+        EducationService.class, ExperienceService.class, ExperiencePointService.class, ProjectService.class,
+        ProjectPointService.class, AchievementService.class, TechnologyService.class, FaqService.class,
+        InquireService.class, InquireExportService.class, PortfolioService.class, ResourceVersionService.class,
+        PortfolioDeleteService.class
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ServiceQueryBudgetTest {
+
+    private static final int TECHNOLOGIES = 6;
+    private static final int ROWS_PER_SECTION = 4;
+    private static final int POINTS = 3;
+    private static final int LINKED_TECHNOLOGIES = 3;
+
+    @Autowired private ProfileService profileService;
+    @Autowired private AddressService addressService;
+    @Autowired private ContactService contactService;
+    @Autowired private EducationService educationService;
+    @Autowired private ExperienceService experienceService;
+    @Autowired private ExperiencePointService experiencePointService;
+    @Autowired private ProjectService projectService;
+    @Autowired private ProjectPointService projectPointService;
+    @Autowired private AchievementService achievementService;
+    @Autowired private TechnologyService technologyService;
+    @Autowired private FaqService faqService;
+    @Autowired private InquireService inquireService;
+    @Autowired private InquireExportService inquireExportService;
+    @Autowired private PortfolioService portfolioService;
+    @Autowired private ResourceVersionService resourceVersionService;
+    @Autowired private PortfolioDeleteService portfolioDeleteService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private PortfolioChangePublisher portfolioChangePublisher;
+
+    // No caches: ProfileExistenceService finds none and never short-circuits a lookup
+    @MockitoBean
+    private CacheManager cacheManager;
+
+    private Long profileId;
+    private List<Technology> technologies;
+    private Address address;
+    private Contact contact;
+    private Education education;
+    private Achievement achievement;
+    private Faq faq;
+    private Inquire inquire;
+    private Experience experience;
+    private ExperiencePoint experiencePoint;
+    private Project project;
+    private ProjectPoint projectPoint;
+
+    @BeforeEach
+    void setUp() {
+        technologies = new ArrayList<>();
+        for (int i = 0; i < TECHNOLOGIES; i++) {
+            technologies.add(persist(Technology.builder().name("Technology " + i).category("Category " + i % 2).build()));
+        }
+        Profile profile = persist(Profile.builder().fname("John").lname("Doe")
+                .technologies(new HashSet<>(technologies)).build());
+        profileId = profile.getId();
+        // A second profile, so every by-profile query has rows to filter out
+        Profile otherProfile = persist(Profile.builder().fname("Jane").lname("Smith").build());
+
+        // The profile measured below is seeded last, so the fields keep its rows
+        for (Profile owner : List.of(otherProfile, profile)) {
+            for (int i = 0; i < ROWS_PER_SECTION; i++) {
+                address = persist(Address.builder().city("City " + i).pincode(411001 + i).profile(owner).build());
+                contact = persist(Contact.builder().platform("Platform " + i).profile(owner).build());
+                education = persist(Education.builder().degree("Degree " + i).startDate(LocalDate.of(2015 + i, 6, 1))
+                        .profile(owner).build());
+                achievement = persist(Achievement.builder().name("Award " + i).dateAchieved(LocalDate.of(2020 + i, 1, 1))
+                        .profile(owner).build());
+                faq = persist(Faq.builder().question("Question " + i).answer("Answer " + i).profile(owner).build());
+                inquire = persist(Inquire.builder().name("Sender " + i).email("sender" + i + "@example.com").profile(owner).build());
+
+                experience = persist(Experience.builder().company("Company " + i).startDate(LocalDate.of(2018 + i, 1, 1))
+                        .technologies(linkedTechnologies(i)).profile(owner).build());
+                project = persist(Project.builder().name("Project " + i).startDate(LocalDate.of(2019 + i, 1, 1))
+                        .technologies(linkedTechnologies(i)).profile(owner).build());
+                for (int p = 0; p < POINTS; p++) {
+                    experiencePoint = persist(ExperiencePoint.builder().content("Did " + p).experience(experience).build());
+                    projectPoint = persist(ProjectPoint.builder().content("Built " + p).project(project).build());
+                }
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void profileService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(1, "getAllProfiles", () -> profileService.getAllProfiles()),
+                budget(1, "getProfileById", () -> profileService.getProfileById(profileId)),
+                budget(1, "getProfileByName", () -> profileService.getProfileByName("John", "Doe")),
+                budget(1, "createProfile", () -> profileService.createProfile(
+                        ProfileRequestInsert.builder().fname("New").lname("Profile").build())),
+                budget(2, "updateProfile", () -> profileService.updateProfile(profileId,
+                        ProfileRequestResponse.builder().bio("Updated").build())),
+                // Entity cascade, one DELETE per child row; PortfolioDeleteService.deleteProfile is the set-based path
+                budget(79, "deleteProfile", () -> profileService.deleteProfile(profileId)));
+    }
+
+    @Test
+    void addressService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(1, "getAllAddresses", () -> addressService.getAllAddresses()),
+                budget(1, "getAllAddressesByProfileId", () -> addressService.getAllAddressesByProfileId(profileId)),
+                budget(1, "getAddressById", () -> addressService.getAddressById(address.getId())),
+                budget(2, "createAddress", () -> addressService.createAddress(
+                        AddressRequestInsert.builder().city("Pune").pincode(411001).profileId(profileId).build())),
+                budget(2, "updateAddress", () -> addressService.updateAddress(address.getId(),
+                        AddressRequestUpdate.builder().city("Mumbai").build())),
+                budget(3, "deleteAddress", () -> addressService.deleteAddress(address.getId())));
+    }
+
+    @Test
+    void contactService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(1, "getAllContacts", () -> contactService.getAllContacts()),
+                budget(1, "getAllContactsByProfileId", () -> contactService.getAllContactsByProfileId(profileId)),
+                budget(1, "getContactById", () -> contactService.getContactById(contact.getId())),
+                budget(2, "createContact", () -> contactService.createContact(
+                        ContactRequestInsert.builder().platform("GitHub").profileId(profileId).build())),
+                budget(2, "updateContact", () -> contactService.updateContact(contact.getId(),
+                        ContactRequestUpdate.builder().platform("GitLab").build())),
+                budget(3, "deleteContact", () -> contactService.deleteContact(contact.getId())));
+    }
+
+    @Test
+    void educationService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(1, "getAllEducations", () -> educationService.getAllEducations()),
+                budget(1, "getAllEducationsByProfileId", () -> educationService.getAllEducationsByProfileId(profileId)),
+                budget(1, "getEducationById", () -> educationService.getEducationById(education.getId())),
+                budget(2, "createEducation", () -> educationService.createEducation(EducationRequestInsert.builder()
+                        .degree("MSc").percentage(new BigDecimal("81.5")).profileId(profileId).build())),
+                budget(2, "updateEducation", () -> educationService.updateEducation(education.getId(),
+                        EducationRequestUpdate.builder().degree("PhD").build())),
+                budget(3, "deleteEducation", () -> educationService.deleteEducation(education.getId())));
+    }
+
+    @Test
+    void achievementService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(1, "getAllAchievements", () -> achievementService.getAllAchievements()),
+                budget(1, "getAllAchievementsByProfileId", () -> achievementService.getAllAchievementsByProfileId(profileId)),
+                budget(1, "getAchievementById", () -> achievementService.getAchievementById(achievement.getId())),
+                budget(2, "createAchievement", () -> achievementService.createAchievement(
+                        AchievementRequestInsert.builder().name("Hackathon").profileId(profileId).build())),
+                budget(2, "updateAchievement", () -> achievementService.updateAchievement(achievement.getId(),
+                        AchievementRequestUpdate.builder().name("Hackathon winner").build())),
+                budget(3, "deleteAchievement", () -> achievementService.deleteAchievement(achievement.getId())));
+    }
+
+    @Test
+    void faqService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(1, "getAllFaqs", () -> faqService.getAllFaqs()),
+                budget(1, "getAllFaqsByProfileId", () -> faqService.getAllFaqsByProfileId(profileId)),
+                budget(1, "getFaqById", () -> faqService.getFaqById(faq.getId())),
+                budget(2, "createFaq", () -> faqService.createFaq(
+                        FaqRequestInsert.builder().question("Remote?").answer("Yes").profileId(profileId).build())),
+                budget(2, "updateFaq", () -> faqService.updateFaq(faq.getId(),
+                        FaqRequestUpdate.builder().answer("Hybrid").build())),
+                budget(3, "deleteFaq", () -> faqService.deleteFaq(faq.getId())));
+    }
+
+    @Test
+    void inquireService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(1, "getAllInquires", () -> inquireService.getAllInquires()),
+                budget(1, "getInquiresPage", () -> inquireService.getInquiresPage(null, 3)),
+                budget(1, "getAllInquiresByProfileId", () -> inquireService.getAllInquiresByProfileId(profileId)),
+                budget(1, "getInquireById", () -> inquireService.getInquireById(inquire.getId())),
+                budget(1, "InquireExportService.exportInquires", () -> export(InquireExportFormat.CSV)),
+                budget(2, "createInquire", () -> inquireService.createInquire(
+                        InquireRequestInsert.builder().name("Visitor").email("visitor@example.com").profileId(profileId).build())),
+                budget(3, "deleteInquire", () -> inquireService.deleteInquire(inquire.getId())));
+    }
+
+    @Test
+    void experienceService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(3, "getAllExperiences", () -> experienceService.getAllExperiences()),
+                budget(3, "getExperiencesPage", () -> experienceService.getExperiencesPage(null, 3)),
+                budget(3, "getAllExperiencesByProfileId", () -> experienceService.getAllExperiencesByProfileId(profileId)),
+                budget(1, "getExperienceById", () -> experienceService.getExperienceById(experience.getId())),
+                budget(7, "createExperience", () -> experienceService.createExperience(ExperienceRequestInsert.builder()
+                        .company("Acme").startDate(LocalDate.of(2024, 1, 1)).profileId(profileId)
+                        .technologyIds(technologyIds(0, 1)).experiencePoints(Set.of("Led", "Shipped")).build())),
+                budget(6, "updateExperience", () -> experienceService.updateExperience(experience.getId(),
+                        ExperienceRequestUpdate.builder().position("Lead").technologyIds(technologyIds(2, 3)).build())),
+                budget(8, "deleteExperience", () -> experienceService.deleteExperience(experience.getId())));
+    }
+
+    @Test
+    void experiencePointService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(1, "getAllExperiencePointsByExperienceId",
+                        () -> experiencePointService.getAllExperiencePointsByExperienceId(experience.getId())),
+                budget(1, "getExperiencePointById", () -> experiencePointService.getExperiencePointById(experiencePoint.getId())),
+                budget(2, "createExperiencePoint", () -> experiencePointService.createExperiencePoint(
+                        ExperiencePointRequestInsert.builder().content("Mentored").experienceId(experience.getId()).build())),
+                budget(3, "updateExperiencePoint", () -> experiencePointService.updateExperiencePoint(experiencePoint.getId(),
+                        ExperiencePointRequestUpdate.builder().content("Mentored two").build())),
+                budget(3, "deleteExperiencePoint", () -> experiencePointService.deleteExperiencePoint(experiencePoint.getId())));
+    }
+
+    @Test
+    void projectService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(3, "getAllProjects", () -> projectService.getAllProjects()),
+                budget(3, "getProjectsPage", () -> projectService.getProjectsPage(null, 3)),
+                budget(3, "getAllProjectsByProfileId", () -> projectService.getAllProjectsByProfileId(profileId)),
+                budget(1, "getProjectById", () -> projectService.getProjectById(project.getId())),
+                budget(7, "createProject", () -> projectService.createProject(ProjectRequestInsert.builder()
+                        .name("Portfolio API").profileId(profileId)
+                        .technologyIds(technologyIds(0, 1)).projectPoints(Set.of("Designed", "Deployed")).build())),
+                budget(6, "updateProject", () -> projectService.updateProject(project.getId(),
+                        ProjectRequestUpdate.builder().name("Portfolio API v2").technologyIds(technologyIds(2, 3)).build())),
+                budget(8, "deleteProject", () -> projectService.deleteProject(project.getId())));
+    }
+
+    @Test
+    void projectPointService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(1, "getAllProjectPointsByProjectId", () -> projectPointService.getAllProjectPointsByProjectId(project.getId())),
+                budget(1, "getProjectPointById", () -> projectPointService.getProjectPointById(projectPoint.getId())),
+                budget(2, "createProjectPoint", () -> projectPointService.createProjectPoint(
+                        ProjectPointRequestInsert.builder().content("Tested").projectId(project.getId()).build())),
+                budget(3, "updateProjectPoint", () -> projectPointService.updateProjectPoint(projectPoint.getId(),
+                        ProjectPointRequestUpdate.builder().content("Load tested").build())),
+                budget(3, "deleteProjectPoint", () -> projectPointService.deleteProjectPoint(projectPoint.getId())));
+    }
+
+    @Test
+    void technologyService_ShouldStayWithinBudget() {
+        Long technologyId = technologies.get(0).getId();
+        assertAll(
+                budget(1, "getAllTechnologies", () -> technologyService.getAllTechnologies()),
+                budget(1, "getAllTechnologiesByCategory", () -> technologyService.getAllTechnologiesByCategory("Category 0")),
+                budget(1, "getTechnologyById", () -> technologyService.getTechnologyById(technologyId)),
+                budget(1, "getTechnologyByName", () -> technologyService.getTechnologyByName("Technology 0")),
+                budget(1, "getAllTechnologiesByProfileId", () -> technologyService.getAllTechnologiesByProfileId(profileId)),
+                budget(1, "createTechnology", () -> technologyService.createTechnology(
+                        TechnologyRequestInsert.builder().name("Kafka").category("Messaging").build())),
+                budget(2, "updateTechnology", () -> technologyService.updateTechnology(technologyId,
+                        TechnologyRequestUpdate.builder().category("Runtime").build())),
+                budget(3, "deleteTechnology", () -> technologyService.deleteTechnology(technologyId)));
+    }
+
+    @Test
+    void portfolioAndVersions_ShouldStayWithinBudget() {
+        assertAll(
+                // Profile plus one query per section, and the points and technologies of projects and experiences
+                budget(13, "PortfolioService.getPortfolioByProfileId", () -> portfolioService.getPortfolioByProfileId(profileId)),
+                budget(13, "ResourceVersionService.getETag(portfolio)",
+                        () -> resourceVersionService.getETag(CacheConfig.PORTFOLIO_CACHE, profileId)),
+                budget(3, "ResourceVersionService.getETag(projects)",
+                        () -> resourceVersionService.getETag(CacheConfig.PROJECTS_CACHE, profileId)),
+                budget(3, "ResourceVersionService.getETag(experiences)",
+                        () -> resourceVersionService.getETag(CacheConfig.EXPERIENCES_CACHE, profileId)),
+                budget(1, "ResourceVersionService.getETag(technologies)",
+                        () -> resourceVersionService.getETag(CacheConfig.TECHNOLOGIES_CACHE, profileId)));
+    }
+
+    @Test
+    void portfolioDeleteService_ShouldStayWithinBudget() {
+        assertAll(
+                budget(4, "deleteProject", () -> portfolioDeleteService.deleteProject(project.getId())),
+                budget(15, "deleteProfile", () -> portfolioDeleteService.deleteProfile(profileId)));
+    }
+
+    /**
+     * Run the call on an empty persistence context and assert the number of statements it caused
+     */
+    private Executable budget(int expected, String method, Runnable call) {
+        return () -> {
+            entityManager.flush();
+            entityManager.clear();
+            StatementRecorder.STATEMENTS.clear();
+
+            call.run();
+            entityManager.flush();
+
+            List<String> statements = StatementRecorder.STATEMENTS.stream()
+                    .filter(sql -> !sql.contains("next value for"))
+                    .toList();
+            assertEquals(expected, statements.size(), () -> method + " executed " + statements.size()
+                    + " statements, budget is " + expected + ":\n" + String.join("\n", statements));
+        };
+    }
+
+    private void export(InquireExportFormat format) {
+        try {
+            inquireExportService.exportInquires(format, new ByteArrayOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Set<Technology> linkedTechnologies(int offset) {
+        Set<Technology> linked = new HashSet<>();
+        for (int i = 0; i < LINKED_TECHNOLOGIES; i++) {
+            linked.add(technologies.get((offset + i) % TECHNOLOGIES));
+        }
+        return linked;
+    }
+
+    private Set<Long> technologyIds(int... indexes) {
+        Set<Long> ids = new HashSet<>();
+        for (int index : indexes) {
+            ids.add(technologies.get(index).getId());
+        }
+        return ids;
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    /**
+     * Records every statement Hibernate prepares, installed through hibernate.session_factory.statement_inspector
+     */
+    public static class StatementRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.backend.portfolio.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.backend.portfolio.configurations.CacheConfig;
+import com.backend.portfolio.configurations.SingleFlight;
+import com.backend.portfolio.configurations.StaleWhileRevalidate;
+import com.backend.portfolio.configurations.StaleWhileRevalidateAspect;
+import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
+import com.backend.portfolio.exceptions.custom.StaleDataException;
+import com.backend.portfolio.models.responses.FaqResponse;
+import com.backend.portfolio.models.responses.ProfileResponse;
+import com.backend.portfolio.models.responses.StaticExportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class StaticExportServiceTest {
+
+    @Mock
+    private ProfileService profileService;
+
+    @Mock
+    private AddressService addressService;
+
+    @Mock
+    private ContactService contactService;
+
+    @Mock
+    private EducationService educationService;
+
+    @Mock
+    private ExperienceService experienceService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private AchievementService achievementService;
+
+    @Mock
+    private TechnologyService technologyService;
+
+    @Mock
+    private FaqService faqService;
+
+    @Mock
+    private PortfolioService portfolioService;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    @Spy
+    private SerializedResponseService serializedResponseService = new SerializedResponseService(new ObjectMapper());
+
+    @InjectMocks
+    private StaticExportService staticExportService;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(staticExportService, "directory", directory);
+    }
+
+    @Test
+    void exportProfile_ShouldWriteJsonGzipAndETagOfEveryPublicEndpoint() throws IOException {
+        // Arrange
+        when(profileService.getProfileById(1L)).thenReturn(ProfileResponse.builder().id(1L).fname("John").build());
+        when(resourceVersionService.getETag(anyString(), eq(1L))).thenReturn("\"v1\"");
+        when(resourceVersionService.getETag(CacheConfig.FAQS_CACHE, 1L)).thenReturn("\"faqs-v1\"");
+        when(faqService.getAllFaqsByProfileId(1L))
+                .thenReturn(List.of(FaqResponse.builder().id(1L).question("What is your experience?").build()));
+
+        // Act
+        StaticExportResponse result = staticExportService.exportProfile(1L);
+
+        // Assert
+        assertEquals(30, result.getFiles());
+        assertEquals("\"faqs-v1\"", staticExportService.findExportedETag("/api/v1/faqs/profile/1"));
+        assertEquals("\"v1\"", staticExportService.findExportedETag("/api/v1/portfolio/1"));
+        Path faqs = staticExportService.findExportedFile("/api/v1/faqs/profile/1", "\"faqs-v1\"", false);
+        assertNotNull(faqs);
+        assertTrue(Files.readString(faqs).contains("What is your experience?"));
+        assertNotNull(staticExportService.findExportedFile("/api/v1/portfolio/1", "\"v1\"", true));
+        assertEquals(List.of(1L), staticExportService.getExportedProfileIds());
+    }
+
+    @Test
+    void exportProfile_WhenReExported_ShouldKeepOnlyCurrentAndPreviousVersions() throws IOException {
+        // Arrange
+        when(profileService.getProfileById(1L)).thenReturn(ProfileResponse.builder().id(1L).build());
+        when(resourceVersionService.getETag(anyString(), eq(1L))).thenReturn("\"v1\"");
+        staticExportService.exportProfile(1L);
+        Path first = staticExportService.findExportedFile("/api/v1/profiles/1", "\"v1\"", false);
+        when(resourceVersionService.getETag(anyString(), eq(1L))).thenReturn("\"v2\"");
+        staticExportService.exportProfile(1L);
+        Path second = staticExportService.findExportedFile("/api/v1/profiles/1", "\"v2\"", false);
+        when(resourceVersionService.getETag(anyString(), eq(1L))).thenReturn("\"v3\"");
+
+        // Act
+        staticExportService.exportProfile(1L);
+
+        // Assert
+        assertEquals("\"v3\"", staticExportService.findExportedETag("/api/v1/profiles/1"));
+        assertNotNull(staticExportService.findExportedFile("/api/v1/profiles/1", "\"v3\"", true));
+        assertTrue(Files.isRegularFile(second), "previous version may still be in flight");
+        assertFalse(Files.exists(first));
+        assertEquals(List.of(1L), staticExportService.getExportedProfileIds());
+    }
+
+    @Test
+    void exportProfile_WhenVersionAlreadyExported_ShouldNotRewriteItsFiles() throws IOException {
+        // Arrange
+        when(profileService.getProfileById(1L)).thenReturn(ProfileResponse.builder().id(1L).build());
+        when(resourceVersionService.getETag(anyString(), eq(1L))).thenReturn("\"v1\"");
+        staticExportService.exportProfile(1L);
+        Path file = staticExportService.findExportedFile("/api/v1/profiles/1", "\"v1\"", false);
+        Object inode = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+
+        // Act
+        staticExportService.exportProfile(1L);
+
+        // Assert
+        assertEquals(inode, Files.readAttributes(file, BasicFileAttributes.class).fileKey());
+    }
+
+    @Test
+    void exportProfile_WhenProfileNotExists_ShouldThrowExceptionWithoutWriting() {
+        // Arrange
+        when(profileService.getProfileById(anyLong()))
+                .thenThrow(new ResourceNotFoundException("Profile not found with id: 999"));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+            staticExportService.exportProfile(999L));
+        verify(faqService, never()).getAllFaqsByProfileId(anyLong());
+        assertTrue(staticExportService.getExportedProfileIds().isEmpty());
+    }
+
+    @Test
+    void exportProfile_WhenReadServedStale_ShouldThrowExceptionAndKeepPreviousFiles() {
+        // Arrange
+        when(profileService.getProfileById(1L)).thenReturn(ProfileResponse.builder().id(1L).build());
+        when(resourceVersionService.getETag(anyString(), eq(1L))).thenReturn("\"v1\"");
+        staticExportService.exportProfile(1L);
+        when(resourceVersionService.getETag(anyString(), eq(1L))).thenReturn("\"v2\"");
+        when(faqService.getAllFaqsByProfileId(1L)).thenAnswer(invocation -> readStale());
+
+        // Act & Assert
+        assertThrows(StaleDataException.class, () ->
+            staticExportService.exportProfile(1L));
+        assertEquals("\"v1\"", staticExportService.findExportedETag("/api/v1/profiles/1"));
+        assertEquals("\"v1\"", staticExportService.findExportedETag("/api/v1/faqs/profile/1"));
+    }
+
+    @Test
+    void deleteProfileExport_ShouldStopServingFiles() {
+        // Arrange
+        when(profileService.getProfileById(1L)).thenReturn(ProfileResponse.builder().id(1L).build());
+        when(resourceVersionService.getETag(anyString(), eq(1L))).thenReturn("\"v1\"");
+        staticExportService.exportProfile(1L);
+
+        // Act
+        staticExportService.deleteProfileExport(1L);
+
+        // Assert
+        assertNull(staticExportService.findExportedFile("/api/v1/profiles/1", "\"v1\"", false));
+        assertNull(staticExportService.findExportedETag("/api/v1/profiles/1"));
+        assertTrue(staticExportService.getExportedProfileIds().isEmpty());
+    }
+
+    @Test
+    void findExportedFile_WhenPathIsNotAnExportedEndpoint_ShouldReturnNull() {
+        // Act & Assert
+        assertNull(staticExportService.findExportedFile("/api/v1/inquires", "\"v1\"", false));
+        assertNull(staticExportService.findExportedFile("/api/v1/../../etc/passwd", "\"v1\"", false));
+        assertNull(staticExportService.findExportedFile("/api/v1/profiles/1", "\"v1\"", false));
+    }
+
+    /**
+     * Reads once through StaleWhileRevalidateAspect, then again while the database fails, which is served stale
+     */
+    private static List<FaqResponse> readStale() {
+        StaleWhileRevalidateAspect aspect = new StaleWhileRevalidateAspect(new SingleFlight(new SimpleMeterRegistry()),
+                CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), true, 10, 1, 1);
+        try {
+            FaqReader reader = new FaqReader();
+            AspectJProxyFactory proxyFactory = new AspectJProxyFactory(reader);
+            proxyFactory.addAspect(aspect);
+            FaqReader proxy = proxyFactory.getProxy();
+            proxy.read(1L);
+            reader.failing = true;
+            return proxy.read(1L);
+        } finally {
+            aspect.destroy();
+        }
+    }
+
+    static class FaqReader {
+
+        volatile boolean failing;
+
+        @StaleWhileRevalidate
+        public List<FaqResponse> read(Long profileId) {
+            if (failing) {
+                throw new IllegalStateException("Connection is not available");
+            }
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.backend.portfolio.services;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.backend.portfolio.models.entities.Experience;
+import com.backend.portfolio.models.entities.Profile;
+import com.backend.portfolio.models.entities.Project;
+import com.backend.portfolio.models.entities.Technology;
+import com.backend.portfolio.models.responses.TechnologyFilterResponse;
+import com.backend.portfolio.models.states.enums.TechnologyFilterMode;
+import com.backend.portfolio.repositories.ExperienceRepository;
+import com.backend.portfolio.repositories.ProjectRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * The index is built from the H2 join tables before each test and refreshed the way TechnologyIndexUpdater does after a commit
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Import(TechnologyFilterService.class)
+class TechnologyFilterServiceTest {
+
+    @Autowired
+    private TechnologyFilterService technologyFilterService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    private Technology java;
+    private Technology spring;
+    private Technology postgres;
+    private Profile profile;
+    private Profile otherProfile;
+    private Project backend;
+    private Project cli;
+    private Project frontend;
+    private Experience experience;
+
+    @BeforeEach
+    void setUp() {
+        java = persist(Technology.builder().name("Java").category("Language").build());
+        spring = persist(Technology.builder().name("Spring").category("Framework").build());
+        postgres = persist(Technology.builder().name("PostgreSQL").category("Database").build());
+        profile = persist(Profile.builder().fname("John").lname("Doe").build());
+        otherProfile = persist(Profile.builder().fname("Jane").lname("Smith").build());
+
+        backend = persist(Project.builder().name("Backend").profile(profile)
+                .technologies(new HashSet<>(List.of(java, spring, postgres))).build());
+        cli = persist(Project.builder().name("CLI").profile(profile)
+                .technologies(new HashSet<>(List.of(java))).build());
+        frontend = persist(Project.builder().name("Frontend").profile(profile)
+                .technologies(new HashSet<>(List.of(spring))).build());
+        persist(Project.builder().name("Other backend").profile(otherProfile)
+                .technologies(new HashSet<>(List.of(java, spring))).build());
+        experience = persist(Experience.builder().company("Acme").startDate(LocalDate.of(2022, 3, 1)).profile(profile)
+                .technologies(new HashSet<>(List.of(java, spring))).build());
+
+        entityManager.flush();
+        entityManager.clear();
+        technologyFilterService.rebuild();
+    }
+
+    @Test
+    void filter_WhenAnd_ShouldReturnOwnersUsingEveryTechnology() {
+        // Act
+        TechnologyFilterResponse result = technologyFilterService.filter(profile.getId(),
+                List.of(java.getId(), spring.getId()), TechnologyFilterMode.AND);
+
+        // Assert
+        assertEquals(List.of(backend.getId()), result.getProjectIds());
+        assertEquals(List.of(experience.getId()), result.getExperienceIds());
+        assertEquals(TechnologyFilterMode.AND, result.getMode());
+    }
+
+    @Test
+    void filter_WhenOr_ShouldReturnOwnersUsingAnyTechnologyInAscendingOrder() {
+        // Act
+        TechnologyFilterResponse result = technologyFilterService.filter(profile.getId(),
+                List.of(postgres.getId(), java.getId(), spring.getId()), TechnologyFilterMode.OR);
+
+        // Assert
+        assertEquals(ascending(backend.getId(), cli.getId(), frontend.getId()), result.getProjectIds());
+        assertEquals(List.of(experience.getId()), result.getExperienceIds());
+    }
+
+    @Test
+    void filter_WhenTechnologyUnused_ShouldMatchNothingForAndAndBeIgnoredForOr() {
+        // Arrange
+        List<Long> technologyIds = List.of(java.getId(), Long.MAX_VALUE);
+
+        // Act
+        TechnologyFilterResponse and = technologyFilterService.filter(profile.getId(), technologyIds, TechnologyFilterMode.AND);
+        TechnologyFilterResponse or = technologyFilterService.filter(profile.getId(), technologyIds, TechnologyFilterMode.OR);
+
+        // Assert
+        assertTrue(and.getProjectIds().isEmpty());
+        assertTrue(and.getExperienceIds().isEmpty());
+        assertEquals(ascending(backend.getId(), cli.getId()), or.getProjectIds());
+    }
+
+    @Test
+    void filter_WhenProfileUnknown_ShouldReturnNoIds() {
+        // Act
+        TechnologyFilterResponse result = technologyFilterService.filter(Long.MAX_VALUE, List.of(java.getId()), null);
+
+        // Assert
+        assertTrue(result.getProjectIds().isEmpty());
+        assertTrue(result.getExperienceIds().isEmpty());
+        assertEquals(TechnologyFilterMode.AND, result.getMode());
+    }
+
+    @Test
+    void filter_BeforeIndexBuilt_ShouldReadTheLinksOfTheProfile() {
+        // Arrange
+        TechnologyFilterService unbuilt = new TechnologyFilterService(projectRepository, experienceRepository);
+
+        // Act
+        TechnologyFilterResponse result = unbuilt.filter(profile.getId(),
+                List.of(java.getId(), spring.getId()), TechnologyFilterMode.AND);
+
+        // Assert
+        assertEquals(List.of(backend.getId()), result.getProjectIds());
+        assertEquals(List.of(experience.getId()), result.getExperienceIds());
+    }
+
+    @Test
+    void filter_ShouldServeCurrentIndexUntilRebuildSwapsItOut() {
+        // Arrange
+        entityManager.createNativeQuery("DELETE FROM projects_technologies WHERE project_id = :id")
+                .setParameter("id", cli.getId())
+                .executeUpdate();
+        List<Long> javaOnly = List.of(java.getId());
+
+        // Act
+        List<Long> beforeRebuild = technologyFilterService.filter(profile.getId(), javaOnly, TechnologyFilterMode.AND).getProjectIds();
+        technologyFilterService.rebuild();
+        List<Long> afterRebuild = technologyFilterService.filter(profile.getId(), javaOnly, TechnologyFilterMode.AND).getProjectIds();
+
+        // Assert
+        assertEquals(ascending(backend.getId(), cli.getId()), beforeRebuild);
+        assertEquals(List.of(backend.getId()), afterRebuild);
+    }
+
+    @Test
+    void refreshProjects_ShouldApplyChangedLinksAndMovedProjects() {
+        // Arrange
+        Project loadedCli = entityManager.find(Project.class, cli.getId());
+        loadedCli.getTechnologies().add(entityManager.find(Technology.class, spring.getId()));
+        Project loadedBackend = entityManager.find(Project.class, backend.getId());
+        loadedBackend.setProfile(entityManager.find(Profile.class, otherProfile.getId()));
+        entityManager.flush();
+
+        // Act: the move publishes one event per profile, the new profile first
+        technologyFilterService.refreshProjects(otherProfile.getId());
+        technologyFilterService.refreshProjects(profile.getId());
+
+        // Assert
+        List<Long> javaAndSpring = List.of(java.getId(), spring.getId());
+        assertEquals(List.of(cli.getId()),
+                technologyFilterService.filter(profile.getId(), javaAndSpring, TechnologyFilterMode.AND).getProjectIds());
+        assertEquals(2,
+                technologyFilterService.filter(otherProfile.getId(), javaAndSpring, TechnologyFilterMode.AND).getProjectIds().size());
+        assertEquals(List.of(backend.getId()),
+                technologyFilterService.filter(otherProfile.getId(), List.of(postgres.getId()), TechnologyFilterMode.AND).getProjectIds());
+    }
+
+    @Test
+    void refreshTechnology_WhenDeleted_ShouldDropItsLinks() {
+        // Arrange
+        entityManager.createNativeQuery("DELETE FROM technologies WHERE id = :id")
+                .setParameter("id", java.getId())
+                .executeUpdate();
+
+        // Act
+        technologyFilterService.refreshTechnology(java.getId());
+
+        // Assert
+        TechnologyFilterResponse result = technologyFilterService.filter(profile.getId(),
+                List.of(java.getId(), spring.getId()), TechnologyFilterMode.OR);
+        assertEquals(ascending(backend.getId(), frontend.getId()), result.getProjectIds());
+        assertEquals(List.of(experience.getId()), result.getExperienceIds());
+    }
+
+    @Test
+    void filter_WhenNoTechnologies_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> technologyFilterService.filter(profile.getId(), List.of(), TechnologyFilterMode.AND));
+        assertThrows(IllegalArgumentException.class,
+                () -> technologyFilterService.filter(profile.getId(), null, TechnologyFilterMode.AND));
+    }
+
+    @Test
+    void filter_WhenTooManyTechnologies_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        List<Long> technologyIds = LongStream.rangeClosed(1, TechnologyFilterService.MAX_TECHNOLOGIES + 1).boxed().toList();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> technologyFilterService.filter(profile.getId(), technologyIds, TechnologyFilterMode.OR));
+    }
+
+    private static List<Long> ascending(Long... ids) {
+        return Set.of(ids).stream().sorted().toList();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -22,10 +22,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.backend.portfolio.events.PortfolioChangePublisher;
 import com.backend.portfolio.exceptions.custom.ResourceNotFoundException;
 import com.backend.portfolio.models.entities.Technology;
 import com.backend.portfolio.models.requests.TechnologyRequestInsert;
 import com.backend.portfolio.models.responses.TechnologyResponse;
+import com.backend.portfolio.models.states.enums.PortfolioSection;
 import com.backend.portfolio.models.states.enums.Proficiency;
 import com.backend.portfolio.models.updates.TechnologyRequestUpdate;
 import com.backend.portfolio.repositories.TechnologyRepository;
@@ -36,6 +38,9 @@ class TechnologyServiceTest {
     @Mock
     private TechnologyRepository technologyRepository;
 
+    @Mock
+    private PortfolioChangePublisher portfolioChangePublisher;
+
     @InjectMocks
     private TechnologyService technologyService;
 
@@ -154,7 +159,8 @@ class TechnologyServiceTest {
     void getAllTechnologiesByProfileId_ShouldReturnListOfTechnologies() {
         // Arrange
         List<Technology> technologies = Arrays.asList(testTechnology);
-        when(technologyRepository.findAllByProfileIdOrderByCategoryAndName(1L)).thenReturn(technologies);
+        when(technologyRepository.findAllResponsesByProfileId(1L))
+                .thenReturn(technologies.stream().map(TechnologyResponse::fromTechnology).toList());
 
         // Act
         List<TechnologyResponse> result = technologyService.getAllTechnologiesByProfileId(1L);
@@ -162,7 +168,7 @@ class TechnologyServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(technologyRepository, times(1)).findAllByProfileIdOrderByCategoryAndName(1L);
+        verify(technologyRepository, times(1)).findAllResponsesByProfileId(1L);
     }
 
     @Test
@@ -218,6 +224,7 @@ class TechnologyServiceTest {
         // Assert
         verify(technologyRepository, times(1)).existsById(1L);
         verify(technologyRepository, times(1)).deleteById(1L);
+        verify(portfolioChangePublisher, times(1)).publish(PortfolioSection.TECHNOLOGY, 1L);
     }
 
     @Test